@@ -0,0 +1,199 @@
+package com.soda.global.log.data.snapshot;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.soda.common.BaseEntity;
+import com.soda.member.domain.member.Member;
+import com.soda.project.domain.Project;
+import com.soda.project.domain.ProjectStatus;
+import com.soda.project.domain.stage.Stage;
+import com.soda.project.domain.stage.article.Article;
+import com.soda.project.domain.stage.article.enums.ArticleStatus;
+import com.soda.project.domain.stage.article.enums.PriorityType;
+import com.soda.project.domain.stage.request.Request;
+import com.soda.project.domain.stage.request.RequestStatus;
+import com.soda.project.interfaces.dto.ProjectDTO;
+import com.soda.project.interfaces.stage.article.dto.ArticleViewResponse;
+import com.soda.project.interfaces.stage.request.dto.RequestDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 데이터 로그 스냅샷 비교: 기존 경로(호출마다 ObjectMapper 생성 + DTO → Map convertValue + Map diff + 리플렉션 id 추출)
+ * vs EntitySnapshotEngine (미리 컴파일된 getter 핸들 + 필드 단위 diff)
+ *
+ * 한 번의 UPDATE 로그에 해당하는 작업(변경 전/후 스냅샷, diff, id 추출, 텍스트 직렬화)을 측정한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntitySnapshotBenchmark {
+
+    @Param({"Project", "Article", "Request"})
+    public String entity;
+
+    private Object before;
+    private Object after;
+    private Class<?> entityClass;
+
+    private EntitySnapshotEngine engine;
+    private ObjectMapper textMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        engine = new EntitySnapshotEngine(null); // 리포지토리 조회는 측정 대상이 아니므로 컨텍스트 없이 생성
+        textMapper = new ObjectMapper();
+
+        Member member = Member.builder().authId("bench").name("벤치마크 사용자").build();
+        setId(member, 1L);
+        Project project = project("기존 프로젝트");
+        Stage stage = Stage.builder().name("개발").stageOrder(1000f).project(project).build();
+        setId(stage, 10L);
+
+        switch (entity) {
+            case "Project" -> {
+                entityClass = Project.class;
+                before = project;
+                after = project("변경된 프로젝트");
+            }
+            case "Article" -> {
+                entityClass = Article.class;
+                before = article("기존 게시글", member, stage);
+                after = article("변경된 게시글", member, stage);
+            }
+            case "Request" -> {
+                entityClass = Request.class;
+                before = request("기존 요청", member, stage);
+                after = request("변경된 요청", member, stage);
+            }
+            default -> throw new IllegalArgumentException(entity);
+        }
+
+        // 계획 컴파일은 기동 시 1회 수행되므로 측정에서 제외
+        engine.snapshot(before);
+    }
+
+    @Benchmark
+    public void legacyPath(Blackhole blackhole) throws Exception {
+        Map<String, Object> beforeData = LegacyPath.convertToMap(before);
+        Map<String, Object> afterData = LegacyPath.convertToMap(after);
+        blackhole.consume(LegacyPath.computeDiff(beforeData, afterData));
+        blackhole.consume(LegacyPath.extractId(after));
+        blackhole.consume(textMapper.writeValueAsString(beforeData));
+        blackhole.consume(textMapper.writeValueAsString(afterData));
+    }
+
+    @Benchmark
+    public void snapshotEngine(Blackhole blackhole) throws Exception {
+        EntitySnapshot beforeSnapshot = engine.snapshot(before);
+        EntitySnapshot afterSnapshot = engine.snapshot(after);
+        blackhole.consume(engine.diff(beforeSnapshot, afterSnapshot));
+        blackhole.consume(engine.extractId(entityClass, afterSnapshot));
+        blackhole.consume(engine.toJson(beforeSnapshot.toMap()));
+        blackhole.consume(engine.toJson(afterSnapshot.toMap()));
+    }
+
+    private static Project project(String title) throws Exception {
+        Project project = Project.builder()
+                .title(title)
+                .description("벤치마크용 프로젝트 설명")
+                .startDate(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .endDate(LocalDateTime.of(2025, 12, 31, 18, 0))
+                .status(ProjectStatus.IN_PROGRESS)
+                .build();
+        setId(project, 100L);
+        return project;
+    }
+
+    private static Article article(String title, Member member, Stage stage) throws Exception {
+        Article article = Article.builder()
+                .title(title)
+                .content("벤치마크용 게시글 본문")
+                .priority(PriorityType.HIGH)
+                .deadline(LocalDateTime.of(2025, 6, 30, 18, 0))
+                .member(member)
+                .stage(stage)
+                .status(ArticleStatus.PENDING)
+                .build();
+        setId(article, 200L);
+        return article;
+    }
+
+    private static Request request(String title, Member member, Stage stage) throws Exception {
+        Request request = Request.builder()
+                .member(member)
+                .stage(stage)
+                .title(title)
+                .content("벤치마크용 요청 본문")
+                .status(RequestStatus.PENDING)
+                .files(new ArrayList<>())
+                .links(new ArrayList<>())
+                .build();
+        request.addApprovers(new ArrayList<>());
+        setId(request, 300L);
+        return request;
+    }
+
+    private static void setId(BaseEntity entity, Long id) throws Exception {
+        Field idField = BaseEntity.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(entity, id);
+    }
+
+    /**
+     * 엔진 도입 전 EntityLogAspect 의 스냅샷 경로
+     */
+    static final class LegacyPath {
+
+        private static final Map<Class<?>, Function<Object, Object>> dtoConverters = new HashMap<>();
+
+        static {
+            dtoConverters.put(Project.class, e -> ProjectDTO.fromEntity((Project) e));
+            dtoConverters.put(Request.class, e -> RequestDTO.fromEntity((Request) e));
+            dtoConverters.put(Article.class, e -> ArticleViewResponse.fromEntity((Article) e));
+        }
+
+        static Map<String, Object> convertToMap(Object entity) {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.registerModule(new JavaTimeModule());
+            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+            mapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+            Object dto = dtoConverters.get(entity.getClass()).apply(entity);
+            return mapper.convertValue(dto, new TypeReference<>() {});
+        }
+
+        static Map<String, Object> computeDiff(Map<String, Object> before, Map<String, Object> after) {
+            Map<String, Object> diff = new HashMap<>();
+            for (String key : after.keySet()) {
+                Object beforeVal = before.getOrDefault(key, "N/A");
+                Object afterVal = after.getOrDefault(key, "N/A");
+                if (beforeVal == null) beforeVal = "N/A";
+                if (!Objects.equals(beforeVal, afterVal)) {
+                    diff.put(key, Map.of("before", beforeVal, "after", afterVal));
+                }
+            }
+            return diff;
+        }
+
+        static String extractId(Object entity) throws IllegalAccessException {
+            Field idField = Arrays.stream(entity.getClass().getDeclaredFields())
+                    .filter(f -> f.getName().equalsIgnoreCase("id"))
+                    .findFirst().orElse(null);
+            if (idField == null) return null;
+            idField.setAccessible(true);
+            Object idValue = idField.get(entity);
+            return idValue != null ? idValue.toString() : null;
+        }
+    }
+}
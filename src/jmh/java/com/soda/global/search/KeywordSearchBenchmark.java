@@ -0,0 +1,197 @@
+package com.soda.global.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 키워드 검색 한 페이지(20건) 조회 비용
+ * - like: 이전 검색 (LOWER(title) LIKE '%kw%' OR LOWER(content) LIKE '%kw%', 최신순)
+ * - fullText: ngram FULLTEXT 인덱스 (MATCH ... AGAINST 구문 검색, 최신순)
+ * - fullTextRanked: ngram FULLTEXT 인덱스 + 관련도 정렬
+ * 실제 MySQL 8 이 필요하다. 처음 실행할 때 bench_article 테이블에 corpusSize 건을 생성해 두고 이후 실행에서 재사용한다.
+ * 실행: BENCH_DB_URL=jdbc:mysql://localhost:3306/bench BENCH_DB_USER=... BENCH_DB_PASSWORD=... ./gradlew jmh -Pjmh.includes=KeywordSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+public class KeywordSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 2_000;
+
+    // 한국어 업무 게시글 느낌의 어휘 (드문 단어 / 흔한 단어 / 영문 섞어서)
+    private static final String[] WORDS = {
+            "회의록", "배포", "일정", "검토", "요청", "수정", "디자인", "시안", "피드백", "승인", "반려", "기획",
+            "화면", "개발", "테스트", "오류", "로그인", "결제", "알림", "정산", "서버", "데이터", "마이그레이션",
+            "공지", "안내", "문의", "확인", "완료", "진행", "보류", "api", "ui", "qa", "release", "hotfix", "sprint"
+    };
+
+    @Param({"1000000"})
+    private int corpusSize;
+
+    @Param({"마이그레이션", "배포 일정", "hotfix"})
+    private String keyword;
+
+    private Connection connection;
+    private PreparedStatement like;
+    private PreparedStatement fullText;
+    private PreparedStatement fullTextRanked;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCH_DB_URL") + "?rewriteBatchedStatements=true",
+                env("BENCH_DB_USER"),
+                env("BENCH_DB_PASSWORD"));
+        prepareCorpus();
+
+        like = connection.prepareStatement("""
+                SELECT id, title FROM bench_article
+                WHERE is_deleted = false AND (LOWER(title) LIKE ? OR LOWER(content) LIKE ?)
+                ORDER BY created_at DESC LIMIT ?
+                """);
+        fullText = connection.prepareStatement("""
+                SELECT id, title FROM bench_article
+                WHERE is_deleted = false AND MATCH(title, content) AGAINST (? IN BOOLEAN MODE) > 0
+                ORDER BY created_at DESC LIMIT ?
+                """);
+        fullTextRanked = connection.prepareStatement("""
+                SELECT id, title, MATCH(title, content) AGAINST (? IN BOOLEAN MODE) AS score FROM bench_article
+                WHERE is_deleted = false AND MATCH(title, content) AGAINST (? IN BOOLEAN MODE) > 0
+                ORDER BY score DESC, created_at DESC LIMIT ?
+                """);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> like() throws SQLException {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+        like.setString(1, pattern);
+        like.setString(2, pattern);
+        like.setInt(3, PAGE_SIZE);
+        return ids(like);
+    }
+
+    @Benchmark
+    public List<Long> fullText() throws SQLException {
+        fullText.setString(1, FullTextSearch.toBooleanQuery(keyword));
+        fullText.setInt(2, PAGE_SIZE);
+        return ids(fullText);
+    }
+
+    @Benchmark
+    public List<Long> fullTextRanked() throws SQLException {
+        String query = FullTextSearch.toBooleanQuery(keyword);
+        fullTextRanked.setString(1, query);
+        fullTextRanked.setString(2, query);
+        fullTextRanked.setInt(3, PAGE_SIZE);
+        return ids(fullTextRanked);
+    }
+
+    private static List<Long> ids(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    // 테이블이 없거나 건수가 모자라면 채우고, 인덱스는 적재가 끝난 뒤 만든다 (적재 중 인덱스 갱신 비용 제외)
+    private void prepareCorpus() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_article (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        title VARCHAR(255),
+                        content VARCHAR(255),
+                        created_at DATETIME(6),
+                        is_deleted BOOLEAN NOT NULL
+                    )
+                    """);
+            long existing;
+            try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM bench_article")) {
+                resultSet.next();
+                existing = resultSet.getLong(1);
+            }
+            if (existing < corpusSize) {
+                insertArticles(existing, corpusSize);
+            }
+            try (ResultSet resultSet = statement.executeQuery("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = 'bench_article' AND index_name = 'ft_bench_article'
+                    """)) {
+                resultSet.next();
+                if (resultSet.getLong(1) == 0) {
+                    statement.execute("ALTER TABLE bench_article ADD FULLTEXT INDEX ft_bench_article (title, content) WITH PARSER ngram");
+                }
+            }
+        }
+    }
+
+    private void insertArticles(long from, int to) throws SQLException {
+        Random random = new Random(42 + from);
+        LocalDateTime base = LocalDateTime.now().minusYears(2);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_article (title, content, created_at, is_deleted) VALUES (?, ?, ?, ?)")) {
+            for (long i = from; i < to; i++) {
+                insert.setString(1, sentence(random, 3 + random.nextInt(4)));
+                insert.setString(2, sentence(random, 12 + random.nextInt(20)));
+                insert.setTimestamp(3, Timestamp.valueOf(base.plusSeconds(i * 60)));
+                insert.setBoolean(4, random.nextInt(20) == 0);
+                insert.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // 앞쪽 단어가 더 자주 나오도록 치우친 분포로 뽑는다 (흔한 단어 / 드문 단어 차이를 보기 위해)
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            int index = (int) (Math.pow(random.nextDouble(), 2) * WORDS.length);
+            builder.append(WORDS[index]);
+        }
+        String text = builder.toString();
+        return text.length() > 255 ? text.substring(0, 255) : text;
+    }
+
+    private static String env(String name) {
+        String value = System.getenv(name);
+        if (value == null) {
+            throw new IllegalStateException(name + " 환경 변수가 필요합니다");
+        }
+        return value;
+    }
+}
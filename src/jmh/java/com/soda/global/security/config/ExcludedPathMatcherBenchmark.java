@@ -0,0 +1,52 @@
+package com.soda.global.security.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 인증 제외 경로 판별 비용
+ * - legacyAntLoop: 이전 필터 경로 (요청마다 제외 경로 목록 전체를 AntPathMatcher.match 로 순회)
+ * - compiled: 기동 시 컴파일된 ExcludedPathMatcher
+ * path 는 swagger(접두사 일치), 로그인(고정 경로 일치), 인증 필요 경로(전체 불일치) 를 비교한다.
+ * 할당량은 ./gradlew jmh -Pjmh.profilers=gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class ExcludedPathMatcherBenchmark {
+
+    private static final List<String> EXCLUDED_PATHS = List.of(
+            "/swagger-ui/**", "/v3/api-docs/**", "/signup", "/login", "/error", "/verification",
+            "/verification/confirm", "/members/find-id", "/password/change", "/refresh");
+
+    @Param({"/swagger-ui/index.html", "/login", "/notifications/subscribe", "/projects/1/articles/2"})
+    private String path;
+
+    private AntPathMatcher antPathMatcher;
+    private ExcludedPathMatcher excludedPathMatcher;
+
+    @Setup
+    public void setUp() {
+        antPathMatcher = new AntPathMatcher();
+        excludedPathMatcher = new ExcludedPathMatcher(EXCLUDED_PATHS);
+    }
+
+    @Benchmark
+    public boolean legacyAntLoop() {
+        for (String excludedPath : EXCLUDED_PATHS) {
+            if (antPathMatcher.match(excludedPath, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return excludedPathMatcher.matches(path);
+    }
+}
@@ -0,0 +1,62 @@
+package com.soda.global.security.jwt;
+
+import com.soda.global.security.auth.AuthenticatedMember;
+import com.soda.member.domain.member.MemberRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 액세스 토큰 검증 비용 (코어 1개 기준 초당 처리 토큰 수)
+ * - legacyDoubleParse: 이전 필터 경로 (validateToken + getClaims, 호출마다 parser 생성 + HMAC 검증 두 번)
+ * - singleParse: 재사용 parser 로 한 번만 파싱/검증 (캐시 미적중과 동일)
+ * - cachedVerify: 검증 결과 캐시 적중
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtVerificationBenchmark {
+
+    private SecretKey key;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        key = Keys.hmacShaKeyFor(keyBytes);
+
+        provider = new JwtTokenProvider(Base64.getEncoder().encodeToString(keyBytes),
+                Duration.ofHours(1).toMillis(), Duration.ofDays(7).toMillis(), "Authorization",
+                10_000, Duration.ofMinutes(5));
+        provider.init();
+        token = provider.createAccessToken(new AuthenticatedMember(1L, "bench-user", MemberRole.USER, 10L));
+        provider.verify(token); // 캐시 적재
+    }
+
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return provider.parse(token);
+    }
+
+    @Benchmark
+    public Claims cachedVerify() {
+        return provider.verify(token);
+    }
+}
@@ -1,24 +1,137 @@
 package com.soda.global.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 작업 종류별 @Async 실행기
+ * 알림 전송 / 알림 저장 / 통계 갱신을 서로 다른 실행기로 분리해, 한 작업이 몰려도 다른 작업이 밀리지 않게 한다.
+ * async.executor-mode 로 고정 스레드 풀(PLATFORM)과 가상 스레드(VIRTUAL)를 선택한다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+    public static final String NOTIFICATION_SEND_EXECUTOR = "notificationSendExecutor";
+    public static final String NOTIFICATION_WRITE_EXECUTOR = "notificationWriteExecutor";
+    public static final String STATS_EXECUTOR = "statsExecutor";
+    public static final String MAIL_SEND_EXECUTOR = "mailSendExecutor";
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Async-");
-        executor.initialize();
+        return createExecutor("Async-", "default", properties.getDefaults());
+    }
+
+    @Bean(name = NOTIFICATION_SEND_EXECUTOR)
+    public Executor notificationSendExecutor() {
+        return createExecutor("Notify-Send-", "notification-send", properties.getNotificationSend());
+    }
+
+    @Bean(name = NOTIFICATION_WRITE_EXECUTOR)
+    public Executor notificationWriteExecutor() {
+        return createExecutor("Notify-Write-", "notification-write", properties.getNotificationWrite());
+    }
+
+    @Bean(name = STATS_EXECUTOR)
+    public Executor statsExecutor() {
+        return createExecutor("Stats-", "stats", properties.getStats());
+    }
+
+    @Bean(name = MAIL_SEND_EXECUTOR)
+    public Executor mailSendExecutor() {
+        return createExecutor("Mail-Send-", "mail-send", properties.getMailSend());
+    }
+
+    private Executor createExecutor(String threadNamePrefix, String name, AsyncProperties.Pool pool) {
+        if (properties.getExecutorMode() == AsyncProperties.ExecutorMode.VIRTUAL) {
+            if (Runtime.version().feature() >= 21) {
+                return virtualThreadExecutor(threadNamePrefix, name, pool);
+            }
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용 가능 (현재: {}). '{}' 실행기는 스레드 풀로 생성", Runtime.version(), name);
+        }
+        return threadPoolExecutor(threadNamePrefix, name, pool);
+    }
+
+    private Executor threadPoolExecutor(String threadNamePrefix, String name, AsyncProperties.Pool pool) {
+        Counter rejected = rejectedCounter(name);
+
+        // executor.active / executor.queued / executor.queue.remaining / executor.pool.size 등
+        // 컨테이너가 afterPropertiesSet() 으로 풀을 만들 때 그 풀에 바인딩한다 (여기서 initialize() 를 부르면 풀이 두 번 생긴다)
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+                ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+                new ExecutorServiceMetrics(getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+                return executorService;
+            }
+        };
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        // 큐가 가득 차면 예외 대신 호출 스레드에서 실행 (작업 유실 방지 + 자연스러운 backpressure)
+        executor.setRejectedExecutionHandler((task, threadPool) -> {
+            rejected.increment();
+            log.warn("'{}' 실행기 포화 (active={}, queue={}), 호출 스레드에서 실행", name, threadPool.getActiveCount(), threadPool.getQueue().size());
+            new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(task, threadPool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    private Executor virtualThreadExecutor(String threadNamePrefix, String name, AsyncProperties.Pool pool) {
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder("async.executor.active", active, AtomicInteger::get)
+                .description("실행 중인 가상 스레드 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.limit", pool, AsyncProperties.Pool::getVirtualConcurrencyLimit)
+                .description("동시 실행 제한 (active 가 이 값에 닿으면 포화)")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.getVirtualConcurrencyLimit());
+        executor.setTaskDecorator(task -> () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        log.info("'{}' 실행기를 가상 스레드로 생성. 동시 실행 제한: {}", name, pool.getVirtualConcurrencyLimit());
         return executor;
     }
+
+    private Counter rejectedCounter(String name) {
+        return Counter.builder("async.executor.rejected")
+                .description("큐 포화로 호출 스레드에서 실행된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
 }
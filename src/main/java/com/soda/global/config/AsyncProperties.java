@@ -0,0 +1,42 @@
+package com.soda.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "async")
+@Data
+public class AsyncProperties {
+
+    public enum ExecutorMode {
+        PLATFORM,   // 고정 크기 스레드 풀
+        VIRTUAL     // 작업마다 가상 스레드 (JDK 21 이상 필요, 동시 실행 수만 제한)
+    }
+
+    private ExecutorMode executorMode = ExecutorMode.PLATFORM;
+
+    private Pool defaults = new Pool(5, 10, 100, 100);
+    private Pool notificationSend = new Pool(4, 16, 2000, 1000);   // SSE 전송
+    private Pool notificationWrite = new Pool(2, 8, 1000, 200);    // 알림 DB 저장
+    private Pool stats = new Pool(1, 2, 1000, 20);                 // 통계 갱신
+    private Pool mailSend = new Pool(2, 4, 100, 4);                // 메일 발송 (스레드 수 = 동시 SMTP 연결 수)
+
+    @Data
+    public static class Pool {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+        private int virtualConcurrencyLimit; // VIRTUAL 모드에서 동시에 실행할 최대 작업 수 (초과 시 제출 스레드가 대기)
+
+        public Pool() {
+        }
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity, int virtualConcurrencyLimit) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+            this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+        }
+    }
+}
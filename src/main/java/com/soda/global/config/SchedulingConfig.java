@@ -0,0 +1,43 @@
+package com.soda.global.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 스케줄러
+ * 주기가 짧고 지연에 민감한 작업은 전용 스케줄러로 분리해, 오래 걸리는 다른 작업(통계 갱신, 정리 배치 등)에 밀리지 않게 한다.
+ * 전용 스케줄러를 빈으로 등록하면 Spring Boot 기본 스케줄러가 만들어지지 않으므로 기본 스케줄러(taskScheduler)도 여기서 등록한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String SSE_HEARTBEAT_SCHEDULER = "sseHeartbeatScheduler";
+    public static final String MAIL_OUTBOX_SCHEDULER = "mailOutboxScheduler";
+
+    /**
+     * scheduler 를 지정하지 않은 @Scheduled 작업용 (spring.task.scheduling.* 설정 적용)
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = SSE_HEARTBEAT_SCHEDULER)
+    public ThreadPoolTaskScheduler sseHeartbeatScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.poolSize(1)
+                .threadNamePrefix("SSE-Heartbeat-")
+                .build();
+    }
+
+    /**
+     * 메일 발송 대기열 조회용. 실제 SMTP 발송은 mailSendExecutor 에서 하므로 한 스레드면 충분하다.
+     */
+    @Bean(name = MAIL_OUTBOX_SCHEDULER)
+    public ThreadPoolTaskScheduler mailOutboxScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.poolSize(1)
+                .threadNamePrefix("Mail-Outbox-")
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.soda.global.log.data.domain;
 
 import jakarta.persistence.Id;
 import lombok.*;
+import lombok.extern.jackson.Jacksonized;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.util.Map;
 @Document(collection = "data_log")
 @Getter
 @Builder
+@Jacksonized // spill 파일 재처리 시 역직렬화용
 public class DataLog {
     @Id
     private String id;
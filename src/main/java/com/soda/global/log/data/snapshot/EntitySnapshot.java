@@ -0,0 +1,82 @@
+package com.soda.global.log.data.snapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 시점의 필드 값 스냅샷
+ * 필드 이름/인덱스는 클래스별 SnapshotPlan 에서 공유하고, 값만 배열로 보관한다.
+ */
+public final class EntitySnapshot {
+
+    static final Object ABSENT = new Object(); // @JsonInclude(NON_NULL) 등으로 직렬화 대상에서 빠진 값
+
+    private static final EntitySnapshot CONVERSION_ERROR = ofMap(Map.of("error", "변환 실패"));
+
+    private final String[] names;
+    private final Object[] values;
+    private final Map<String, Integer> indexByName;
+
+    EntitySnapshot(String[] names, Object[] values, Map<String, Integer> indexByName) {
+        this.names = names;
+        this.values = values;
+        this.indexByName = indexByName;
+    }
+
+    static EntitySnapshot ofMap(Map<String, Object> map) {
+        String[] names = new String[map.size()];
+        Object[] values = new Object[map.size()];
+        Map<String, Integer> index = new LinkedHashMap<>();
+        int i = 0;
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            names[i] = entry.getKey();
+            values[i] = entry.getValue();
+            index.put(entry.getKey(), i++);
+        }
+        return new EntitySnapshot(names, values, index);
+    }
+
+    static EntitySnapshot conversionError() {
+        return CONVERSION_ERROR;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String nameAt(int i) {
+        return names[i];
+    }
+
+    boolean isPresent(int i) {
+        return values[i] != ABSENT;
+    }
+
+    Object valueAt(int i) {
+        return values[i];
+    }
+
+    /**
+     * 이름으로 값 조회 (없거나 직렬화 대상에서 빠진 경우 null)
+     */
+    public Object get(String name) {
+        Integer i = indexByName.get(name);
+        if (i == null || values[i] == ABSENT) {
+            return null;
+        }
+        return values[i];
+    }
+
+    /**
+     * DataLog 저장용 Map 으로 변환
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            if (values[i] != ABSENT) {
+                map.put(names[i], values[i]);
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,339 @@
+package com.soda.global.log.data.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.soda.global.log.data.annotation.LoggableEntityAction;
+import com.soda.member.domain.company.Company;
+import com.soda.member.domain.member.Member;
+import com.soda.member.interfaces.dto.company.CompanyResponse;
+import com.soda.member.interfaces.dto.company.MemberResponse;
+import com.soda.project.domain.Project;
+import com.soda.project.domain.stage.Stage;
+import com.soda.project.domain.stage.article.Article;
+import com.soda.project.domain.stage.article.comment.Comment;
+import com.soda.project.domain.stage.request.Request;
+import com.soda.project.domain.stage.request.response.Response;
+import com.soda.project.interfaces.dto.ProjectDTO;
+import com.soda.project.interfaces.stage.article.comment.dto.CommentDTO;
+import com.soda.project.interfaces.stage.article.dto.ArticleViewResponse;
+import com.soda.project.interfaces.stage.dto.StageResponse;
+import com.soda.project.interfaces.stage.request.dto.RequestDTO;
+import com.soda.project.interfaces.stage.request.response.dto.ResponseDTO;
+import jakarta.persistence.Entity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 데이터 로그용 스냅샷/diff 엔진
+ * 기동 시 @LoggableEntityAction 이 붙은 메서드를 훑어 엔티티 클래스별 계획(DTO 변환기, getter 핸들, findById 대상 리포지토리)을
+ * 한 번만 만들어 두고, 호출 시에는 리플렉션 탐색이나 ObjectMapper 생성 없이 스냅샷과 diff 를 계산한다.
+ */
+@Slf4j
+@Component
+public class EntitySnapshotEngine implements SmartInitializingSingleton {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final Map<Class<?>, DtoConverter> DTO_CONVERTERS = new HashMap<>();
+
+    static {
+        registerConverter(Member.class, MemberResponse.class, e -> MemberResponse.fromEntity((Member) e));
+        registerConverter(Company.class, CompanyResponse.class, e -> CompanyResponse.fromEntity((Company) e));
+
+        registerConverter(Project.class, ProjectDTO.class, e -> ProjectDTO.fromEntity((Project) e));
+        registerConverter(Stage.class, StageResponse.class, e -> StageResponse.fromEntity((Stage) e));
+
+        registerConverter(Request.class, RequestDTO.class, e -> RequestDTO.fromEntity((Request) e));
+        registerConverter(Response.class, ResponseDTO.class, e -> ResponseDTO.fromEntity((Response) e));
+
+        registerConverter(Article.class, ArticleViewResponse.class, e -> ArticleViewResponse.fromEntity((Article) e));
+        registerConverter(Comment.class, CommentDTO.class, e -> CommentDTO.fromEntity((Comment) e));
+    }
+
+    private final ApplicationContext applicationContext; // 리포지토리 조회용 (벤치마크 등 컨텍스트 없이 쓰는 경우 null)
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, SnapshotPlan> plans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<CrudRepository<Object, Object>>> repositories = new ConcurrentHashMap<>();
+    private volatile Repositories repositoryLookup;
+
+    public EntitySnapshotEngine(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+
+    private record DtoConverter(Class<?> dtoClass, Function<Object, Object> converter) {
+    }
+
+    private static void registerConverter(Class<?> entityClass, Class<?> dtoClass, Function<Object, Object> converter) {
+        DTO_CONVERTERS.put(entityClass, new DtoConverter(dtoClass, converter));
+    }
+
+    /**
+     * 모든 싱글톤 생성 후, 로그 대상 엔티티와 메서드 반환 타입의 계획을 미리 컴파일
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        repositoryLookup = new Repositories(applicationContext);
+
+        Set<Class<?>> targets = new LinkedHashSet<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName);
+            if (beanType == null || !beanType.getName().startsWith("com.soda")) {
+                continue;
+            }
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType), method -> {
+                LoggableEntityAction annotation = AnnotationUtils.findAnnotation(method, LoggableEntityAction.class);
+                if (annotation == null) {
+                    return;
+                }
+                targets.add(annotation.entityClass());
+                Class<?> returnType = method.getReturnType();
+                if (returnType != void.class && returnType != ResponseEntity.class) {
+                    targets.add(returnType);
+                }
+            });
+        }
+
+        for (Class<?> target : targets) {
+            planFor(target);
+            if (DTO_CONVERTERS.containsKey(target)) {
+                repositoryFor(target);
+            }
+        }
+        log.info("데이터 로그 스냅샷 계획 컴파일 완료: {}개 클래스", plans.size());
+    }
+
+    /**
+     * 변경 전 이미지: 엔티티를 id 로 조회해서 스냅샷 생성
+     */
+    public EntitySnapshot loadSnapshot(Class<?> entityClass, Object id) {
+        Optional<CrudRepository<Object, Object>> repository = repositoryFor(entityClass);
+        if (repository.isEmpty()) {
+            log.warn("엔티티 리포지토리를 찾을 수 없음: {}", entityClass.getSimpleName());
+            return null;
+        }
+        Object entity;
+        try {
+            entity = repository.get().findById(id).orElse(null);
+        } catch (Exception e) {
+            log.error("엔티티 로딩 실패", e);
+            return null;
+        }
+        return snapshot(entity);
+    }
+
+    /**
+     * 엔티티(등록된 DTO 변환기 사용) 또는 응답 DTO 의 스냅샷 생성
+     */
+    public EntitySnapshot snapshot(Object value) {
+        if (value == null) return null;
+
+        SnapshotPlan plan = planFor(value.getClass());
+        try {
+            if (plan.isFallback()) {
+                return EntitySnapshot.ofMap(objectMapper.convertValue(value, MAP_TYPE));
+            }
+            Object target = plan.converter() != null ? plan.converter().apply(value) : value;
+            return plan.capture(target, this::normalize);
+        } catch (Throwable e) {
+            log.warn("객체 스냅샷 생성 실패: {}", e.getMessage());
+            return EntitySnapshot.conversionError();
+        }
+    }
+
+    /**
+     * 변경 후 값 기준으로 달라진 필드만 추출 (변경 전에 없거나 null 인 값은 "N/A")
+     */
+    public Map<String, Object> diff(EntitySnapshot before, EntitySnapshot after) {
+        Map<String, Object> diff = new HashMap<>();
+        for (int i = 0; i < after.size(); i++) {
+            if (!after.isPresent(i)) continue;
+            String name = after.nameAt(i);
+            Object afterVal = after.valueAt(i);
+            Object beforeVal = before.get(name);
+            if (beforeVal == null) beforeVal = "N/A";
+            if (!Objects.equals(beforeVal, afterVal)) {
+                Map<String, Object> change = new HashMap<>(4);
+                change.put("before", beforeVal);
+                change.put("after", afterVal);
+                diff.put(name, change);
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * 스냅샷에서 엔티티 id 추출 ("id" 필드, 없으면 "requestId" 처럼 엔티티명 + Id 필드)
+     */
+    public String extractId(Class<?> entityClass, EntitySnapshot snapshot) {
+        Object id = snapshot.get("id");
+        if (id == null) {
+            String simpleName = entityClass.getSimpleName();
+            id = snapshot.get(Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1) + "Id");
+        }
+        return id != null ? id.toString() : null;
+    }
+
+    public String toJson(Map<String, Object> data) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(data);
+    }
+
+    private SnapshotPlan planFor(Class<?> type) {
+        return plans.computeIfAbsent(type, this::compile);
+    }
+
+    private Optional<CrudRepository<Object, Object>> repositoryFor(Class<?> entityClass) {
+        return repositories.computeIfAbsent(entityClass, type -> {
+            Repositories lookup = repositoryLookup;
+            if (lookup == null) {
+                if (applicationContext == null) return Optional.empty();
+                lookup = new Repositories(applicationContext);
+                repositoryLookup = lookup;
+            }
+            return lookup.getRepositoryFor(type)
+                    .filter(CrudRepository.class::isInstance)
+                    .map(repository -> {
+                        @SuppressWarnings("unchecked")
+                        CrudRepository<Object, Object> crudRepository = (CrudRepository<Object, Object>) repository;
+                        return crudRepository;
+                    });
+        });
+    }
+
+    private SnapshotPlan compile(Class<?> type) {
+        DtoConverter dtoConverter = findConverter(type);
+        Class<?> target = dtoConverter != null ? dtoConverter.dtoClass() : type;
+
+        if (Map.class.isAssignableFrom(target) || Collection.class.isAssignableFrom(target)
+                || target.isArray() || ClassUtils.isPrimitiveOrWrapper(target) || target == String.class) {
+            return new SnapshotPlan(null, new String[0], new MethodHandle[0], new boolean[0], Map.of(), true);
+        }
+
+        // 변환기가 없는 엔티티는 양방향 연관관계 순환을 피하기 위해 id 만 기록
+        if (dtoConverter == null && isEntity(target)) {
+            Method getId = ReflectionUtils.findMethod(target, "getId");
+            if (getId == null) {
+                return new SnapshotPlan(null, new String[0], new MethodHandle[0], new boolean[0], Map.of(), false);
+            }
+            return new SnapshotPlan(null, new String[]{"id"}, new MethodHandle[]{toGetter(getId)},
+                    new boolean[]{false}, Map.of("id", 0), false);
+        }
+
+        try {
+            JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(target);
+            if (!(serializer instanceof BeanSerializerBase beanSerializer)) {
+                return new SnapshotPlan(null, new String[0], new MethodHandle[0], new boolean[0], Map.of(), true);
+            }
+
+            List<String> names = new ArrayList<>();
+            List<MethodHandle> getters = new ArrayList<>();
+            List<Boolean> suppressNulls = new ArrayList<>();
+            Iterator<PropertyWriter> properties = beanSerializer.properties();
+            while (properties.hasNext()) {
+                PropertyWriter property = properties.next();
+                if (!(property instanceof BeanPropertyWriter beanProperty) || beanProperty.getMember() == null) {
+                    continue;
+                }
+                names.add(beanProperty.getName());
+                getters.add(toGetter(beanProperty.getMember().getMember()));
+                suppressNulls.add(beanProperty.willSuppressNulls());
+            }
+
+            String[] nameArray = names.toArray(new String[0]);
+            boolean[] suppressArray = new boolean[nameArray.length];
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < nameArray.length; i++) {
+                suppressArray[i] = suppressNulls.get(i);
+                index.put(nameArray[i], i);
+            }
+
+            Function<Object, Object> converter = dtoConverter != null ? dtoConverter.converter() : null;
+            return new SnapshotPlan(converter, nameArray, getters.toArray(new MethodHandle[0]), suppressArray,
+                    Map.copyOf(index), false);
+        } catch (Exception e) {
+            log.warn("스냅샷 계획 생성 실패, Map 변환으로 대체: {}", type.getName(), e);
+            return new SnapshotPlan(null, new String[0], new MethodHandle[0], new boolean[0], Map.of(), true);
+        }
+    }
+
+    /**
+     * Hibernate 프록시 등 하위 클래스도 찾을 수 있도록 상위 클래스까지 확인
+     */
+    private DtoConverter findConverter(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            DtoConverter converter = DTO_CONVERTERS.get(current);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        return null;
+    }
+
+    private boolean isEntity(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (current.isAnnotationPresent(Entity.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MethodHandle toGetter(java.lang.reflect.Member member) {
+        try {
+            MethodHandle handle;
+            if (member instanceof Method method) {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            } else if (member instanceof Field field) {
+                field.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectGetter(field);
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 멤버 타입: " + member);
+            }
+            return handle.asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("getter 핸들 생성 실패: " + member, e);
+        }
+    }
+
+    /**
+     * Mongo 저장/비교용 값 정규화. 단순 값은 그대로, 날짜·중첩 DTO·컬렉션은 기존과 같은 JSON 형태(Map/List/String)로 변환
+     */
+    private Object normalize(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return objectMapper.convertValue(value, Object.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.soda.global.log.data.snapshot;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 클래스별로 한 번만 만들어 두는 스냅샷 계획
+ * (엔티티 → DTO 변환기, DTO 필드 getter 핸들, 필드 이름 인덱스)
+ */
+final class SnapshotPlan {
+
+    private final Function<Object, Object> converter; // 엔티티인 경우 DTO 변환기, 아니면 null
+    private final String[] names;
+    private final MethodHandle[] getters;
+    private final boolean[] suppressNulls;
+    private final Map<String, Integer> indexByName;
+    private final boolean fallback; // Map/컬렉션 등 필드 단위로 다룰 수 없는 타입
+
+    SnapshotPlan(Function<Object, Object> converter, String[] names, MethodHandle[] getters,
+                 boolean[] suppressNulls, Map<String, Integer> indexByName, boolean fallback) {
+        this.converter = converter;
+        this.names = names;
+        this.getters = getters;
+        this.suppressNulls = suppressNulls;
+        this.indexByName = indexByName;
+        this.fallback = fallback;
+    }
+
+    Function<Object, Object> converter() {
+        return converter;
+    }
+
+    boolean isFallback() {
+        return fallback;
+    }
+
+    /**
+     * getter 핸들로 필드 값을 바로 읽어 스냅샷 생성 (값 정규화는 engine 에 위임)
+     */
+    EntitySnapshot capture(Object target, Function<Object, Object> normalizer) throws Throwable {
+        Object[] values = new Object[getters.length];
+        for (int i = 0; i < getters.length; i++) {
+            Object value = (Object) getters[i].invokeExact(target);
+            if (value == null && suppressNulls[i]) {
+                values[i] = EntitySnapshot.ABSENT;
+            } else {
+                values[i] = normalizer.apply(value);
+            }
+        }
+        return new EntitySnapshot(names, values, indexByName);
+    }
+}
@@ -0,0 +1,95 @@
+package com.soda.global.log.data.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soda.global.log.data.domain.DataLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Mongo 에 쓰지 못한 DataLog 를 로컬 파일(JSON Lines)에 보관하고, 재기동 시 다시 읽어오는 저장소
+ */
+@Slf4j
+@Component
+public class DataLogSpillStore {
+
+    private final ObjectMapper objectMapper;
+    private final Path spillFile;
+    private final Path replayFile;
+
+    public DataLogSpillStore(ObjectMapper objectMapper, DataLogWriterProperties properties) {
+        this.objectMapper = objectMapper;
+        this.spillFile = Paths.get(properties.getSpillPath());
+        this.replayFile = Paths.get(properties.getSpillPath() + ".replaying");
+    }
+
+    public synchronized void append(List<DataLog> dataLogs) {
+        try {
+            if (spillFile.getParent() != null) {
+                Files.createDirectories(spillFile.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (DataLog dataLog : dataLogs) {
+                    writer.write(objectMapper.writeValueAsString(dataLog));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("데이터 로그 spill 파일 저장 실패: {}건 유실, path={}", dataLogs.size(), spillFile, e);
+        }
+    }
+
+    /**
+     * 재처리할 파일을 확보한다. 이전 재처리가 중단되어 남은 파일이 있으면 그것을 먼저 반환하고,
+     * 없으면 현재 spill 파일을 재처리용 파일로 옮긴다 (이후 spill 은 새 파일에 쌓인다).
+     */
+    public synchronized Path claimForReplay() throws IOException {
+        if (Files.exists(replayFile)) {
+            return replayFile;
+        }
+        if (Files.exists(spillFile) && Files.size(spillFile) > 0) {
+            return Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return null;
+    }
+
+    public void readBatches(Path file, int batchSize, Consumer<List<DataLog>> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<DataLog> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    batch.add(objectMapper.readValue(line, DataLog.class));
+                } catch (IOException e) {
+                    log.warn("데이터 로그 spill 라인 파싱 실패, 건너뜀: {}", e.getMessage());
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+        }
+    }
+
+    public void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,236 @@
+package com.soda.global.log.data.writer;
+
+import com.soda.global.log.data.domain.DataLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataLog 비동기 배치 저장기
+ * 요청 스레드는 큐에 넣기만 하고, 백그라운드 스레드가 크기/시간 기준으로 모아서 MongoTemplate.insert 로 한 번에 저장한다.
+ * 큐가 가득 차거나 Mongo 가 느리거나 실패하면 로컬 파일로 spill 하고, 재기동 시 다시 Mongo 로 재처리한다.
+ * 파일 쓰기는 항상 writer 스레드에서만 한다. (큐가 가득 차면 요청 스레드는 overflow 큐에 넘기기만 함)
+ */
+@Slf4j
+@Component
+public class DataLogWriter {
+
+    private static final long DROP_LOG_INTERVAL = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final DataLogSpillStore spillStore;
+    private final DataLogWriterProperties properties;
+    private final BlockingQueue<DataLog> queue;
+    private final BlockingQueue<DataLog> overflow;
+
+    private final Counter enqueuedCounter;
+    private final Counter flushedCounter;
+    private final Counter spilledQueueFullCounter;
+    private final Counter spilledMongoSlowCounter;
+    private final Counter spilledMongoErrorCounter;
+    private final Counter replayedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile long degradedUntilNanos;
+    private Thread worker;
+
+    public DataLogWriter(MongoTemplate mongoTemplate, DataLogSpillStore spillStore,
+                         DataLogWriterProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.spillStore = spillStore;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.overflow = new ArrayBlockingQueue<>(properties.getOverflowCapacity());
+
+        Gauge.builder("datalog.writer.queue.size", queue, BlockingQueue::size)
+                .description("Mongo 저장 대기 중인 데이터 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("datalog.writer.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .register(meterRegistry);
+        Gauge.builder("datalog.writer.overflow.size", overflow, BlockingQueue::size)
+                .description("파일 spill 대기 중인 데이터 로그 수")
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("datalog.writer.enqueued");
+        this.flushedCounter = meterRegistry.counter("datalog.writer.flushed");
+        this.spilledQueueFullCounter = meterRegistry.counter("datalog.writer.spilled", "reason", "queue_full");
+        this.spilledMongoSlowCounter = meterRegistry.counter("datalog.writer.spilled", "reason", "mongo_slow");
+        this.spilledMongoErrorCounter = meterRegistry.counter("datalog.writer.spilled", "reason", "mongo_error");
+        this.replayedCounter = meterRegistry.counter("datalog.writer.replayed");
+        this.droppedCounter = meterRegistry.counter("datalog.writer.dropped");
+        this.flushTimer = Timer.builder("datalog.writer.flush")
+                .description("Mongo 배치 insert 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 스레드에서 호출. 절대 블로킹하지 않는다. (파일 I/O 없음)
+     * 큐가 가득 차면 overflow 큐에 넘기고 writer 스레드가 파일로 spill 한다. overflow 도 가득 차면 버리고 카운트만 남긴다.
+     */
+    public void enqueue(DataLog dataLog) {
+        if (queue.offer(dataLog)) {
+            enqueuedCounter.increment();
+            return;
+        }
+        if (overflow.offer(dataLog)) {
+            spilledQueueFullCounter.increment();
+            return;
+        }
+        droppedCounter.increment();
+        if ((long) droppedCounter.count() % DROP_LOG_INTERVAL == 1) { // 과부하 중 로그 출력 자체가 부담이 되지 않도록 간격을 둠
+            log.warn("데이터 로그 큐/overflow 가 모두 가득 참(capacity={}/{}), 누적 유실 {}건",
+                    properties.getQueueCapacity(), properties.getOverflowCapacity(), (long) droppedCounter.count());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "datalog-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(properties.getFlushInterval().toMillis() * 5);
+
+        // 종료 시점에 남은 로그는 한 번 더 저장 시도 (실패 시 spill)
+        spillOverflow();
+        List<DataLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += properties.getBatchSize()) {
+            flush(remaining.subList(from, Math.min(from + properties.getBatchSize(), remaining.size())));
+        }
+    }
+
+    private void runLoop() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<DataLog> batch = new ArrayList<>(properties.getBatchSize());
+
+        while (running) {
+            try {
+                spillOverflow();
+                DataLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 배치 크기에 도달하거나 첫 건 이후 flushInterval 이 지나면 flush
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < properties.getBatchSize()) {
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getBatchSize() || remainingNanos <= 0) {
+                        break;
+                    }
+                    DataLog next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("데이터 로그 writer 처리 중 오류", e);
+                batch.clear();
+            }
+        }
+
+        // 인터럽트로 빠져나온 경우 모으던 배치를 잃지 않도록 처리
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    // 큐가 가득 차 overflow 로 넘어온 로그를 파일로 spill (writer 스레드에서만 호출)
+    private void spillOverflow() {
+        if (overflow.isEmpty()) {
+            return;
+        }
+        List<DataLog> spilled = new ArrayList<>(overflow.size());
+        overflow.drainTo(spilled);
+        log.warn("데이터 로그 큐가 가득 참(capacity={}), {}건을 파일로 spill", properties.getQueueCapacity(), spilled.size());
+        spillStore.append(spilled);
+    }
+
+    private void flush(List<DataLog> batch) {
+        if (batch.isEmpty()) return;
+
+        if (System.nanoTime() < degradedUntilNanos) {
+            spilledMongoSlowCounter.increment(batch.size());
+            spillStore.append(batch);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.insert(new ArrayList<>(batch), DataLog.class);
+            flushedCounter.increment(batch.size());
+        } catch (Exception e) {
+            log.error("데이터 로그 배치 저장 실패: {}건을 파일로 spill", batch.size(), e);
+            spilledMongoErrorCounter.increment(batch.size());
+            spillStore.append(batch);
+            enterDegradedMode();
+            return;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        if (elapsedNanos > properties.getSlowInsertThreshold().toNanos()) {
+            log.warn("데이터 로그 배치 저장 지연: {}ms, {}간 파일로 spill", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), properties.getDegradedCooldown());
+            enterDegradedMode();
+        }
+    }
+
+    private void enterDegradedMode() {
+        degradedUntilNanos = System.nanoTime() + properties.getDegradedCooldown().toNanos();
+    }
+
+    /**
+     * 이전 실행에서 spill 된 로그를 Mongo 로 재처리. 중간에 실패하면 파일을 남겨두고 다음 기동 때 다시 시도한다.
+     * (이미 저장된 배치가 다시 저장될 수 있으므로 at-least-once)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replaySpilled() {
+        try {
+            Path replayFile;
+            while ((replayFile = spillStore.claimForReplay()) != null) {
+                log.info("spill 된 데이터 로그 재처리 시작: {}", replayFile);
+                spillStore.readBatches(replayFile, properties.getBatchSize(), batch -> {
+                    mongoTemplate.insert(batch, DataLog.class);
+                    replayedCounter.increment(batch.size());
+                });
+                spillStore.delete(replayFile);
+                log.info("spill 된 데이터 로그 재처리 완료: {}", replayFile);
+            }
+        } catch (Exception e) {
+            log.error("spill 된 데이터 로그 재처리 실패, 다음 기동 시 재시도", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.soda.global.log.data.writer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "datalog.writer")
+@Data
+public class DataLogWriterProperties {
+    private int queueCapacity = 10000;                       // 메모리 큐 최대 크기 (초과분은 overflow 큐로)
+    private int overflowCapacity = 10000;                    // 큐가 가득 찼을 때 writer 스레드가 파일로 spill 할 대기분 (이것도 차면 버림)
+    private int batchSize = 200;                             // 한 번에 insert 할 최대 건수
+    private Duration flushInterval = Duration.ofSeconds(1);  // 배치가 덜 찼더라도 flush 하는 주기
+    private Duration slowInsertThreshold = Duration.ofSeconds(2); // 이 시간보다 오래 걸리면 Mongo 지연으로 판단
+    private Duration degradedCooldown = Duration.ofSeconds(30);   // 지연/실패 감지 후 파일로만 spill 하는 시간
+    private String spillPath = "logs/datalog-spill.jsonl";
+}
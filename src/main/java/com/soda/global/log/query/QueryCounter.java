@@ -0,0 +1,36 @@
+package com.soda.global.log.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드에서 실행된 SQL 문 수를 센다.
+ * Hibernate 가 SQL 을 준비할 때마다 inspect 가 호출되며, QueryCountFilter 가 요청 시작/종료 시 start/finish 를 호출한다.
+ * 요청 밖(@Async, 스케줄러 등)에서 실행된 SQL 은 세지 않는다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+
+    static void start() {
+        CURRENT.set(new Count());
+    }
+
+    static int finish() {
+        Count count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count.value : 0;
+    }
+
+    private static final class Count {
+        private int value;
+    }
+}
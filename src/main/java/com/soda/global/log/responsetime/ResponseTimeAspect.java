@@ -0,0 +1,147 @@
+package com.soda.global.log.responsetime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러/서비스 구간 실행 시간을 Micrometer 타이머로 기록한다. (/actuator/prometheus 로 노출)
+ * - http.server.handler: 컨트롤러 메서드별 (class, method, http.method, uri 패턴, exception)
+ * - app.span: 퍼사드, 리포지토리 커스텀 쿼리, 데이터 로그(스냅샷/큐 적재), SSE 전송 (layer, class, method, exception)
+ * 요청마다 로그를 남기지 않고, 기준 시간(response-time.slow-threshold)을 넘은 경우만 WARN 으로 남긴다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ResponseTimeAspect {
+
+    public static final String HANDLER_TIMER = "http.server.handler";
+    public static final String SPAN_TIMER = "app.span";
+
+    private static final String NONE = "none";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final ResponseTimeProperties properties;
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            HttpServletRequest request = currentRequest();
+            String httpMethod = request != null ? request.getMethod() : NONE;
+            String uri = uriPattern(request);
+            String handler = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            String method = joinPoint.getSignature().getName();
+
+            timer(Timer.builder(HANDLER_TIMER)
+                    .description("컨트롤러 메서드 실행 시간")
+                    .tag("class", handler)
+                    .tag("method", method)
+                    .tag("http.method", httpMethod)
+                    .tag("uri", uri)
+                    .tag("exception", exception))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed > properties.getSlowThreshold().toNanos()) {
+                log.warn("[API Response Time] {} {} ({}.{}) executed in {} ms",
+                        httpMethod, request != null ? request.getRequestURI() : uri, handler, method, toMillis(elapsed));
+            }
+        }
+    }
+
+    @Around("within(com.soda..*Facade) && execution(public * *(..))")
+    public Object timeFacade(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeSpan("facade", joinPoint);
+    }
+
+    @Around("within(com.soda..*RepositoryImpl) && execution(public * *(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeSpan("repository", joinPoint);
+    }
+
+    @Around("execution(public * com.soda.global.log.data.snapshot.EntitySnapshotEngine.loadSnapshot(..))"
+            + " || execution(public * com.soda.global.log.data.snapshot.EntitySnapshotEngine.snapshot(..))"
+            + " || execution(public * com.soda.global.log.data.snapshot.EntitySnapshotEngine.diff(..))"
+            + " || execution(public * com.soda.global.log.data.writer.DataLogWriter.enqueue(..))")
+    public Object timeDataLog(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeSpan("datalog", joinPoint);
+    }
+
+    @Around("execution(public * com.soda.notification.service.EmitterService.sendNotification(..))")
+    public Object timeSse(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timeSpan("sse", joinPoint);
+    }
+
+    private Object timeSpan(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            String method = joinPoint.getSignature().getName();
+
+            timer(Timer.builder(SPAN_TIMER)
+                    .description("서비스 구간 실행 시간")
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("exception", exception))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed > properties.getSpanSlowThreshold().toNanos()) {
+                log.warn("[Span Time] {} {}.{} executed in {} ms", layer, className, method, toMillis(elapsed));
+            }
+        }
+    }
+
+    private Timer timer(Timer.Builder builder) {
+        return builder
+                .publishPercentiles(properties.getPercentiles())
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        if (request == null) {
+            return UNKNOWN_URI;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private static long toMillis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis();
+    }
+}
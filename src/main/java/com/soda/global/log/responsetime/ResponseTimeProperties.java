@@ -0,0 +1,18 @@
+package com.soda.global.log.responsetime;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "response-time")
+@Data
+public class ResponseTimeProperties {
+    private Duration slowThreshold = Duration.ofSeconds(1);            // 이보다 오래 걸린 API 만 로그로 남김
+    private Duration spanSlowThreshold = Duration.ofMillis(500);       // 퍼사드/리포지토리/데이터로그/SSE 구간 기준
+    private double[] percentiles = {0.5, 0.95, 0.99};                  // 노드별 백분위 (느린 API 리포트에 사용)
+    private boolean percentileHistogram = true;                        // Prometheus 에서 histogram_quantile 로 합산할 버킷
+    private int reportSize = 20;                                       // 느린 API 리포트에 보여줄 개수
+}
@@ -0,0 +1,67 @@
+package com.soda.global.log.responsetime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 API 리포트 (/actuator/slowendpoints)
+ * ResponseTimeAspect 가 기록한 http.server.handler 타이머를 그대로 읽어, 이 노드 기준 p95 가 큰 순서로 보여준다.
+ * 백분위는 최근 구간(기본 2분) 기준이고, 전체 노드 합산은 Prometheus 의 histogram_quantile 로 본다.
+ */
+@Component
+@Endpoint(id = "slowendpoints")
+@RequiredArgsConstructor
+public class SlowEndpointReport {
+
+    private final MeterRegistry meterRegistry;
+    private final ResponseTimeProperties properties;
+
+    public record SlowEndpoint(String httpMethod, String uri, String handler, String exception,
+                               long count, double meanMs, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    @ReadOperation
+    public List<SlowEndpoint> report() {
+        return meterRegistry.find(ResponseTimeAspect.HANDLER_TIMER).timers().stream()
+                .map(this::toSlowEndpoint)
+                .sorted(Comparator.comparingDouble(SlowEndpoint::p95Ms)
+                        .thenComparingDouble(SlowEndpoint::maxMs)
+                        .reversed())
+                .limit(properties.getReportSize())
+                .toList();
+    }
+
+    private SlowEndpoint toSlowEndpoint(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        return new SlowEndpoint(
+                timer.getId().getTag("http.method"),
+                timer.getId().getTag("uri"),
+                timer.getId().getTag("class") + "." + timer.getId().getTag("method"),
+                timer.getId().getTag("exception"),
+                snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.95),
+                percentile(snapshot, 0.99),
+                snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    // 설정된 백분위가 없으면 0
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (Math.abs(value.percentile() - percentile) < 1e-9) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
@@ -9,6 +9,7 @@ public enum CommonErrorCode implements ErrorCode {
     UNAUTHORIZED("401", "Unauthorized: You must authenticate to access this resource.", HttpStatus.UNAUTHORIZED),
     FORBIDDEN("403", "Forbidden: You do not have permission to access this resource.", HttpStatus.FORBIDDEN),
     NOT_FOUND("404", "Not Found: The requested resource could not be found.", HttpStatus.NOT_FOUND),
+    TOO_MANY_REQUESTS("429", "Too Many Requests: Please try again later.", HttpStatus.TOO_MANY_REQUESTS),
 
     // HTTP 상태 코드 (5xx)
     INTERNAL_SERVER_ERROR("500", "Internal Server Error: An unexpected error occurred on the server.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -18,6 +19,7 @@ public enum CommonErrorCode implements ErrorCode {
     // 공통 에러
     UNEXPECTED_ERROR("1000", "Unexpected Error: An unexpected error occurred.", HttpStatus.INTERNAL_SERVER_ERROR),
     S3_UPLOAD_ERROR("1001", "S3 Upload Error: An unexpected error occurred.", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_CURSOR("1002", "Invalid Cursor: The cursor is malformed or expired.", HttpStatus.BAD_REQUEST),
 
     // 승인요청 관련 오류 메시지
     USER_NOT_IN_PROJECT_DEV("3000", "This user is not in current project or not in project's dev company", HttpStatus.BAD_REQUEST),
@@ -0,0 +1,43 @@
+package com.soda.global.response;
+
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반(keyset) 목록 조회의 위치 값
+ * 마지막으로 받은 항목의 (createdAt, id) 이며, 클라이언트에는 내용을 알 수 없는 문자열로 내려준다.
+ * 다음 조회는 "createdAt 이 더 이르거나, 같으면 id 가 더 작은" 항목부터 (createdAt desc, id desc 정렬 기준)
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param value 클라이언트가 보낸 커서 문자열 (없으면 첫 페이지)
+     * @return 첫 페이지면 null
+     */
+    public static Cursor decode(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new GeneralException(CommonErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GeneralException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+}
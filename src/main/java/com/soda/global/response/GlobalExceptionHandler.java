@@ -1,7 +1,9 @@
 package com.soda.global.response;
 
+import com.soda.global.security.ratelimit.RateLimitExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -23,6 +25,16 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseForm.error(errorCode.getCode(), errorCode.getMessage()));
     }
 
+    // 요청 제한 초과: 429 + Retry-After(초)
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponseForm<Void>> handleRateLimitExceededException(RateLimitExceededException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponseForm.error(errorCode.getCode(), errorCode.getMessage()));
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponseForm<Void>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex, HttpServletRequest request) {
         log.error("[Error Log] requestUrl: {}, requestMethod: {}, userId: {}, clientIp: {}, exception: {}, message: {}, responseStatus: {}",
@@ -0,0 +1,48 @@
+package com.soda.global.response;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 루트 항목 단위로 페이징된 계층형 목록을 담는 Page 구현체
+ * content 에는 루트와 그 자식 항목이 함께 들어가지만, 전체 개수/페이지 수는 루트 개수 기준으로 계산한다.
+ * @param <T> 페이징된 데이터 목록의 타입
+ */
+public class HierarchyPageImpl<T> extends PageImpl<T> {
+
+    private final long rootTotal;         // 전체 루트 항목 개수
+
+    public HierarchyPageImpl(List<T> content, Pageable pageable, long rootTotal) {
+        super(content, pageable, rootTotal);
+        this.rootTotal = rootTotal;
+    }
+
+    @Override
+    public long getTotalElements() {
+        return rootTotal;
+    }
+
+    @Override
+    public int getTotalPages() {
+        return getSize() == 0 ? 1 : (int) Math.ceil((double) rootTotal / (double) getSize());
+    }
+
+    @Override
+    public boolean hasNext() {
+        return getNumber() + 1 < getTotalPages();
+    }
+
+    @Override
+    public boolean isLast() {
+        return !hasNext();
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new HierarchyPageImpl<>(getConvertedContent(converter), getPageable(), rootTotal);
+    }
+}
@@ -0,0 +1,59 @@
+package com.soda.global.response;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (무한 스크롤용)
+ * PagedData 와 달리 전체 개수/페이지 수가 없어 count 쿼리를 하지 않는다.
+ * 다음 항목이 있으면 nextCursor 를 그대로 다음 요청의 cursor 로 보내면 된다.
+ * @param <T> 목록 데이터의 타입
+ */
+@Getter
+public class SlicedData<T> {
+
+    public static final int MAX_SIZE = 100; // 한 번에 조회할 수 있는 최대 개수
+
+    private final List<T> content;        // 현재 조회된 데이터 목록
+    private final int size;               // 요청한 조회 개수
+    private final boolean hasNext;        // 다음 데이터 존재 여부
+    private final String nextCursor;      // 다음 조회용 커서 (다음 데이터가 없으면 null)
+
+    public SlicedData(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 개까지 조회한 결과로 생성한다. 초과분 한 건은 다음 데이터 존재 여부 판단에만 쓰고 버린다.
+     * @param rows      size + 1 개까지 조회한 결과 (createdAt desc, id desc 정렬)
+     * @param size      요청한 조회 개수
+     * @param cursorKey 항목에서 커서 값을 꺼내는 함수
+     */
+    public static <T> SlicedData<T> of(List<T> rows, int size, Function<? super T, Cursor> cursorKey) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorKey.apply(content.get(content.size() - 1)).encode() : null;
+        return new SlicedData<>(content, size, hasNext, nextCursor);
+    }
+
+    // 요청 개수를 1 ~ MAX_SIZE 로 제한
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public <U> SlicedData<U> map(Function<? super T, ? extends U> converter) {
+        return withContent(content.stream().<U>map(converter).toList());
+    }
+
+    /**
+     * 커서/다음 여부는 유지하고 content 만 바꾼다. (계층 구조로 다시 묶는 등 항목 수가 달라지는 변환용)
+     */
+    public <U> SlicedData<U> withContent(List<U> content) {
+        return new SlicedData<>(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,26 @@
+package com.soda.global.search;
+
+import java.util.List;
+
+/**
+ * ngram FULLTEXT 인덱스 정의 (운영 DDL 은 resources/db/fulltext-indexes.sql, 바꾸면 함께 수정)
+ * @param name    인덱스 이름
+ * @param table   테이블 이름
+ * @param columns 인덱스 컬럼 (MATCH 에 같은 순서로 넘겨야 인덱스를 쓴다)
+ */
+public record FullTextIndex(String name, String table, List<String> columns) {
+
+    public static final FullTextIndex ARTICLE_TITLE_CONTENT =
+            new FullTextIndex("ft_article_title_content", "article", List.of("title", "content"));
+    public static final FullTextIndex REQUEST_TITLE =
+            new FullTextIndex("ft_request_title", "request", List.of("title"));
+
+    public static List<FullTextIndex> all() {
+        return List.of(ARTICLE_TITLE_CONTENT, REQUEST_TITLE);
+    }
+
+    public String createDdl() {
+        return "ALTER TABLE " + table + " ADD FULLTEXT INDEX " + name
+                + " (" + String.join(", ", columns) + ") WITH PARSER ngram";
+    }
+}
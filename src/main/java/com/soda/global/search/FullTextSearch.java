@@ -0,0 +1,172 @@
+package com.soda.global.search;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키워드 검색 방식 선택 (search.keyword.mode)
+ * FULLTEXT 모드면 기동 후와 주기적으로 ngram FULLTEXT 인덱스를 확인하고, 준비된 인덱스에 대해서만 MATCH ... AGAINST 를 쓴다.
+ * 인덱스는 db/fulltext-indexes.sql 로 점검 시간에 만든다. (create-indexes 를 켜면 기동 시 직접 생성)
+ * 인덱스가 준비되기 전이거나 생성에 실패했거나 키워드가 ngram 토큰보다 짧으면 기존 LIKE 검색을 그대로 쓴다.
+ * InnoDB 기본 불용어 목록이 켜져 있으면 ngram 파서가 불용어(a, i, to ...)를 포함한 토큰을 인덱스에서 빼므로
+ * "data" 같은 키워드가 MATCH 로는 검색되지 않는다. 이 경우에도 LIKE 검색을 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextSearch {
+
+    private static final String EXISTS_SQL = """
+            SELECT COUNT(*) FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+            """;
+
+    private static final String STOPWORD_SQL =
+            "SELECT @@innodb_ft_enable_stopword AS enabled, @@innodb_ft_server_stopword_table AS server_table";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KeywordSearchProperties properties;
+
+    private final Set<String> readyIndexes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 기동 후 한 번: create-indexes 가 켜져 있으면 없는 인덱스를 만들고, 준비된 인덱스를 확인한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareIndexes() {
+        if (properties.getMode() != KeywordSearchProperties.Mode.FULLTEXT) {
+            return;
+        }
+        if (properties.isCreateIndexes() && !defaultStopwordsActive()) {
+            for (FullTextIndex index : FullTextIndex.all()) {
+                try {
+                    if (!exists(index)) {
+                        log.info("FULLTEXT 인덱스 생성 시작: {}.{}", index.table(), index.name());
+                        jdbcTemplate.execute(index.createDdl());
+                        log.info("FULLTEXT 인덱스 생성 완료: {}.{}", index.table(), index.name());
+                    }
+                } catch (DataAccessException e) {
+                    log.error("FULLTEXT 인덱스 생성 실패, LIKE 검색 사용: {}.{}", index.table(), index.name(), e);
+                }
+            }
+        }
+        checkIndexes(true);
+    }
+
+    /**
+     * 준비된 인덱스 주기적 재확인
+     * 점검 시간에 db/fulltext-indexes.sql 로 인덱스를 만들거나 불용어 설정을 바꾸면 재기동 없이 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${search.keyword.index-check-interval:5m}",
+            initialDelayString = "${search.keyword.index-check-interval:5m}")
+    public void refreshIndexes() {
+        if (properties.getMode() != KeywordSearchProperties.Mode.FULLTEXT) {
+            return;
+        }
+        checkIndexes(false);
+    }
+
+    // 상태가 바뀐 인덱스만 로그를 남긴다 (기동 시에는 전부)
+    private void checkIndexes(boolean startup) {
+        if (defaultStopwordsActive()) {
+            if (startup || !readyIndexes.isEmpty()) {
+                log.warn("InnoDB FULLTEXT 기본 불용어 목록 사용 중, LIKE 검색 사용 "
+                        + "(innodb_ft_enable_stopword=OFF 로 바꾼 뒤 FULLTEXT 인덱스를 다시 만들어야 함)");
+            }
+            readyIndexes.clear();
+            return;
+        }
+        for (FullTextIndex index : FullTextIndex.all()) {
+            boolean wasReady = readyIndexes.contains(index.name());
+            try {
+                if (exists(index)) {
+                    if (readyIndexes.add(index.name()) && !startup) {
+                        log.info("FULLTEXT 인덱스 준비됨, MATCH 검색 사용: {}.{}", index.table(), index.name());
+                    }
+                } else {
+                    readyIndexes.remove(index.name());
+                    if (startup || wasReady) {
+                        log.warn("FULLTEXT 인덱스 없음, LIKE 검색 사용: {}.{}", index.table(), index.name());
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.error("FULLTEXT 인덱스 확인 실패, 이전 상태 유지: {}.{}", index.table(), index.name(), e);
+            }
+        }
+    }
+
+    /**
+     * 이 키워드를 FULLTEXT 인덱스로 검색할 수 있는지
+     */
+    public boolean isEnabled(FullTextIndex index, String keyword) {
+        return properties.getMode() == KeywordSearchProperties.Mode.FULLTEXT
+                && readyIndexes.contains(index.name())
+                && StringUtils.hasText(keyword)
+                && normalize(keyword).length() >= properties.getMinTokenLength();
+    }
+
+    /**
+     * 관련도 점수 (0 이면 불일치). columns 는 인덱스 컬럼과 같은 순서여야 한다.
+     */
+    public NumberExpression<Double> score(String keyword, StringExpression... columns) {
+        String query = toBooleanQuery(keyword);
+        return switch (columns.length) {
+            case 1 -> Expressions.numberTemplate(Double.class,
+                    "function('" + MatchAgainstFunctionContributor.MATCH_AGAINST_SINGLE + "', {0}, {1})",
+                    columns[0], query);
+            case 2 -> Expressions.numberTemplate(Double.class,
+                    "function('" + MatchAgainstFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2})",
+                    columns[0], columns[1], query);
+            default -> throw new IllegalArgumentException("FULLTEXT 검색 컬럼은 1~2개만 지원: " + columns.length);
+        };
+    }
+
+    /**
+     * 사용자 키워드를 BOOLEAN MODE 구문 검색어로 바꾼다.
+     * 큰따옴표로 감싸면 +, -, * 같은 연산자가 문자 그대로 취급되고, ngram 토큰이 연속으로 일치해야 하므로
+     * 기존 LIKE '%keyword%' 와 같은 부분 문자열 검색이 된다.
+     */
+    static String toBooleanQuery(String keyword) {
+        return "\"" + normalize(keyword) + "\"";
+    }
+
+    private static String normalize(String keyword) {
+        return keyword.replace("\"", " ").strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 기본 불용어 목록(information_schema.INNODB_FT_DEFAULT_STOPWORD)으로 토큰을 거르는지
+     * innodb_ft_server_stopword_table 로 직접 지정한 목록은 운영자가 의도한 것으로 보고 그대로 쓴다. 확인에 실패하면 켜진 것으로 본다.
+     */
+    private boolean defaultStopwordsActive() {
+        try {
+            Map<String, Object> row = jdbcTemplate.queryForMap(STOPWORD_SQL);
+            Object enabled = row.get("enabled");
+            boolean stopwordEnabled = enabled != null && !Set.of("0", "OFF", "FALSE").contains(enabled.toString().toUpperCase());
+            Object serverTable = row.get("server_table");
+            return stopwordEnabled && (serverTable == null || !StringUtils.hasText(serverTable.toString()));
+        } catch (DataAccessException e) {
+            log.error("InnoDB FULLTEXT 불용어 설정 확인 실패", e);
+            return true;
+        }
+    }
+
+    private boolean exists(FullTextIndex index) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, index.table(), index.name());
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.soda.global.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 키워드 검색 설정 (search.keyword)
+ * FULLTEXT 모드는 MySQL 의 innodb_ft_enable_stopword=OFF 가 필요하다. (기본 불용어 목록이 켜져 있으면 LIKE 로 검색)
+ * 불용어를 켠 상태에서 만든 인덱스는 설정을 바꾼 뒤 다시 만들어야 한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "search.keyword")
+@Data
+public class KeywordSearchProperties {
+
+    private Mode mode = Mode.FULLTEXT;
+    private int minTokenLength = 2;        // MySQL ngram_token_size. 이보다 짧은 키워드는 ngram 토큰이 없어 LIKE 로 검색
+    private boolean createIndexes = false; // 기동 시 FULLTEXT 인덱스가 없으면 생성 (기본은 db/fulltext-indexes.sql 로 직접 실행)
+    private Duration indexCheckInterval = Duration.ofMinutes(5); // 인덱스 준비 여부 재확인 주기
+    private int snippetLength = 80;        // 하이라이트 스니펫 최대 길이 (문자 수)
+
+    public enum Mode {
+        LIKE,       // LOWER(col) LIKE '%keyword%' (전체 스캔)
+        FULLTEXT    // MATCH ... AGAINST (ngram FULLTEXT 인덱스)
+    }
+}
@@ -0,0 +1,31 @@
+package com.soda.global.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수를 JPQL/QueryDSL 에서 쓸 수 있게 등록한다.
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록)
+ * - match_against(col1, col2, query): MATCH(col1, col2) AGAINST(query IN BOOLEAN MODE)
+ * - match_against_single(col, query): MATCH(col) AGAINST(query IN BOOLEAN MODE)
+ * 반환값은 관련도 점수이며, 0 보다 크면 일치한 행이다.
+ */
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+    public static final String MATCH_AGAINST_SINGLE = "match_against_single";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern(MATCH_AGAINST, "match(?1, ?2) against (?3 in boolean mode)", doubleType);
+        functionContributions.getFunctionRegistry()
+                .registerPattern(MATCH_AGAINST_SINGLE, "match(?1) against (?2 in boolean mode)", doubleType);
+    }
+}
@@ -0,0 +1,53 @@
+package com.soda.global.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 결과 스니펫 생성
+ * 키워드가 처음 나오는 위치 주변을 snippet-length 만큼 잘라 HTML 이스케이프하고, 키워드를 <mark> 로 감싼다.
+ * (DB 에서 일치한 행에 대해서만 호출하므로 목록 한 페이지 분량만 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchHighlighter {
+
+    private static final String ELLIPSIS = "…";
+    private static final String MARK_START = "<mark>";
+    private static final String MARK_END = "</mark>";
+
+    private final KeywordSearchProperties properties;
+
+    /**
+     * @return 키워드가 없거나 본문에서 찾지 못하면 null
+     */
+    public String highlight(String text, String keyword) {
+        if (!StringUtils.hasText(text) || !StringUtils.hasText(keyword)) {
+            return null;
+        }
+        Matcher matcher = Pattern.compile(Pattern.quote(keyword.strip()), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                .matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+        int matchStart = matcher.start();
+        int matchEnd = matcher.end();
+
+        // 키워드가 가운데쯤 오도록 앞뒤 문맥을 나눈다
+        int context = Math.max(0, properties.getSnippetLength() - (matchEnd - matchStart));
+        int start = Math.max(0, matchStart - context / 2);
+        int end = Math.min(text.length(), matchEnd + (context - (matchStart - start)));
+        start = Math.max(0, Math.min(start, end - properties.getSnippetLength()));
+
+        return (start > 0 ? ELLIPSIS : "")
+                + HtmlUtils.htmlEscape(text.substring(start, matchStart))
+                + MARK_START + HtmlUtils.htmlEscape(text.substring(matchStart, matchEnd)) + MARK_END
+                + HtmlUtils.htmlEscape(text.substring(matchEnd, end))
+                + (end < text.length() ? ELLIPSIS : "");
+    }
+}
@@ -0,0 +1,24 @@
+package com.soda.global.security.auth;
+
+import com.soda.member.domain.member.Member;
+import com.soda.member.domain.member.MemberRole;
+
+/**
+ * 인증된 사용자 정보 스냅샷 (캐시/토큰 claims 에 담기 위해 엔티티 대신 사용)
+ *
+ * @param memberId  회원 ID
+ * @param authId    인증 ID
+ * @param role      회원 권한
+ * @param companyId 소속 회사 ID (없으면 null)
+ */
+public record AuthenticatedMember(Long memberId, String authId, MemberRole role, Long companyId) {
+
+    public static AuthenticatedMember from(Member member) {
+        return new AuthenticatedMember(
+                member.getId(),
+                member.getAuthId(),
+                member.getRole(),
+                member.getCompany() != null ? member.getCompany().getId() : null
+        );
+    }
+}
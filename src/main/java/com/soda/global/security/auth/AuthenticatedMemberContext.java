@@ -0,0 +1,59 @@
+package com.soda.global.security.auth;
+
+import com.soda.global.response.GeneralException;
+import com.soda.member.domain.AuthErrorCode;
+import com.soda.member.domain.member.Member;
+import com.soda.member.domain.member.MemberRole;
+import com.soda.member.domain.member.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 현재 요청의 인증된 회원 정보 (요청 단위 빈)
+ * JwtAuthenticationFilter 가 인증 시 한 번 채우고, Facade 에서는 회원을 다시 조회하지 않고 이 값을 사용한다.
+ * 요청 스레드 밖(@Async 등)에서는 사용할 수 없다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class AuthenticatedMemberContext {
+
+    private final MemberService memberService;
+
+    private AuthenticatedMember authenticatedMember;
+
+    public void set(AuthenticatedMember authenticatedMember) {
+        this.authenticatedMember = authenticatedMember;
+    }
+
+    public AuthenticatedMember get() {
+        if (authenticatedMember == null) {
+            throw new GeneralException(AuthErrorCode.AUTHENTICATION_FAILED);
+        }
+        return authenticatedMember;
+    }
+
+    public Long getMemberId() {
+        return get().memberId();
+    }
+
+    public MemberRole getRole() {
+        return get().role();
+    }
+
+    public boolean isAdmin() {
+        return get().role() == MemberRole.ADMIN;
+    }
+
+    public Long getCompanyId() {
+        return get().companyId();
+    }
+
+    /**
+     * 연관관계 설정/작성자 비교용 회원 참조. 조회 쿼리 없이 프록시를 반환하며, ID 외의 필드에 접근할 때만 조회된다.
+     */
+    public Member getMember() {
+        return memberService.getReference(getMemberId());
+    }
+}
@@ -0,0 +1,94 @@
+package com.soda.global.security.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soda.global.security.config.SecurityProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * 인증 principal 로컬 캐시 (authId → UserDetailsImpl)
+ * 요청마다 회원을 조회하지 않도록 TTL/최대 크기가 있는 near-cache 로 보관한다.
+ * 회원 정보 변경/삭제/로그아웃 시 커밋 후 무효화하고, Redis 채널로 다른 노드에도 무효화를 전파한다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+
+    private final Cache<String, UserDetailsImpl> cache;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String invalidationChannel;
+
+    public PrincipalCache(SecurityProperties securityProperties, RedisTemplate<String, Object> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        SecurityProperties.Principal properties = securityProperties.getPrincipal();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.invalidationChannel = properties.getInvalidationChannel();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+    }
+
+    public UserDetailsImpl get(String authId, Function<String, UserDetailsImpl> loader) {
+        return cache.get(authId, loader);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 무효화 (커밋 전에 지우면 다른 요청이 변경 전 값을 다시 캐시할 수 있음)
+     */
+    public void invalidate(String authId) {
+        if (authId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(authId);
+                }
+            });
+        } else {
+            invalidateNow(authId);
+        }
+    }
+
+    private void invalidateNow(String authId) {
+        cache.invalidate(authId);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, authId);
+        } catch (RuntimeException e) {
+            log.warn("principal 캐시 무효화 전파 실패 (다른 노드는 TTL 만료 후 반영): authId={}", authId, e);
+        }
+        log.debug("principal 캐시 무효화: authId={}", authId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String authId = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidate(authId);
+        log.debug("다른 노드 요청으로 principal 캐시 무효화: authId={}", authId);
+    }
+}
@@ -1,6 +1,7 @@
 package com.soda.global.security.auth;
 
 import com.soda.member.domain.member.Member;
+import com.soda.member.domain.member.MemberRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -12,32 +13,36 @@ import java.util.Collections;
 @Getter
 public class UserDetailsImpl implements UserDetails {
 
-    // User 엔티티 객체를 담는 필드
-    private final Member member;
+    // 인증된 사용자 정보 (엔티티를 캐시에 들고 있지 않도록 필요한 값만 담은 스냅샷)
+    private final AuthenticatedMember authenticatedMember;
+    private final Collection<? extends GrantedAuthority> authorities;
 
     public UserDetailsImpl(Member member) {
-        // 생성자를 통해 User 엔티티 객체를 초기화
-        this.member = member;
+        this(AuthenticatedMember.from(member));
+    }
+
+    public UserDetailsImpl(AuthenticatedMember authenticatedMember) {
+        this.authenticatedMember = authenticatedMember;
+        // 회원 role 필드로 SimpleGrantedAuthority 를 만들어 권한 목록으로 사용 (요청마다 만들지 않도록 생성 시 한 번만)
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority(authenticatedMember.role().toString()));
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // 사용자의 권한 목록을 반환하는 메서드
-        // 여기서는 User 엔티티의 role 필드를 사용하여 SimpleGrantedAuthority 객체를 생성하고,
-        // Collections.singletonList()를 사용하여 권한 목록을 생성하여 반환합니다.
-        return Collections.singletonList(new SimpleGrantedAuthority(member.getRole().toString()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        // 사용자의 비밀번호를 반환하는 메서드
-        return member.getPassword();
+        // JWT 인증에서는 비밀번호를 쓰지 않으므로 보관하지 않는다 (로그인 검증은 AuthService 에서 직접 수행)
+        return null;
     }
 
     @Override
     public String getUsername() {
         // 사용자의 아이디를 반환하는 메서드
-        return member.getAuthId();
+        return authenticatedMember.authId();
     }
 
     @Override
@@ -63,11 +68,19 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        // 계정 활성화 여부를 반환하는 메서드
-        return !member.getIsDeleted();
+        // 계정 활성화 여부를 반환하는 메서드 (삭제된 계정은 UserDetailsServiceImpl 에서 걸러짐)
+        return true;
     }
 
     public Long getId() {
-        return member.getId();
+        return authenticatedMember.memberId();
+    }
+
+    public MemberRole getRole() {
+        return authenticatedMember.role();
+    }
+
+    public Long getCompanyId() {
+        return authenticatedMember.companyId();
     }
 }
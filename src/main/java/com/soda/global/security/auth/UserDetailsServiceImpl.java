@@ -19,10 +19,12 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * Spring Security가 인증 과정에서 호출하는 메소드입니다.
-     * 주어진 인증 ID(authId)를 사용하여 데이터베이스에서 사용자 정보를 찾아 UserDetails 객체로 반환합니다.
+     * 주어진 인증 ID(authId)를 사용하여 사용자 정보를 찾아 UserDetails 객체로 반환합니다.
+     * 요청마다 DB를 조회하지 않도록 PrincipalCache에 보관된 값을 먼저 사용합니다.
      *
      * @param authId 로그인 시 사용되는 사용자의 고유 인증 ID (일반적으로 사용자명이나 이메일 등)
      * @return 인증 및 인가에 필요한 사용자 정보를 담은 UserDetails 객체
@@ -31,6 +33,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String authId) throws UsernameNotFoundException {
+        return principalCache.get(authId, this::loadFromDatabase);
+    }
+
+    private UserDetailsImpl loadFromDatabase(String authId) {
         Member member = memberRepository.findByAuthId(authId)
                 .orElseThrow(() -> {
                     log.warn("인증 ID '{}'에 해당하는 사용자를 찾을 수 없습니다.", authId);
@@ -0,0 +1,95 @@
+package com.soda.global.security.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 필터 제외 경로(spring.security.excluded-paths) 매처
+ * 기동 시 한 번만 패턴을 분류/컴파일해 두고, 요청마다는 문자열 비교만 수행한다.
+ * - 와일드카드 없는 경로("/login"): HashSet 조회
+ * - 끝이 "/**" 인 경로("/swagger-ui/**"): 접두사 비교 (접두사 자체와 그 하위 경로 모두 일치)
+ * - 그 외 패턴("/files/*.png", "/members/{id}"): PathPattern 으로 매칭 (이 경우에만 경로 파싱 비용 발생)
+ */
+@Slf4j
+@Component
+public class ExcludedPathMatcher {
+
+    private static final String ANY_SUB_PATH = "/**";
+
+    private final Set<String> literals = new HashSet<>();
+    private final String[] prefixes;
+    private final PathPattern[] patterns;
+
+    @Autowired
+    public ExcludedPathMatcher(SecurityProperties securityProperties) {
+        this(securityProperties.getExcludedPaths());
+    }
+
+    ExcludedPathMatcher(List<String> excludedPaths) {
+        List<String> prefixList = new ArrayList<>();
+        List<PathPattern> patternList = new ArrayList<>();
+
+        if (excludedPaths != null) {
+            PathPatternParser parser = new PathPatternParser();
+            for (String excludedPath : excludedPaths) {
+                // 잘못된 패턴은 기동 시점에 바로 실패하도록 전부 한 번씩 파싱
+                PathPattern pattern = parser.parse(excludedPath);
+                if (isLiteral(excludedPath)) {
+                    literals.add(excludedPath);
+                } else if (excludedPath.endsWith(ANY_SUB_PATH)
+                        && isLiteral(excludedPath.substring(0, excludedPath.length() - ANY_SUB_PATH.length()))) {
+                    prefixList.add(excludedPath.substring(0, excludedPath.length() - ANY_SUB_PATH.length()));
+                } else {
+                    patternList.add(pattern);
+                }
+            }
+        }
+
+        this.prefixes = prefixList.toArray(new String[0]);
+        this.patterns = patternList.toArray(new PathPattern[0]);
+        log.info("인증 제외 경로 컴파일 완료: 고정 경로 {}개, 접두사 {}개, 패턴 {}개", literals.size(), prefixes.length, patterns.length);
+    }
+
+    /**
+     * 주어진 경로가 제외 경로 목록 중 하나와 일치하는지 확인합니다.
+     * @param path 검사할 요청 경로 (servlet path)
+     * @return 제외 경로에 해당하면 true, 아니면 false
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (literals.contains(path)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        if (patterns.length == 0) {
+            return false;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(String path) {
+        return path.indexOf('*') < 0 && path.indexOf('?') < 0 && path.indexOf('{') < 0;
+    }
+}
@@ -36,12 +36,14 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화에 사용할 PasswordEncoder 빈을 등록합니다.
+     * 강도(cost)는 spring.security.password.bcrypt-strength 로 설정합니다.
+     * 요청 처리 중에는 전용 실행기에서 계산하는 PasswordHasher 를 사용합니다.
      *
      * @return BCryptPasswordEncoder 인스턴스
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(securityProperties.getPassword().getBcryptStrength());
     }
 
     /**
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -11,4 +12,27 @@ import java.util.List;
 @Data
 public class SecurityProperties {
     private List<String> excludedPaths;
+    private Principal principal = new Principal();
+    private Password password = new Password();
+
+    public enum PrincipalMode {
+        LOOKUP, // authId 로 회원을 조회 (로컬 캐시 사용)
+        CLAIMS  // 액세스 토큰에 서명된 memberId/role/companyId 를 그대로 사용 (조회 없음, 권한 변경은 토큰 만료 후 반영)
+    }
+
+    @Data
+    public static class Principal {
+        private PrincipalMode mode = PrincipalMode.LOOKUP;
+        private Duration cacheTtl = Duration.ofMinutes(5);
+        private long cacheMaxSize = 10_000;
+        private String invalidationChannel = "auth:principal:invalidate"; // 다른 노드의 캐시 무효화용 Redis 채널
+    }
+
+    @Data
+    public static class Password {
+        private int bcryptStrength = 10;     // 바꾸면 기존 해시는 다음 로그인 때 새 강도로 재해시 (강도를 높일 때만)
+        private int hashPoolSize = Runtime.getRuntime().availableProcessors(); // 동시에 계산할 해시 수
+        private int hashQueueCapacity = 100; // 넘치면 즉시 거절 (503)
+        private Duration hashTimeout = Duration.ofSeconds(5); // 대기 + 계산 최대 시간
+    }
 }
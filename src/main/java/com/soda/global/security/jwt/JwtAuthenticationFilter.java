@@ -1,6 +1,9 @@
 package com.soda.global.security.jwt;
 
+import com.soda.global.security.auth.AuthenticatedMember;
+import com.soda.global.security.auth.AuthenticatedMemberContext;
 import com.soda.global.security.auth.UserDetailsImpl;
+import com.soda.global.security.config.ExcludedPathMatcher;
 import com.soda.global.security.config.SecurityProperties;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -15,7 +18,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -36,17 +38,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider; // JWT 토큰 생성, 검증, 정보 추출 담당
     private final UserDetailsService userDetailsService; // 사용자 정보 로드 서비스
     private final SecurityProperties securityProperties; // 시큐리티 관련 설정값 (제외 경로 등)
-    private final AntPathMatcher antPathMatcher = new AntPathMatcher(); // URL 경로 매칭 유틸리티
+    private final ExcludedPathMatcher excludedPathMatcher; // 기동 시 컴파일된 제외 경로 매처
+    private final AuthenticatedMemberContext authenticatedMemberContext; // 요청 단위 인증 회원 정보 (Facade 에서 재조회 없이 사용)
+
+    /**
+     * 제외 경로 요청은 필터 자체를 실행하지 않습니다. (swagger, 로그인 등)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPathMatcher.matches(request.getServletPath());
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        // 1. 제외 경로 확인: 요청 경로가 필터 적용 제외 대상인지 확인합니다.
-        if (isExcludedPath(request.getServletPath())) {
-            log.debug("제외 경로 요청이므로 필터를 건너갑니다: {}", request.getServletPath());
-            filterChain.doFilter(request, response);
-            return;
-        }
+        // 1. 제외 경로는 shouldNotFilter 에서 이미 걸러짐
 
         // 2. 토큰 추출: HTTP 요청 헤더에서 JWT 토큰을 가져옵니다.
         String token = jwtTokenProvider.resolveToken(request);
@@ -54,19 +60,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 3. 토큰 유무에 따른 처리
         if (StringUtils.hasText(token)) {
             // 3-1. 토큰이 있는 경우: 인증 절차 수행
-            //      (validateToken, getClaims, loadUserByUsername 등에서 예외 발생 시,
+            //      (verify, loadUserByUsername 등에서 예외 발생 시,
             //       이 필터는 잡지 않고 그대로 전파하여 앞단의 JwtExceptionFilter가 처리하도록 함)
             log.debug("JWT 토큰 발견됨. 인증 절차를 시작합니다...");
 
-            // 토큰 유효성 검증 (만료, 서명 등). 실패 시 예외 발생.
-            jwtTokenProvider.validateToken(token);
-            // 토큰에서 Claims 정보 추출. 실패 시 예외 발생.
-            Claims claims = jwtTokenProvider.getClaims(token);
+            // 토큰 유효성 검증(만료, 서명 등)과 Claims 추출을 한 번에 수행. 실패 시 예외 발생.
+            Claims claims = jwtTokenProvider.verify(token);
             // Claims에서 사용자 인증 ID 추출
             String authId = claims.getSubject();
 
-            // 사용자 인증 ID를 이용하여 UserDetails 객체 로드. 사용자를 못 찾으면 예외 발생.
-            UserDetails userDetails = userDetailsService.loadUserByUsername(authId);
+            // UserDetails 객체 로드. claims 모드면 토큰에 서명된 정보를 그대로 쓰고, 아니면 authId로 조회(캐시). 사용자를 못 찾으면 예외 발생.
+            UserDetails userDetails = resolveUserDetails(claims, authId);
 
             // 인증(Authentication) 객체 생성
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -93,6 +97,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 인증에 사용할 UserDetails를 결정합니다.
+     * claims 모드에서는 토큰에 서명된 memberId/role/companyId를 그대로 사용해 조회를 생략합니다.
+     * (principal claims 가 없는 이전 형식 토큰이거나 lookup 모드면 authId로 조회)
+     * @param claims 검증된 토큰의 Claims
+     * @param authId 토큰의 사용자 인증 ID
+     * @return 인증된 사용자의 UserDetails 객체
+     */
+    private UserDetails resolveUserDetails(Claims claims, String authId) {
+        if (securityProperties.getPrincipal().getMode() == SecurityProperties.PrincipalMode.CLAIMS) {
+            AuthenticatedMember authenticatedMember = jwtTokenProvider.getAuthenticatedMember(claims);
+            if (authenticatedMember != null) {
+                return new UserDetailsImpl(authenticatedMember);
+            }
+        }
+        return userDetailsService.loadUserByUsername(authId);
+    }
+
     /**
      * 인증된 사용자의 추가 정보(memberId, role 등)를 HttpServletRequest의 attribute에 설정합니다.
      * 컨트롤러 등 후속 처리 단계에서 이 정보를 활용할 수 있습니다.
@@ -105,33 +127,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // UserDetailsImpl 타입이면 Member 엔티티에서 추가 정보 추출
             request.setAttribute("authId", userDetailsImpl.getUsername());
             request.setAttribute("memberId", userDetailsImpl.getId());
-            request.setAttribute("userRole", userDetailsImpl.getMember().getRole());
+            request.setAttribute("userRole", userDetailsImpl.getRole());
+            authenticatedMemberContext.set(userDetailsImpl.getAuthenticatedMember());
             log.debug("Request Attribute에 사용자 정보 추가 완료: authId={}, memberId={}, userRole={}",
-                    userDetailsImpl.getUsername(), userDetailsImpl.getId(), userDetailsImpl.getMember().getRole());
+                    userDetailsImpl.getUsername(), userDetailsImpl.getId(), userDetailsImpl.getRole());
         } else {
             // UserDetailsImpl 타입이 아닌 경우 (일반적이지 않음), 기본 정보만 추가
             log.warn("UserDetails 객체가 UserDetailsImpl 타입이 아닙니다. 클래스: {}. 사용자 이름(authId)만 추가합니다.", userDetails.getClass().getName());
             request.setAttribute("authId", userDetails.getUsername());
         }
     }
-
-    /**
-     * 주어진 경로가 SecurityProperties에 정의된 제외 경로 목록과 일치하는지 확인합니다.
-     * @param path 검사할 요청 경로
-     * @return 제외 경로에 해당하면 true, 아니면 false
-     */
-    private boolean isExcludedPath(String path) {
-        // 제외 경로 목록이 설정되지 않았으면 false 반환
-        if (securityProperties.getExcludedPaths() == null) {
-            return false;
-        }
-        // 각 제외 경로 패턴과 현재 경로를 비교
-        for (String excludedPath : securityProperties.getExcludedPaths()) {
-            if (antPathMatcher.match(excludedPath, path)) {
-                // 하나라도 일치하면 true 반환
-                return true;
-            }
-        }
-        return false;
-    }
 }
\ No newline at end of file
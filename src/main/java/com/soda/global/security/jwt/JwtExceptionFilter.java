@@ -3,6 +3,7 @@ package com.soda.global.security.jwt;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.soda.global.response.ApiResponseForm;
 import com.soda.global.response.ErrorCode;
+import com.soda.global.security.config.ExcludedPathMatcher;
 import com.soda.member.domain.AuthErrorCode;
 import com.soda.member.domain.member.MemberErrorCode;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -37,6 +38,15 @@ import java.nio.charset.StandardCharsets;
 public class JwtExceptionFilter extends OncePerRequestFilter {
 
     private final ObjectMapper objectMapper;
+    private final ExcludedPathMatcher excludedPathMatcher;
+
+    /**
+     * 제외 경로 요청은 JwtAuthenticationFilter 도 실행되지 않으므로 처리할 JWT 예외가 없어 건너뜁니다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPathMatcher.matches(request.getServletPath());
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -1,7 +1,12 @@
 package com.soda.global.security.jwt;
 
 import com.soda.global.response.GeneralException;
+import com.soda.global.security.auth.AuthenticatedMember;
 import com.soda.member.domain.AuthErrorCode;
+import com.soda.member.domain.member.MemberRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,27 +17,69 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    // 액세스 토큰에 서명해 담는 principal claims (spring.security.principal.mode=claims 에서 조회 없이 사용)
+    private static final String CLAIM_MEMBER_ID = "mid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_COMPANY_ID = "cid";
+    // 리프레시 토큰의 토큰 패밀리 (로그인한 기기/세션 단위, 회전되어도 유지)
+    private static final String CLAIM_FAMILY_ID = "fid";
+
     private final String secretKeyString;
     private final long accessTokenValidTimeMillis;
     private final long refreshTokenValidTimeMillis;
     private final String header;
+    private final Cache<String, Claims> verifiedTokenCache; // 검증된 액세스 토큰의 SHA-256 → Claims (토큰 만료 시각까지)
     private SecretKey key;
+    private JwtParser jwtParser; // 스레드 안전하므로 하나를 만들어 재사용
 
     public JwtTokenProvider(
             @Value("${jwt.secret.key}") String secretKeyString,
             @Value("${jwt.access.expiration}") long accessTokenValidTime,
             @Value("${jwt.refresh.expiration}") long refreshTokenValidTime,
-            @Value("${jwt.access.header}") String header) {
+            @Value("${jwt.access.header}") String header,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+            @Value("${jwt.verified-cache.max-ttl:5m}") Duration verifiedCacheMaxTtl) {
         this.secretKeyString = secretKeyString;
         this.accessTokenValidTimeMillis = accessTokenValidTime;
         this.refreshTokenValidTimeMillis = refreshTokenValidTime;
         this.header = header;
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(untilTokenExpiration(verifiedCacheMaxTtl))
+                .build();
+    }
+
+    // 토큰 만료 시각과 최대 보관 시간 중 먼저 오는 시점에 캐시에서 제거
+    private static Expiry<String, Claims> untilTokenExpiration(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                long untilExpiration = TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis());
+                return Math.max(0, Math.min(untilExpiration, maxTtl.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                return expireAfterCreate(tokenHash, claims, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
     }
 
     // 빈(Bean) 초기화 시 SecretKey 객체 생성 및 유효성 검사
@@ -51,6 +98,9 @@ public class JwtTokenProvider {
                 log.warn("!!! JWT 비밀 키('jwt.secret.key')는 HS256 알고리즘 사용 시 최소 256비트(32바이트) 이상을 권장합니다. 현재 길이: {} 바이트 !!!", keyBytes.length);
             }
             this.key = Keys.hmacShaKeyFor(keyBytes);
+            this.jwtParser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build();
             log.info("JWT 비밀 키 초기화 성공.");
         } catch (IllegalArgumentException e) {
             log.error("!!! JWT 비밀 키('jwt.secret.key') 디코딩 실패. 유효한 Base64 인코딩 문자열인지 확인하세요. 오류: {} !!!", e.getMessage());
@@ -60,13 +110,20 @@ public class JwtTokenProvider {
 
     /**
      * 액세스 토큰을 생성합니다.
-     * @param authId 사용자의 인증 ID
+     * 회원 ID, 권한, 회사 ID를 서명된 claims 로 함께 담습니다.
+     * @param member 인증된 사용자 정보
      * @return 생성된 액세스 토큰 문자열
      */
-    public String createAccessToken(String authId) {
+    public String createAccessToken(AuthenticatedMember member) {
         Date now = new Date();
-        return Jwts.builder()
-                .setSubject(authId)
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(member.authId())
+                .claim(CLAIM_MEMBER_ID, member.memberId())
+                .claim(CLAIM_ROLE, member.role().name());
+        if (member.companyId() != null) {
+            builder.claim(CLAIM_COMPANY_ID, member.companyId());
+        }
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessTokenValidTimeMillis))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -75,19 +132,33 @@ public class JwtTokenProvider {
 
     /**
      * 리프레시 토큰을 생성합니다.
+     * 토큰 패밀리(fid)는 로그인 시 한 번 정해져 회전되어도 유지되고, 토큰 ID(jti)는 회전마다 새로 발급됩니다.
      * @param authId 사용자의 인증 ID
+     * @param familyId 토큰 패밀리 ID (로그인한 기기/세션 단위)
+     * @param tokenId 이번에 발급하는 토큰 ID
      * @return 생성된 리프레시 토큰 문자열
      */
-    public String createRefreshToken(String authId) {
+    public String createRefreshToken(String authId, String familyId, String tokenId) {
         Date now = new Date();
         return Jwts.builder()
                 .setSubject(authId)
+                .setId(tokenId)
+                .claim(CLAIM_FAMILY_ID, familyId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + refreshTokenValidTimeMillis))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 리프레시 토큰 Claims 에서 토큰 패밀리 ID를 꺼냅니다. (패밀리 도입 전 발급된 토큰이면 null)
+     * @param claims 리프레시 토큰 Claims
+     * @return 토큰 패밀리 ID
+     */
+    public String getRefreshTokenFamilyId(Claims claims) {
+        return claims.get(CLAIM_FAMILY_ID, String.class);
+    }
+
     /**
      * HTTP 요청 헤더에서 토큰을 추출합니다. ('Bearer ' 접두사 제거)
      * @param request HTTP 요청 객체
@@ -104,29 +175,54 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 주어진 토큰의 유효성을 검증합니다. (서명, 만료 시간 등)
+     * 토큰을 한 번만 파싱/검증하고 Claims 를 반환합니다. (서명, 만료 시간 등)
+     * 같은 액세스 토큰이 요청마다 반복되므로, 검증에 성공한 토큰은 만료 시각까지 결과를 캐시해 재검증을 생략합니다.
+     * 캐시 키는 토큰의 SHA-256 값입니다. (유효한 토큰 원문이 힙 덤프에 남지 않도록)
      * @param token 검증할 토큰 문자열
-     * @return 유효하면 true 반환 (단, 예외 발생 시 false 대신 예외를 던짐)
-     * @throws IllegalArgumentException 토큰 문자열이 비어있거나 null인 경우
+     * @return 검증된 Claims 객체
+     * @throws GeneralException 토큰 문자열이 비어있거나 null인 경우
      * @throws ExpiredJwtException 토큰이 만료된 경우
      * @throws UnsupportedJwtException 지원되지 않는 형식의 토큰인 경우
      * @throws MalformedJwtException 토큰 형식이 잘못된 경우
      * @throws SignatureException 서명 검증에 실패한 경우
      * @throws IllegalArgumentException 기타 JWT 관련 인자 오류
      */
-    public boolean validateToken(String token) {
-        // 토큰 문자열 존재 여부 확인
-        if (!StringUtils.hasText(token)) {
-            log.warn("토큰 유효성 검증 실패: 토큰 문자열이 비어있거나 null입니다.");
-            throw new GeneralException(AuthErrorCode.NOT_FOUND_TOKEN);
+    public Claims verify(String token) {
+        requireToken(token);
+        String tokenHash = sha256(token);
+        Claims cached = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cached != null && cached.getExpiration() != null
+                && cached.getExpiration().getTime() > System.currentTimeMillis()) {
+            return cached;
+        }
+        Claims claims = parse(token);
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e); // 모든 JDK 가 제공해야 하는 알고리즘
         }
+    }
+
+    /**
+     * 캐시 없이 토큰을 파싱/검증합니다. (리프레시 토큰처럼 한 번 쓰고 버리는 토큰용)
+     * 예외는 verify 와 동일합니다.
+     * @param token 검증할 토큰 문자열
+     * @return 검증된 Claims 객체
+     */
+    public Claims parse(String token) {
+        requireToken(token);
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             log.debug("토큰 유효성 검증 성공.");
-            return true;
+            return claims;
 
         } catch (ExpiredJwtException e) {
             log.debug("토큰 유효성 검증 실패: 토큰이 만료되었습니다 - {}", e.getMessage());
@@ -150,32 +246,10 @@ public class JwtTokenProvider {
         }
     }
 
-    /**
-     * 토큰에서 Claims 정보를 추출합니다. (만료 여부 등은 검증됨)
-     * @param token Claims를 추출할 토큰 문자열
-     * @return 추출된 Claims 객체
-     * @throws IllegalArgumentException 토큰 문자열이 비어있거나 null인 경우
-     * @throws ExpiredJwtException 토큰이 만료된 경우 (일반적으로 유효하지 않음)
-     * @throws JwtException 유효하지 않은 토큰 (서명, 형식 등 오류)
-     */
-    public Claims getClaims(String token) {
+    private void requireToken(String token) {
         if (!StringUtils.hasText(token)) {
-            log.warn("Claims를 가져올 수 없음: 토큰 문자열이 비어있거나 null입니다.");
-            throw new IllegalArgumentException("JWT 토큰 문자열이 비어있거나 null입니다.");
-        }
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            // 만료된 토큰에서 Claims를 읽어야 할 특별한 경우가 아니라면 예외 발생시킴
-            log.debug("Claims를 가져올 수 없음: 토큰이 만료되었습니다 - {}", e.getMessage());
-            throw e;
-        } catch (JwtException e) { // Malformed, Signature, Unsupported 등을 포함한 JWT 관련 예외
-            log.warn("Claims를 가져올 수 없음: 유효하지 않은 JWT입니다 - {}", e.getMessage());
-            throw e;
+            log.warn("토큰 유효성 검증 실패: 토큰 문자열이 비어있거나 null입니다.");
+            throw new GeneralException(AuthErrorCode.NOT_FOUND_TOKEN);
         }
     }
 
@@ -183,17 +257,37 @@ public class JwtTokenProvider {
      * 토큰에서 사용자 인증 ID (Subject)를 추출합니다.
      * @param token 인증 ID를 추출할 토큰 문자열
      * @return 추출된 사용자 인증 ID
-     * @throws JwtException 토큰이 유효하지 않은 경우 (getClaims 내부에서 발생)
+     * @throws GeneralException 토큰이 유효하지 않은 경우
      */
     public String getAuthId(String token) {
         try {
-            return getClaims(token).getSubject();
+            return parse(token).getSubject();
         } catch (JwtException e) {
             log.error("AuthId 추출 실패: 유효하지 않은 토큰으로 Claims 획득 불가 - {}", e.getMessage());
             throw new GeneralException(AuthErrorCode.INVALID_TOKEN);
         }
     }
 
+    /**
+     * 액세스 토큰 claims 에서 사용자 정보를 꺼냅니다.
+     * @param claims 검증된 토큰의 Claims
+     * @return 사용자 정보 (이전 형식 토큰이라 principal claims 가 없으면 null)
+     */
+    public AuthenticatedMember getAuthenticatedMember(Claims claims) {
+        Number memberId = claims.get(CLAIM_MEMBER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (memberId == null || role == null) {
+            return null;
+        }
+        Number companyId = claims.get(CLAIM_COMPANY_ID, Number.class);
+        return new AuthenticatedMember(
+                memberId.longValue(),
+                claims.getSubject(),
+                MemberRole.valueOf(role),
+                companyId != null ? companyId.longValue() : null
+        );
+    }
+
     public String getTokenHeader() {
         return header;
     }
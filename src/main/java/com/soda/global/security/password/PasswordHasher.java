@@ -0,0 +1,123 @@
+package com.soda.global.security.password;
+
+import com.soda.global.response.GeneralException;
+import com.soda.global.security.config.SecurityProperties;
+import com.soda.member.domain.AuthErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 처리 중 BCrypt 해시/비교를 전용 실행기에서 계산한다.
+ * 동시에 계산하는 해시 수를 hash-pool-size 로 묶어 로그인이 몰려도 CPU 를 다른 API 와 나눠 쓰게 하고,
+ * 대기열(hash-queue-capacity)이 차거나 hash-timeout 안에 끝나지 않으면 바로 503 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String EXECUTOR_NAME = "password-hash";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, SecurityProperties securityProperties, MeterRegistry meterRegistry) {
+        SecurityProperties.Password properties = securityProperties.getPassword();
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = properties.getHashTimeout();
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("대기열 포화/시간 초과로 거절된 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getHashPoolSize());
+        executor.setMaxPoolSize(properties.getHashPoolSize());
+        executor.setQueueCapacity(properties.getHashQueueCapacity());
+        executor.setThreadNamePrefix("Password-Hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()); // 호출 스레드에서 실행하지 않고 거절
+        executor.initialize();
+
+        // executor.active / executor.queued / executor.queue.remaining 등 (name=password-hash)
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 해시 계산 시간 (대기 시간 제외)")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시가 현재 강도보다 낮아 재해시가 필요한지 (해시 계산 없음)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 실행기 포화 (active={}, queue={}), 요청 거절",
+                    executor.getActiveCount(), executor.getThreadPoolExecutor().getQueue().size());
+            throw new GeneralException(AuthErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("비밀번호 해시 시간 초과 ({}ms), 요청 거절", timeout.toMillis());
+            throw new GeneralException(AuthErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GeneralException(AuthErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 계산 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+package com.soda.global.security.ratelimit;
+
+import com.soda.global.response.CommonErrorCode;
+import com.soda.global.response.GeneralException;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 초과 (429). retryAfter 는 Retry-After 헤더로 내려간다.
+ */
+public class RateLimitExceededException extends GeneralException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super(CommonErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,25 @@
+package com.soda.global.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Map<String, Policy> policies = new HashMap<>(); // 정책 이름(login, verification, refresh ...) → 제한
+
+    @Data
+    public static class Policy {
+        private Duration window = Duration.ofMinutes(1);
+        private int ipLimit;    // window 동안 IP 하나가 보낼 수 있는 요청 수 (0 이하면 제한 없음)
+        private int keyLimit;   // window 동안 아이디/이메일 하나로 보낼 수 있는 요청 수 (0 이하면 제한 없음)
+    }
+}
@@ -0,0 +1,124 @@
+package com.soda.global.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 엔드포인트 요청 제한 (Redis 슬라이딩 윈도우 로그)
+ * 정책마다 IP 키와 아이디/이메일 키를 두고, 두 키의 확인과 기록을 스크립트 한 번으로 처리한다.
+ * 어느 한 키라도 한도를 넘으면 거부하고, 거부된 요청은 기록하지 않는다. (한도가 풀리는 시점이 계속 밀리지 않도록)
+ * 키에 {정책} 해시 태그를 써서 한 정책의 키가 클러스터에서도 같은 슬롯에 모이게 한다.
+ * Redis 장애 시에는 로그인 자체가 막히지 않도록 허용한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:{";
+
+    // KEYS: 제한 키들, ARGV[1]: 현재 시각(ms), ARGV[2]: window(ms), ARGV[3]: 이번 요청 ID, ARGV[4..]: 키별 한도
+    // 허용이면 0, 거부면 가장 오래 기다려야 하는 키 기준 재시도까지 남은 시간(ms)
+    private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local retryAfter = 0
+            for i, key in ipairs(KEYS) do
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                if redis.call('ZCARD', key) >= tonumber(ARGV[3 + i]) then
+                    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    local wait = math.max(tonumber(oldest[2]) + window - now, 1)
+                    if wait > retryAfter then
+                        retryAfter = wait
+                    end
+                end
+            end
+            if retryAfter > 0 then
+                return retryAfter
+            end
+            for i, key in ipairs(KEYS) do
+                redis.call('ZADD', key, now, ARGV[3])
+                redis.call('PEXPIRE', key, window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 정책에 따라 요청을 기록하고, 한도를 넘었으면 예외를 던집니다.
+     * @param policyName application.yml 의 rate-limit.policies 이름 (없으면 제한하지 않음)
+     * @param clientIp 요청 IP
+     * @param key 아이디 또는 이메일 (없으면 IP 로만 제한)
+     * @throws RateLimitExceededException 한도를 넘은 경우 (429)
+     */
+    public void check(String policyName, String clientIp, String key) {
+        RateLimitProperties.Policy policy = properties.getPolicies().get(policyName);
+        if (!properties.isEnabled() || policy == null) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        List<String> args = new ArrayList<>(5);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(policy.getWindow().toMillis()));
+        args.add(UUID.randomUUID().toString());
+        if (policy.getIpLimit() > 0 && StringUtils.hasText(clientIp)) {
+            keys.add(KEY_PREFIX + policyName + "}:ip:" + clientIp);
+            args.add(String.valueOf(policy.getIpLimit()));
+        }
+        if (policy.getKeyLimit() > 0 && StringUtils.hasText(key)) {
+            keys.add(KEY_PREFIX + policyName + "}:key:" + key.trim().toLowerCase(Locale.ROOT));
+            args.add(String.valueOf(policy.getKeyLimit()));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Long retryAfterMillis;
+        try {
+            retryAfterMillis = redisTemplate.execute(SLIDING_WINDOW, keys, args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("요청 제한 Redis 확인 실패, 허용 처리 - policy: {}, ip: {}", policyName, clientIp, e);
+            counter(policyName, "error").increment();
+            return;
+        }
+
+        if (retryAfterMillis != null && retryAfterMillis > 0) {
+            counter(policyName, "denied").increment();
+            log.warn("요청 제한 초과 - policy: {}, ip: {}, key: {}, retryAfter: {}ms", policyName, clientIp, key, retryAfterMillis);
+            throw new RateLimitExceededException(Duration.ofMillis(retryAfterMillis));
+        }
+        counter(policyName, "allowed").increment();
+    }
+
+    private Counter counter(String policyName, String result) {
+        return counters.computeIfAbsent(policyName + ":" + result, ignored -> Counter.builder("auth.ratelimit.requests")
+                .description("인증 엔드포인트 요청 제한 결과")
+                .tag("policy", policyName)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
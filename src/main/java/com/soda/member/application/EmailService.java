@@ -1,13 +1,11 @@
 package com.soda.member.application;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.soda.member.domain.mail.OutboundMailService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.FileCopyUtils;
 
@@ -15,40 +13,36 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * 메일 본문을 만들어 발송 대기열에 넣는다. 실제 SMTP 발송은 OutboundMailDispatcher 가 요청 밖에서 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
+    private final OutboundMailService outboundMailService;
 
     @Value("classpath:templates/verification-email.html")
     private Resource verificationEmailTemplate;
 
-    private static final String VERIFICATION_CODE_PLACEHOLDER = "{{code}}";
-
-    public void sendVerificationEmail(String to, String code) throws MessagingException, IOException {
-        try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    private String verificationEmailBody; // 템플릿은 기동 시 한 번만 읽음
 
-            helper.setTo(to);
-            helper.setSubject("이메일 인증");
+    private static final String VERIFICATION_CODE_PLACEHOLDER = "{{code}}";
 
-            String text = readTemplate(verificationEmailTemplate).replace(VERIFICATION_CODE_PLACEHOLDER, code);
-            helper.setText(text, true);
+    @PostConstruct
+    public void loadTemplates() throws IOException {
+        verificationEmailBody = readTemplate(verificationEmailTemplate);
+    }
 
-            javaMailSender.send(message);
-        } catch (MessagingException e) {
-            throw e;
-        }
+    public void sendVerificationEmail(String to, String code) {
+        String text = verificationEmailBody.replace(VERIFICATION_CODE_PLACEHOLDER, code);
+        outboundMailService.enqueue(to, "이메일 인증", text);
     }
 
     private String readTemplate(Resource resource) throws IOException {
         try (InputStreamReader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
             return FileCopyUtils.copyToString(reader);
-        } catch (IOException e) {
-            throw e;
         }
     }
 }
@@ -14,6 +14,7 @@ import com.soda.member.interfaces.dto.member.admin.MemberListDto;
 import com.soda.member.interfaces.dto.member.admin.UpdateUserStatusRequestDto;
 import com.soda.member.application.validator.MemberValidator;
 import com.soda.member.domain.member.MemberErrorCode;
+import com.soda.project.domain.member.MemberProjectService;
 import org.springframework.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ public class MemberFacade {
     private final MemberService memberService;
     private final MemberValidator memberValidator;
     private final CompanyService companyService;
+    private final MemberProjectService memberProjectService;
 
     public FindAuthIdResponse findMaskedAuthId(FindAuthIdRequest request) {
         Member member = memberService.findByNameAndEmail(request.getName(), request.getEmail());
@@ -113,6 +115,7 @@ public class MemberFacade {
 
         member = memberService.updateAdminInfo(member, requestDto.getName(), requestDto.getEmail(),
                 requestDto.getRole(), company, requestDto.getPosition(), requestDto.getPhoneNumber());
+        memberProjectService.evictMemberships(List.of(userId)); // 회사가 바뀌면 프로젝트 내 회사 역할도 바뀜
 
         log.info("관리자에 의해 사용자 정보 수정 완료: userId={}", userId);
         return MemberDetailDto.fromEntity(member);
@@ -0,0 +1,160 @@
+package com.soda.member.application;
+
+import com.soda.global.config.AsyncConfig;
+import com.soda.global.config.SchedulingConfig;
+import com.soda.member.config.MailOutboxProperties;
+import com.soda.member.domain.mail.OutboundMail;
+import com.soda.member.domain.mail.OutboundMailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 워커
+ * 발송 대기열에서 메일을 가져와 chunk-size 개씩 나눠 메일 발송 실행기에서 보낸다.
+ * 한 chunk 는 JavaMailSender.send(MimeMessage...) 한 번으로 보내므로 SMTP 연결/STARTTLS 협상을 한 번만 한다.
+ * 실패한 메일은 backoff 뒤 재시도하고, 여러 노드가 동시에 돌아도 SKIP LOCKED 로 같은 메일을 가져가지 않는다.
+ * 조회는 전용 스케줄러에서 하고 발송 완료를 기다리지 않는다. 발송 중인 chunk 가 max-in-flight-chunks 개면 다음 주기까지 더 가져오지 않는다.
+ */
+@Slf4j
+@Component
+public class OutboundMailDispatcher {
+
+    private static final int MAX_BATCHES_PER_RUN = 20; // 한 번 실행에서 처리할 최대 배치 수 (밀린 메일이 많아도 스케줄러를 오래 잡지 않도록)
+
+    private final OutboundMailService outboundMailService;
+    private final JavaMailSender javaMailSender;
+    private final Executor mailSendExecutor;
+    private final MailOutboxProperties properties;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final AtomicInteger inFlightChunks = new AtomicInteger();
+
+    public OutboundMailDispatcher(OutboundMailService outboundMailService, JavaMailSender javaMailSender,
+                                  @Qualifier(AsyncConfig.MAIL_SEND_EXECUTOR) Executor mailSendExecutor,
+                                  MailOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outboundMailService = outboundMailService;
+        this.javaMailSender = javaMailSender;
+        this.mailSendExecutor = mailSendExecutor;
+        this.properties = properties;
+        this.sentCounter = resultCounter("sent", meterRegistry);
+        this.retryCounter = resultCounter("retry", meterRegistry);
+        this.failedCounter = resultCounter("failed", meterRegistry);
+        Gauge.builder("mail.outbox.in-flight-chunks", inFlightChunks, AtomicInteger::get)
+                .description("메일 발송 실행기에서 발송 중이거나 대기 중인 chunk 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("mail.outbox.messages")
+                .description("메일 발송 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:1s}", scheduler = SchedulingConfig.MAIL_OUTBOX_SCHEDULER)
+    public void dispatch() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (inFlightChunks.get() >= properties.getMaxInFlightChunks()) {
+                log.debug("발송 중인 chunk 가 {}개라 다음 주기에 이어서 조회", inFlightChunks.get());
+                return;
+            }
+            List<OutboundMail> claimed = outboundMailService.claimDue();
+            if (claimed.isEmpty()) {
+                return;
+            }
+            for (int from = 0; from < claimed.size(); from += properties.getChunkSize()) {
+                List<OutboundMail> chunk = claimed.subList(from, Math.min(from + properties.getChunkSize(), claimed.size()));
+                inFlightChunks.incrementAndGet();
+                CompletableFuture.runAsync(() -> sendChunk(chunk), mailSendExecutor)
+                        .whenComplete((ignored, e) -> {
+                            inFlightChunks.decrementAndGet();
+                            if (e != null) {
+                                log.error("메일 chunk 발송 중 예외 (lease 가 지난 뒤 다시 발송됨)", e);
+                            }
+                        });
+            }
+            if (claimed.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void deleteSentMails() {
+        int deleted = outboundMailService.deleteSentBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("보관 기간이 지난 발송 완료 메일 삭제: {}건", deleted);
+    }
+
+    private void sendChunk(List<OutboundMail> chunk) {
+        Map<Long, String> errors = new HashMap<>();
+        Map<MimeMessage, Long> messageIds = new IdentityHashMap<>();
+        for (OutboundMail mail : chunk) {
+            try {
+                messageIds.put(createMessage(mail), mail.getId());
+            } catch (MessagingException e) {
+                errors.put(mail.getId(), "메일 생성 실패: " + e.getMessage());
+            }
+        }
+
+        if (!messageIds.isEmpty()) {
+            try {
+                javaMailSender.send(messageIds.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                // 실패한 메일만 failedMessages 에 담긴다 (연결 실패면 전부)
+                e.getFailedMessages().forEach((message, exception) -> {
+                    Long id = messageIds.get(message);
+                    if (id != null) {
+                        errors.put(id, exception.getMessage());
+                    }
+                });
+                if (e.getFailedMessages().isEmpty()) {
+                    messageIds.values().forEach(id -> errors.put(id, e.getMessage()));
+                }
+            } catch (MailException e) {
+                messageIds.values().forEach(id -> errors.put(id, e.getMessage()));
+            }
+        }
+
+        List<Long> sentIds = messageIds.values().stream().filter(id -> !errors.containsKey(id)).toList();
+        try {
+            outboundMailService.markSent(sentIds);
+            int failed = outboundMailService.markFailed(errors);
+            sentCounter.increment(sentIds.size());
+            failedCounter.increment(failed);
+            retryCounter.increment(errors.size() - failed);
+        } catch (RuntimeException e) {
+            // 결과를 못 남기면 lease 가 지난 뒤 다시 발송됨 (중복 발송 가능)
+            log.error("메일 발송 결과 저장 실패: sent={}, failed={}", sentIds, errors.keySet(), e);
+        }
+    }
+
+    private MimeMessage createMessage(OutboundMail mail) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), true);
+        return message;
+    }
+}
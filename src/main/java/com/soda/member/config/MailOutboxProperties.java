@@ -0,0 +1,22 @@
+package com.soda.member.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mail.outbox")
+@Data
+public class MailOutboxProperties {
+    private Duration pollInterval = Duration.ofSeconds(1);       // 발송 대기 메일 조회 주기
+    private int batchSize = 50;                                  // 한 번에 가져오는 메일 수
+    private int chunkSize = 10;                                  // SMTP 연결 하나로 이어서 보내는 메일 수
+    private int maxInFlightChunks = 10;                          // 발송 중인 chunk 가 이만큼 있으면 더 가져오지 않음 (실행기 큐에서 lease 가 지나지 않도록)
+    private Duration lease = Duration.ofMinutes(2);              // 발송 중 노드가 죽으면 이 시간 뒤 다른 노드가 다시 가져감
+    private int maxAttempts = 5;                                 // 넘으면 FAILED 로 남기고 더 보내지 않음
+    private Duration initialBackoff = Duration.ofSeconds(10);    // 실패할 때마다 2배씩 증가
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    private Duration retention = Duration.ofDays(7);             // 발송 완료 메일 보관 기간
+}
@@ -18,7 +18,9 @@ public enum AuthErrorCode implements ErrorCode {
     NOT_FOUND_EMAIL("2011", "가입되지 않은 이메일 입니다.", HttpStatus.UNAUTHORIZED),
     VERIFICATION_CODE_MISMATCH("2012" ,"인증번호가 일치하지 않거나 유효하지 않습니다.",HttpStatus.BAD_REQUEST),
     EXPIRED_REFRESH_TOKEN("2013","Refresh Token이 만료되었습니다." ,HttpStatus.UNAUTHORIZED ),
-    TOKEN_REFRESH_FAILED("2014","Access Token 재발급을 실패했습니다." ,HttpStatus.BAD_REQUEST );
+    TOKEN_REFRESH_FAILED("2014","Access Token 재발급을 실패했습니다." ,HttpStatus.BAD_REQUEST ),
+    REUSED_REFRESH_TOKEN("2015", "이미 사용된 Refresh Token입니다. 다시 로그인해 주세요.", HttpStatus.UNAUTHORIZED),
+    PASSWORD_HASHING_BUSY("2016", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
@@ -2,7 +2,10 @@ package com.soda.member.domain;
 
 import com.soda.member.application.EmailService;
 import com.soda.global.response.GeneralException;
+import com.soda.global.security.auth.AuthenticatedMember;
+import com.soda.global.security.auth.PrincipalCache;
 import com.soda.global.security.jwt.JwtTokenProvider;
+import com.soda.global.security.password.PasswordHasher;
 import com.soda.member.domain.company.Company;
 import com.soda.member.domain.company.CompanyService;
 import com.soda.member.domain.member.Member;
@@ -15,8 +18,11 @@ import com.soda.member.interfaces.dto.member.LoginRequest;
 import com.soda.member.interfaces.dto.member.LoginResponse;
 import com.soda.member.interfaces.dto.member.admin.CreateMemberRequest;
 import com.soda.member.infrastructure.RefreshTokenRepository;
+import com.soda.member.infrastructure.RefreshTokenRepository.RotationResult;
 import com.soda.member.infrastructure.VerificationCodeRepository;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -27,12 +33,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.UUID;
 
 /**
  * 인증 관련 비즈니스 로직을 처리하는 서비스 클래스.
@@ -45,12 +51,13 @@ import java.time.Duration;
 public class AuthService {
 
     private final MemberService memberService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
     private final VerificationCodeRepository verificationCodeRepository;
     private final CompanyService companyService;
+    private final PrincipalCache principalCache;
 
     @Value("${jwt.refresh.expiration}")
     private long refreshTokenValidTimeMillis;
@@ -80,7 +87,7 @@ public class AuthService {
         Member member = Member.builder()
                 .authId(requestDto.getAuthId())
                 .name(requestDto.getName())
-                .password(passwordEncoder.encode(requestDto.getPassword()))
+                .password(passwordHasher.encode(requestDto.getPassword()))
                 .role(requestDto.getRole())
                 .company(company)
                 .build();
@@ -103,6 +110,7 @@ public class AuthService {
         log.info("로그인 시도: authId={}", requestDto.getAuthId());
         Member member = memberService.findMemberByAuthId(requestDto.getAuthId());
         validatePassword(requestDto.getPassword(), member.getPassword(), member.getAuthId());
+        rehashPasswordIfNeeded(member, requestDto.getPassword());
 
         if (member.getMemberStatus() == MemberStatus.AWAY || member.getMemberStatus() == null) {
             member.updateMemberStatus(MemberStatus.AVAILABLE);
@@ -110,9 +118,8 @@ public class AuthService {
                     member.getMemberStatus() == null ? "NULL" : "AWAY", member.getAuthId());
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(member.getAuthId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(member.getAuthId());
-        storeRefreshToken(member.getAuthId(), refreshToken);
+        String accessToken = jwtTokenProvider.createAccessToken(AuthenticatedMember.from(member));
+        String refreshToken = issueRefreshTokenFamily(member.getAuthId());
         addRefreshTokenCookie(response, refreshToken);
         response.setHeader(jwtTokenProvider.getTokenHeader(), "Bearer " + accessToken);
         log.info("로그인 성공: authId={}", member.getAuthId());
@@ -121,10 +128,14 @@ public class AuthService {
 
     /**
      * 제공된 Refresh Token을 검증하고, 유효한 경우 새로운 Access Token과 Refresh Token을 발급하여 응답에 설정합니다.
+     * 저장소 검증과 토큰 교체는 Redis 스크립트 한 번으로 원자적으로 처리합니다.
+     * 여러 탭이 같은 토큰으로 동시에 갱신하면 먼저 도착한 요청만 토큰을 회전시키고,
+     * 유예 시간 안에 직전 토큰으로 들어온 요청은 Access Token만 재발급합니다. (쿠키는 먼저 회전한 응답이 갱신)
+     * 유예 시간이 지난 이전 토큰이 다시 쓰이면 탈취로 보고 해당 패밀리(기기)를 폐기합니다.
      *
      * @param refreshToken 클라이언트로부터 전달받은 Refresh Token 문자열
      * @param response     HttpServletResponse (갱신된 토큰 설정을 위함)
-     * @throws GeneralException Refresh Token이 유효하지 않거나, 만료되었거나, 저장된 토큰과 일치하지 않을 경우 발생
+     * @throws GeneralException Refresh Token이 유효하지 않거나, 만료되었거나, 재사용된 경우 발생
      */
     @Transactional
     public void refreshAccessToken(String refreshToken, HttpServletResponse response) {
@@ -132,25 +143,35 @@ public class AuthService {
 
         String authId = null;
         try {
-            jwtTokenProvider.validateToken(refreshToken);
-
-            authId = jwtTokenProvider.getAuthId(refreshToken);
-
-            validateStoredRefreshToken(authId, refreshToken);
-
-            String newAccessToken = jwtTokenProvider.createAccessToken(authId);
-            String newRefreshToken = jwtTokenProvider.createRefreshToken(authId);
-
-            storeRefreshToken(authId, newRefreshToken);
-            addRefreshTokenCookie(response, newRefreshToken);
+            // 검증과 claims 추출을 한 번의 파싱으로 처리 (리프레시 토큰은 회전되므로 검증 캐시를 쓰지 않음)
+            Claims claims = jwtTokenProvider.parse(refreshToken);
+            authId = claims.getSubject();
+            String familyId = jwtTokenProvider.getRefreshTokenFamilyId(claims);
+            if (familyId == null || claims.getId() == null) {
+                log.warn("토큰 갱신 실패: 토큰 패밀리 정보가 없는 Refresh Token - authId={}", authId);
+                throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+            }
+
+            // 회원 조회/토큰 생성이 실패해도 패밀리가 이미 회전되어 클라이언트가 잠기지 않도록, 새 토큰을 모두 만든 뒤 회전한다
+            Member member = memberService.findMemberByAuthId(authId); // 토큰 claims 에 최신 권한/회사 정보를 담기 위해 조회
+            String newAccessToken = jwtTokenProvider.createAccessToken(AuthenticatedMember.from(member));
+            String newTokenId = UUID.randomUUID().toString();
+            String newRefreshToken = jwtTokenProvider.createRefreshToken(authId, familyId, newTokenId);
+
+            RotationResult result = refreshTokenRepository.rotate(authId, familyId, claims.getId(), newTokenId);
+            validateRotationResult(result, authId, familyId);
+
+            if (result == RotationResult.ROTATED) {
+                addRefreshTokenCookie(response, newRefreshToken);
+            }
             response.setHeader(jwtTokenProvider.getTokenHeader(), "Bearer " + newAccessToken);
 
-            log.info("Access Token 갱신 성공: authId={}", authId);
+            log.info("Access Token 갱신 성공: authId={}, result={}", authId, result);
 
         } catch (ExpiredJwtException e) {
-            try { authId = jwtTokenProvider.getAuthId(e.getClaims().getSubject()); } catch (Exception ignored) {}
+            authId = e.getClaims() != null ? e.getClaims().getSubject() : null;
             log.warn("토큰 갱신 실패: Refresh Token 만료 (authId={})", authId != null ? authId : "추출 불가");
-            if (authId != null) refreshTokenRepository.deleteByAuthId(authId);
+            revokeFamily(e.getClaims());
             throw new GeneralException(AuthErrorCode.EXPIRED_REFRESH_TOKEN);
 
         } catch (SignatureException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
@@ -170,18 +191,19 @@ public class AuthService {
     /**
      * 지정된 이메일 주소로 인증 코드를 발송합니다.
      * 이메일 존재 여부를 먼저 확인합니다.
+     * 코드를 저장한 뒤 메일은 발송 대기열에 넣기만 하고 바로 반환합니다. (SMTP 발송은 OutboundMailDispatcher 가 처리)
      *
      * @param email 인증 코드를 발송할 이메일 주소
-     * @throws GeneralException 해당 이메일의 회원이 존재하지 않거나 메일 발송에 실패한 경우
+     * @throws GeneralException 해당 이메일의 회원이 존재하지 않거나 메일 발송 요청에 실패한 경우
      */
     @Transactional
     public void sendVerificationCode(String email) {
         log.info("이메일 인증 코드 발송 요청: {}", email);
         memberService.validateEmailExists(email);
         String code = generateVerificationCode();
-        sendVerificationEmail(email, code);
         storeVerificationCode(email, code);
-        log.info("인증 코드 전송 및 저장 성공: {}", email);
+        sendVerificationEmail(email, code);
+        log.info("인증 코드 저장 및 메일 발송 요청 성공: {}", email);
     }
 
     /**
@@ -221,20 +243,22 @@ public class AuthService {
     public void resetPassword(ResetPasswordRequest requestDto) {
         log.info("비밀번호 변경 시도: 이메일={}", requestDto.getEmail());
         Member member = memberService.findMemberByEmail(requestDto.getEmail());
-        member.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
-        refreshTokenRepository.deleteByAuthId(member.getAuthId());
+        member.updatePassword(passwordHasher.encode(requestDto.getNewPassword()));
+        refreshTokenRepository.revokeAll(member.getAuthId()); // 모든 기기의 세션 종료
         log.info("비밀번호 변경 및 Refresh Token 삭제 완료: 이메일={}", requestDto.getEmail());
     }
 
     /**
      * 사용자의 로그아웃을 처리합니다.
-     * 저장된 Refresh Token을 삭제하고, 클라이언트의 Refresh Token 쿠키를 만료시킵니다.
+     * 현재 기기의 Refresh Token 패밀리를 폐기하고, 클라이언트의 Refresh Token 쿠키를 만료시킵니다.
+     * (다른 기기의 로그인은 유지됩니다)
      *
+     * @param refreshToken 현재 기기의 Refresh Token (쿠키, 없을 수 있음)
      * @param response HttpServletResponse (쿠키 삭제를 위함)
      * @throws GeneralException 사용자가 인증되지 않았을 경우 발생
      */
     @Transactional
-    public void logout(HttpServletResponse response) {
+    public void logout(String refreshToken, HttpServletResponse response) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
@@ -250,8 +274,9 @@ public class AuthService {
             member.updateMemberStatus(MemberStatus.AWAY);
             log.debug("멤버 상태를 AWAY로 변경: authId={}", authId);
 
-            refreshTokenRepository.deleteByAuthId(authId);
-            log.debug("저장된 Refresh Token 삭제 완료: authId={}", authId);
+            revokeFamilyOf(authId, refreshToken);
+
+            principalCache.invalidate(authId);
 
             clearRefreshTokenCookie(response);
 
@@ -273,7 +298,7 @@ public class AuthService {
      * @throws GeneralException 비밀번호가 일치하지 않을 경우
      */
     private void validatePassword(String inputPassword, String storedPasswordHash, String authIdForLogging) {
-        if (!passwordEncoder.matches(inputPassword, storedPasswordHash)) {
+        if (!passwordHasher.matches(inputPassword, storedPasswordHash)) {
             log.warn("비밀번호 검증 실패: authId={}", authIdForLogging);
             throw new GeneralException(AuthErrorCode.INVALID_CREDENTIALS);
         }
@@ -281,52 +306,111 @@ public class AuthService {
     }
 
     /**
-     * Refresh Token을 저장소에 저장합니다. (기존 토큰 삭제 후 저장)
+     * 저장된 해시의 BCrypt 강도가 현재 설정보다 낮으면, 로그인에 성공한 평문으로 다시 해시해 저장합니다.
+     * (강도 변경 후 사용자가 다시 로그인할 때 점진적으로 반영)
      *
-     * @param authId 사용자 아이디 (토큰의 키로 사용)
-     * @param refreshToken 저장할 Refresh Token 문자열
+     * @param member 로그인한 회원
+     * @param rawPassword 검증에 성공한 평문 비밀번호
      */
-    private void storeRefreshToken(String authId, String refreshToken) {
-        refreshTokenRepository.save(authId, refreshToken);
-        log.debug("새로운 Refresh Token 저장 완료: authId={}", authId);
+    private void rehashPasswordIfNeeded(Member member, String rawPassword) {
+        if (passwordHasher.upgradeEncoding(member.getPassword())) {
+            member.updatePassword(passwordHasher.encode(rawPassword));
+            log.info("비밀번호 해시 강도 갱신: authId={}", member.getAuthId());
+        }
     }
 
     /**
-     * 제공된 Refresh Token과 저장소에 저장된 토큰이 일치하는지 검증합니다.
-     * 불일치 시 보안 위협으로 간주하고 저장된 토큰을 삭제합니다.
+     * 새 Refresh Token 패밀리(로그인한 기기)를 만들고 첫 토큰을 발급합니다.
+     * 기존 기기의 패밀리는 그대로 유지됩니다.
      *
      * @param authId 사용자 아이디
-     * @param providedRefreshToken 클라이언트로부터 받은 Refresh Token
-     * @throws GeneralException 저장된 토큰이 없거나 제공된 토큰과 일치하지 않을 경우
+     * @return 발급된 Refresh Token 문자열
      */
-    private void validateStoredRefreshToken(String authId, String providedRefreshToken) {
-        String storedRefreshToken = refreshTokenRepository.findByAuthId(authId)
-                .orElseThrow(() -> {
-                    log.error("저장된 Refresh Token 검증 실패: 토큰을 찾을 수 없음 - authId={}", authId);
-                    return new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
-                });
-
-        if (!storedRefreshToken.equals(providedRefreshToken)) {
-            log.error("저장된 Refresh Token 검증 실패: 토큰 불일치 - authId={}", authId);
-            refreshTokenRepository.deleteByAuthId(authId);
-            throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+    private String issueRefreshTokenFamily(String authId) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenRepository.issue(authId, familyId, tokenId);
+        log.debug("새로운 Refresh Token 패밀리 저장 완료: authId={}, familyId={}", authId, familyId);
+        return jwtTokenProvider.createRefreshToken(authId, familyId, tokenId);
+    }
+
+    /**
+     * 토큰 회전 결과를 검증합니다.
+     *
+     * @param result 회전 결과
+     * @param authId 사용자 아이디
+     * @param familyId 토큰 패밀리 ID
+     * @throws GeneralException 패밀리가 없거나(로그아웃/만료) 이미 교체된 토큰이 재사용된 경우
+     */
+    private void validateRotationResult(RotationResult result, String authId, String familyId) {
+        switch (result) {
+            case NOT_FOUND -> {
+                log.warn("저장된 Refresh Token 검증 실패: 토큰 패밀리를 찾을 수 없음 - authId={}, familyId={}", authId, familyId);
+                throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            case REUSED -> {
+                log.error("저장된 Refresh Token 검증 실패: 이미 교체된 토큰 재사용, 패밀리 폐기 - authId={}, familyId={}", authId, familyId);
+                throw new GeneralException(AuthErrorCode.REUSED_REFRESH_TOKEN);
+            }
+            default -> log.debug("저장된 Refresh Token 검증 성공: authId={}, familyId={}, result={}", authId, familyId, result);
+        }
+    }
+
+    /**
+     * 로그아웃 시 현재 기기의 Refresh Token 패밀리를 폐기합니다. (만료된 토큰이어도 패밀리는 폐기)
+     * 토큰이 없거나 다른 사용자의 토큰이면 아무것도 하지 않습니다.
+     *
+     * @param authId 로그아웃하는 사용자 아이디
+     * @param refreshToken 현재 기기의 Refresh Token
+     */
+    private void revokeFamilyOf(String authId, String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            log.debug("로그아웃: Refresh Token 쿠키 없음 - authId={}", authId);
+            return;
+        }
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parse(refreshToken);
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        } catch (JwtException | IllegalArgumentException | GeneralException e) {
+            log.debug("로그아웃: 유효하지 않은 Refresh Token 쿠키 - authId={}", authId);
+            return;
+        }
+        if (claims != null && authId.equals(claims.getSubject())) {
+            revokeFamily(claims);
         }
-        log.debug("저장된 Refresh Token 검증 성공: authId={}", authId);
     }
 
     /**
-     * 지정된 이메일로 인증 코드를 발송합니다. (내부 예외 처리)
+     * Refresh Token claims 의 패밀리를 폐기합니다. (패밀리 정보가 없으면 무시)
+     *
+     * @param claims Refresh Token claims
+     */
+    private void revokeFamily(Claims claims) {
+        if (claims == null || claims.getSubject() == null) {
+            return;
+        }
+        String familyId = jwtTokenProvider.getRefreshTokenFamilyId(claims);
+        if (familyId != null) {
+            refreshTokenRepository.revoke(claims.getSubject(), familyId);
+            log.debug("Refresh Token 패밀리 폐기 완료: authId={}, familyId={}", claims.getSubject(), familyId);
+        }
+    }
+
+    /**
+     * 지정된 이메일로 보낼 인증 메일을 발송 대기열에 넣습니다. (내부 예외 처리)
      *
      * @param email 발송 대상 이메일 주소
      * @param code 발송할 인증 코드
-     * @throws GeneralException 이메일 발송 중 오류 발생 시
+     * @throws GeneralException 발송 대기열 저장 중 오류 발생 시
      */
     private void sendVerificationEmail(String email, String code) {
         try {
             emailService.sendVerificationEmail(email, code);
-            log.info("인증 이메일 발송 성공: {}", email);
-        } catch (Exception e) {
-            log.error("인증 이메일 발송 실패: {}", email, e);
+            log.info("인증 이메일 발송 요청 성공: {}", email);
+        } catch (RuntimeException e) {
+            log.error("인증 이메일 발송 요청 실패: {}", email, e);
             throw new GeneralException(AuthErrorCode.MAIL_SEND_FAILED);
         }
     }
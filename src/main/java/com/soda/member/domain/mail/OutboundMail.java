@@ -0,0 +1,96 @@
+package com.soda.member.domain.mail;
+
+import com.soda.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기열에 쌓인 메일 (요청 처리 중에는 저장만 하고, 발송은 OutboundMailDispatcher 가 한다)
+ * 본문에는 인증 코드 등이 들어가므로 발송이 끝나면(SENT/FAILED) 비우고, 보관 기간 동안은 수신자/제목/결과만 남긴다.
+ */
+@Getter
+@Entity
+@Table(name = "outbound_mail", indexes = {
+        @Index(name = "idx_outbound_mail_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboundMail extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String PURGED_BODY = "";
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboundMailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    public OutboundMail(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = OutboundMailStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 워커가 가져감. lease 안에 결과가 기록되지 않으면 다시 가져갈 수 있다.
+     */
+    public void claim(LocalDateTime now, Duration lease) {
+        this.status = OutboundMailStatus.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = now.plus(lease);
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = OutboundMailStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+        this.body = PURGED_BODY;
+    }
+
+    /**
+     * 발송 실패. 최대 시도 횟수 전이면 backoff 뒤 재시도, 아니면 FAILED
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration backoff) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboundMailStatus.FAILED;
+            this.body = PURGED_BODY;
+            return;
+        }
+        this.status = OutboundMailStatus.PENDING;
+        this.nextAttemptAt = now.plus(backoff);
+    }
+}
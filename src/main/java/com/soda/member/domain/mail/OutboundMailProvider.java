@@ -0,0 +1,15 @@
+package com.soda.member.domain.mail;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboundMailProvider {
+    OutboundMail store(OutboundMail outboundMail);
+
+    List<OutboundMail> findDueForUpdate(LocalDateTime now, int limit);
+
+    List<OutboundMail> findAllById(Collection<Long> ids);
+
+    int deleteSentBefore(LocalDateTime before);
+}
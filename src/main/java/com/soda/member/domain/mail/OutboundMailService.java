@@ -0,0 +1,101 @@
+package com.soda.member.domain.mail;
+
+import com.soda.member.config.MailOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 발송 대기열 (outbound_mail 테이블)
+ * 요청 처리 중에는 enqueue 로 저장만 하고, 워커가 claimDue 로 가져가 발송한 뒤 결과를 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboundMailService {
+
+    private final OutboundMailProvider outboundMailProvider;
+    private final MailOutboxProperties properties;
+
+    /**
+     * 발송 대기열에 추가. 호출한 트랜잭션이 커밋되면 워커가 발송한다.
+     */
+    @Transactional
+    public OutboundMail enqueue(String recipient, String subject, String body) {
+        OutboundMail outboundMail = outboundMailProvider.store(OutboundMail.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build());
+        log.debug("메일 발송 대기열 추가: id={}, recipient={}", outboundMail.getId(), recipient);
+        return outboundMail;
+    }
+
+    /**
+     * 발송 시각이 된 메일을 잠그고 SENDING 으로 바꿔 가져간다. (여러 노드가 동시에 호출해도 같은 메일을 가져가지 않음)
+     */
+    @Transactional
+    public List<OutboundMail> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundMail> due = outboundMailProvider.findDueForUpdate(now, properties.getBatchSize());
+        due.forEach(mail -> mail.claim(now, properties.getLease()));
+        return due;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboundMailProvider.findAllById(ids).forEach(mail -> mail.markSent(now));
+    }
+
+    /**
+     * 실패 기록. 재시도 간격은 initialBackoff 부터 시도마다 2배 (maxBackoff 까지)
+     * @param errors 메일 ID → 실패 사유
+     * @return 더 이상 재시도하지 않는(FAILED) 메일 수
+     */
+    @Transactional
+    public int markFailed(Map<Long, String> errors) {
+        if (errors.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int failed = 0;
+        for (OutboundMail mail : outboundMailProvider.findAllById(errors.keySet())) {
+            mail.markFailed(errors.get(mail.getId()), now, properties.getMaxAttempts(), backoff(mail.getAttempts()));
+            if (mail.getStatus() == OutboundMailStatus.FAILED) {
+                failed++;
+                log.error("메일 발송 최종 실패: id={}, recipient={}, attempts={}, error={}",
+                        mail.getId(), mail.getRecipient(), mail.getAttempts(), mail.getLastError());
+            } else {
+                log.warn("메일 발송 실패, {} 뒤 재시도: id={}, attempts={}, error={}",
+                        backoff(mail.getAttempts()), mail.getId(), mail.getAttempts(), mail.getLastError());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일 삭제
+     */
+    @Transactional
+    public int deleteSentBefore(LocalDateTime before) {
+        return outboundMailProvider.deleteSentBefore(before);
+    }
+
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << exponent);
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+}
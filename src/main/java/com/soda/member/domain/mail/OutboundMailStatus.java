@@ -0,0 +1,8 @@
+package com.soda.member.domain.mail;
+
+public enum OutboundMailStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 워커가 가져가 발송 중 (lease 가 지나면 다시 가져갈 수 있음)
+    SENT,
+    FAILED      // 최대 시도 횟수 초과
+}
@@ -13,6 +13,8 @@ public interface MemberProvider {
 
     Optional<Member> findById(Long id);
 
+    Member getReference(Long id);
+
     List<Member> findAllById(List<Long> ids);
 
     Optional<Member> findByIdAndIsDeletedFalse(Long id);
@@ -23,8 +25,6 @@ public interface MemberProvider {
 
     Optional<Member> findByNameAndEmailAndIsDeletedFalse(String name, String email);
 
-    Optional<Member> findWithProjectsById(Long id);
-
     List<Member> findByIdInAndIsDeletedFalse(List<Long> ids);
 
     List<Member> findMembersByIdsAndCompany(List<Long> ids, Company company);
@@ -1,17 +1,17 @@
 package com.soda.member.domain.member;
 
 import com.soda.global.response.GeneralException;
+import com.soda.global.security.auth.PrincipalCache;
+import com.soda.global.security.password.PasswordHasher;
 import com.soda.member.domain.AuthErrorCode;
 import com.soda.member.domain.company.Company;
 import com.soda.member.interfaces.dto.FindAuthIdRequest;
 import com.soda.member.interfaces.dto.FindAuthIdResponse;
 import com.soda.member.interfaces.dto.member.admin.MemberListDto;
-import com.soda.project.domain.ProjectErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -24,13 +24,22 @@ import java.util.List;
 public class MemberService {
 
     private final MemberProvider memberProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
 
     public Member findByIdAndIsDeletedFalse(Long memberId) {
         return memberProvider.findByIdAndIsDeletedFalse(memberId)
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.NOT_FOUND_MEMBER));
     }
 
+    /**
+     * 조회 없이 연관관계 설정/ID 비교용 회원 참조(프록시)를 반환합니다.
+     * ID 외의 필드에 접근하는 시점에 조회되므로, 인증 필터에서 이미 확인된 회원에만 사용합니다.
+     */
+    public Member getReference(Long memberId) {
+        return memberProvider.getReference(memberId);
+    }
+
     public Member findMemberById(Long memberId) {
         return memberProvider.findById(memberId)
                 .orElseThrow(() -> {
@@ -55,11 +64,6 @@ public class MemberService {
         return memberProvider.findByIdInAndIsDeletedFalse(ids);
     }
 
-    public Member getMemberWithProjectOrThrow(Long memberId) {
-        return memberProvider.findWithProjectsById(memberId)
-                .orElseThrow(() -> new GeneralException(MemberErrorCode.NOT_FOUND_MEMBER));
-    }
-
     public FindAuthIdResponse findMaskedAuthId(FindAuthIdRequest request) {
         Member member = memberProvider.findByNameAndEmailAndIsDeletedFalse(request.getName(), request.getEmail())
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.NOT_FOUND_MEMBER));
@@ -93,6 +97,7 @@ public class MemberService {
             member.restore();
         }
         memberProvider.store(member);
+        principalCache.invalidate(member.getAuthId());
     }
 
     @Transactional
@@ -103,19 +108,15 @@ public class MemberService {
 
     @Transactional
     public Member changePassword(Member member, String currentPassword, String newPassword) {
-        if (!passwordEncoder.matches(currentPassword, member.getPassword())) {
+        if (!passwordHasher.matches(currentPassword, member.getPassword())) {
             throw new GeneralException(MemberErrorCode.INVALID_PASSWORD);
         }
 
-        member.updatePassword(passwordEncoder.encode(newPassword));
+        member.updatePassword(passwordHasher.encode(newPassword));
+        principalCache.invalidate(member.getAuthId());
         return memberProvider.store(member);
     }
 
-    public Member findWithProjectsById(Long memberId) {
-        return memberProvider.findWithProjectsById(memberId)
-                .orElseThrow(() -> new GeneralException(ProjectErrorCode.MEMBER_NOT_FOUND));
-    }
-
     public List<Member> findMembersByIdsAndCompany(List<Long> ids, Company company) {
         return memberProvider.findMembersByIdsAndCompany(ids, company);
     }
@@ -143,14 +144,17 @@ public class MemberService {
     @Transactional
     public void setupInitialProfile(Member member, String name, String email, String phoneNumber,
             String authId, String password, String position) {
-        member.initialProfile(name, email, phoneNumber, authId, passwordEncoder.encode(password), position);
+        principalCache.invalidate(member.getAuthId()); // 초기 설정에서 authId 가 바뀔 수 있으므로 이전 값도 무효화
+        member.initialProfile(name, email, phoneNumber, authId, passwordHasher.encode(password), position);
         memberProvider.store(member);
+        principalCache.invalidate(authId);
     }
 
     @Transactional
     public Member updateAdminInfo(Member member, String name, String email, MemberRole role,
             Company company, String position, String phoneNumber) {
         member.updateAdminInfo(name, email, role, company, position, phoneNumber);
+        principalCache.invalidate(member.getAuthId()); // 권한/회사 변경 반영
         return memberProvider.store(member);
     }
 
@@ -1,39 +1,143 @@
 package com.soda.member.infrastructure;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * 리프레시 토큰 패밀리 저장소 (Redis)
+ * 로그인 한 번(기기/세션)이 하나의 패밀리이고, 패밀리마다 현재 유효한 토큰 ID(jti)만 저장한다.
+ * - refresh_token:{authId}:{familyId} → Hash(current, previous, rotated_at)
+ * - refresh_token:{authId}:families  → Set(familyId) (전체 로그아웃/비밀번호 변경 시 일괄 삭제용, 로그인 때 죽은 패밀리 정리)
+ * 키에 {authId} 해시 태그를 써서 한 사용자의 키가 클러스터에서도 같은 슬롯에 모이게 한다.
+ * 회전(검증 + 교체)은 스크립트 한 번으로 원자적으로 처리해 동시 갱신 경쟁이 없고, 네트워크 왕복도 한 번이다.
+ */
 @Repository
-@RequiredArgsConstructor
 public class RefreshTokenRepository {
 
+    private static final String KEY_PREFIX = "refresh_token:{";
+    private static final String FAMILIES_SUFFIX = "}:families";
+
+    // 새 패밀리 등록 (KEYS[1]: 패밀리 키, KEYS[2]: 패밀리 목록 키, ARGV: 토큰 ID, TTL(초), 패밀리 ID, 패밀리 키 접두사)
+    // 목록에서 만료/폐기되어 키가 없는 패밀리는 함께 정리한다 (로그아웃 없이 버려진 기기가 계속 쌓이지 않도록)
+    // 패밀리 키는 목록 키와 같은 {authId} 해시 태그라 클러스터에서도 같은 슬롯이다
+    private static final RedisScript<Long> ISSUE = new DefaultRedisScript<>("""
+            for _, familyId in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+                if redis.call('EXISTS', ARGV[4] .. familyId) == 0 then
+                    redis.call('SREM', KEYS[2], familyId)
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'current', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 현재 토큰이면 새 토큰으로 교체(1), 유예 시간 안의 직전 토큰이면 동시 갱신(2),
+    // 패밀리가 없으면(0), 그 외 토큰이면 재사용으로 보고 패밀리를 폐기(-1)
+    // (ARGV: 제시된 토큰 ID, 새 토큰 ID, TTL(초), 패밀리 ID, 현재 시각(ms), 유예 시간(ms))
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'current', 'previous', 'rotated_at')
+            if not state[1] then
+                return 0
+            end
+            if state[1] == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1], 'rotated_at', ARGV[5])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+                return 1
+            end
+            if state[2] == ARGV[1] and tonumber(ARGV[5]) - tonumber(state[3]) <= tonumber(ARGV[6]) then
+                return 2
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return -1
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final String ttlSeconds;
+    private final String reuseGraceMillis;
 
-    @Value("${jwt.refresh.expiration}")
-    private long refreshTokenValidTime;
+    public RefreshTokenRepository(StringRedisTemplate redisTemplate,
+                                  @Value("${jwt.refresh.expiration}") long refreshTokenValidTime,
+                                  @Value("${jwt.refresh.reuse-grace:10s}") Duration reuseGrace) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = String.valueOf(refreshTokenValidTime / 1000);
+        this.reuseGraceMillis = String.valueOf(reuseGrace.toMillis());
+    }
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    public enum RotationResult {
+        /** 현재 토큰이 맞아 새 토큰으로 교체됨 */
+        ROTATED,
+        /** 유예 시간 안에 직전 토큰으로 다시 갱신 요청 (다른 탭이 먼저 회전시킨 경우) */
+        CONCURRENT,
+        /** 패밀리가 없음 (로그아웃/만료/폐기됨) */
+        NOT_FOUND,
+        /** 이미 교체된 토큰 재사용 → 패밀리 폐기됨 */
+        REUSED
+    }
+
+    public void issue(String authId, String familyId, String tokenId) {
+        redisTemplate.execute(ISSUE, List.of(familyKey(authId, familyId), familiesKey(authId)),
+                tokenId, ttlSeconds, familyId, familyKeyPrefix(authId));
+    }
+
+    public RotationResult rotate(String authId, String familyId, String presentedTokenId, String newTokenId) {
+        Long result = redisTemplate.execute(ROTATE, List.of(familyKey(authId, familyId), familiesKey(authId)),
+                presentedTokenId, newTokenId, ttlSeconds, familyId,
+                String.valueOf(System.currentTimeMillis()), reuseGraceMillis);
+        if (result == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        return switch (result.intValue()) {
+            case 1 -> RotationResult.ROTATED;
+            case 2 -> RotationResult.CONCURRENT;
+            case -1 -> RotationResult.REUSED;
+            default -> RotationResult.NOT_FOUND;
+        };
+    }
+
+    /**
+     * 패밀리 하나(현재 기기)만 폐기
+     */
+    public void revoke(String authId, String familyId) {
+        redisTemplate.delete(familyKey(authId, familyId));
+        redisTemplate.opsForSet().remove(familiesKey(authId), familyId);
+    }
+
+    /**
+     * 사용자의 모든 패밀리(모든 기기) 폐기
+     */
+    public void revokeAll(String authId) {
+        String familiesKey = familiesKey(authId);
+        Set<String> familyIds = redisTemplate.opsForSet().members(familiesKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(familiesKey);
+        if (familyIds != null) {
+            familyIds.forEach(familyId -> keys.add(familyKey(authId, familyId)));
+        }
+        redisTemplate.delete(keys);
+    }
 
-    public void save(String authId, String refreshToken) {
-        redisTemplate.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + authId,
-                refreshToken,
-                refreshTokenValidTime / 1000,
-                TimeUnit.SECONDS
-        );
+    private static String familyKey(String authId, String familyId) {
+        return familyKeyPrefix(authId) + familyId;
     }
 
-    public Optional<String> findByAuthId(String authId) {
-        String token = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + authId);
-        return Optional.ofNullable(token);
+    private static String familyKeyPrefix(String authId) {
+        return KEY_PREFIX + authId + "}:";
     }
 
-    public void deleteByAuthId(String authId) {
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + authId);
+    private static String familiesKey(String authId) {
+        return KEY_PREFIX + authId + FAMILIES_SUFFIX;
     }
 }
@@ -0,0 +1,43 @@
+package com.soda.member.infrastructure.mail;
+
+import com.soda.member.domain.mail.OutboundMail;
+import com.soda.member.domain.mail.OutboundMailProvider;
+import com.soda.member.domain.mail.OutboundMailStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OutboundMailProviderImpl implements OutboundMailProvider {
+
+    // SENDING 은 lease(nextAttemptAt) 가 지난 경우만 조회됨 (발송 중 죽은 노드의 메일)
+    private static final Collection<OutboundMailStatus> DISPATCHABLE = EnumSet.of(OutboundMailStatus.PENDING, OutboundMailStatus.SENDING);
+
+    private final OutboundMailRepository outboundMailRepository;
+
+    @Override
+    public OutboundMail store(OutboundMail outboundMail) {
+        return outboundMailRepository.save(outboundMail);
+    }
+
+    @Override
+    public List<OutboundMail> findDueForUpdate(LocalDateTime now, int limit) {
+        return outboundMailRepository.findDueForUpdate(DISPATCHABLE, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<OutboundMail> findAllById(Collection<Long> ids) {
+        return outboundMailRepository.findAllById(ids);
+    }
+
+    @Override
+    public int deleteSentBefore(LocalDateTime before) {
+        return outboundMailRepository.deleteByStatusAndSentAtBefore(OutboundMailStatus.SENT, before);
+    }
+}
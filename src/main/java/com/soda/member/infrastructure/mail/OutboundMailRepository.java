@@ -0,0 +1,35 @@
+package com.soda.member.infrastructure.mail;
+
+import com.soda.member.domain.mail.OutboundMail;
+import com.soda.member.domain.mail.OutboundMailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    // 발송할 메일을 잠그며 조회. 다른 노드가 잠근 행은 건너뛴다 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select m from OutboundMail m
+            where m.status in :statuses and m.nextAttemptAt <= :now
+            order by m.nextAttemptAt
+            """)
+    List<OutboundMail> findDueForUpdate(@Param("statuses") Collection<OutboundMailStatus> statuses,
+                                        @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OutboundMail m where m.status = :status and m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboundMailStatus status, @Param("before") LocalDateTime before);
+}
@@ -36,6 +36,11 @@ public class MemberProviderImpl implements MemberProvider {
         return memberRepository.findById(id);
     }
 
+    @Override
+    public Member getReference(Long id) {
+        return memberRepository.getReferenceById(id);
+    }
+
     @Override
     public List<Member> findAllById(List<Long> ids) {
         return memberRepository.findAllById(ids);
@@ -61,11 +66,6 @@ public class MemberProviderImpl implements MemberProvider {
         return memberRepository.findByNameAndEmailAndIsDeletedFalse(name, email);
     }
 
-    @Override
-    public Optional<Member> findWithProjectsById(Long id) {
-        return memberRepository.findWithProjectsById(id);
-    }
-
     @Override
     public List<Member> findByIdInAndIsDeletedFalse(List<Long> ids) {
         return memberRepository.findByIdInAndIsDeletedFalse(ids);
@@ -22,8 +22,6 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
 
     Optional<Member> findByEmail(String email);
 
-    Optional<Member> findWithProjectsById(Long id);
-
     boolean existsByEmailAndIsDeletedFalse(String email);
 
     List<Member> findByIdInAndIsDeletedFalse(List<Long> memberIds);
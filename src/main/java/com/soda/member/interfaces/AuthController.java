@@ -10,6 +10,7 @@ import com.soda.member.interfaces.dto.member.LoginResponse;
 import com.soda.member.interfaces.dto.member.admin.CreateMemberRequest;
 import com.soda.member.domain.AuthService;
 import com.soda.member.domain.member.MemberService;
+import com.soda.global.security.ratelimit.RateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final MemberService memberService;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/signup")
     public ResponseEntity<ApiResponseForm<Void>> signup(@RequestBody CreateMemberRequest requestDto) {
@@ -35,25 +37,29 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponseForm<LoginResponse>> login(@RequestBody LoginRequest requestDto, HttpServletResponse response) {
+    public ResponseEntity<ApiResponseForm<LoginResponse>> login(@RequestBody LoginRequest requestDto, HttpServletRequest request, HttpServletResponse response) {
+        rateLimiter.check("login", request.getRemoteAddr(), requestDto.getAuthId()); // BCrypt 비교 전에 제한
         LoginResponse loginResponse = authService.login(requestDto, response);
         return ResponseEntity.ok(ApiResponseForm.success(loginResponse, "로그인 성공"));
     }
 
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponseForm<Void>> refresh(@CookieValue(name = "refreshToken", required = false) String refreshToken, HttpServletRequest request, HttpServletResponse response) {
+        rateLimiter.check("refresh", request.getRemoteAddr(), null);
         authService.refreshAccessToken(refreshToken, response);
         return ResponseEntity.ok(ApiResponseForm.success(null, "액세스 토큰 재발급 성공"));
     }
 
     @PostMapping("/verification")
-    public ResponseEntity<ApiResponseForm> sendVerificationCode(@RequestBody EmailRequest request) throws IOException {
+    public ResponseEntity<ApiResponseForm> sendVerificationCode(@RequestBody EmailRequest request, HttpServletRequest httpRequest) throws IOException {
+        rateLimiter.check("verification", httpRequest.getRemoteAddr(), request.getEmail()); // 메일 발송 전에 제한
         authService.sendVerificationCode(request.getEmail());
         return ResponseEntity.ok(ApiResponseForm.success(null));
     }
 
     @PostMapping("/verification/confirm")
-    public ResponseEntity<ApiResponseForm<VerificationConfirmResponse>> verifyVerificationCode(@RequestBody EmailVerificationRequest request) {
+    public ResponseEntity<ApiResponseForm<VerificationConfirmResponse>> verifyVerificationCode(@RequestBody EmailVerificationRequest request, HttpServletRequest httpRequest) {
+        rateLimiter.check("verification-confirm", httpRequest.getRemoteAddr(), request.getEmail()); // 인증번호 대입 방지
         VerificationConfirmResponse verificationConfirmResponse = authService.verifyVerificationCode(request.getEmail(), request.getCode());
         return ResponseEntity.ok(ApiResponseForm.success(verificationConfirmResponse, "인증번호 확인 결과"));
     }
@@ -65,8 +71,8 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponseForm<Void>> logout(HttpServletResponse response) {
-        authService.logout(response);
+    public ResponseEntity<ApiResponseForm<Void>> logout(@CookieValue(name = "refreshToken", required = false) String refreshToken, HttpServletResponse response) {
+        authService.logout(refreshToken, response);
         return ResponseEntity.ok(ApiResponseForm.success(null, "로그아웃 성공"));
     }
 
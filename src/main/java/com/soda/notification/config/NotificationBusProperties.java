@@ -0,0 +1,17 @@
+package com.soda.notification.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notification.bus")
+@Data
+public class NotificationBusProperties {
+    private boolean redisEnabled = true;                          // false 면 Redis 없이 현재 노드의 Emitter 로만 전달 (로컬 개발/테스트용)
+    private String channel = "notification:events";               // 알림 이벤트를 주고받는 Redis 채널
+    private String nodeId;                                        // 비어 있으면 호스트명 + 랜덤 값으로 생성
+    private Duration connectionReportInterval = Duration.ofSeconds(30); // 노드별 연결 수를 Redis 에 갱신하는 주기
+}
@@ -0,0 +1,18 @@
+package com.soda.notification.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notification.sse")
+@Data
+public class SseProperties {
+    private Duration timeout = Duration.ofHours(1);              // SseEmitter 타임아웃
+    private int replayBufferSize = 50;                           // 사용자별로 보관하는 최근 이벤트 수 (Last-Event-ID 재전송용)
+    private Duration replayRetention = Duration.ofMinutes(10);   // 연결이 없는 사용자의 이벤트 버퍼를 보관하는 시간
+    private Duration heartbeatInterval = Duration.ofSeconds(25); // 이 시간 동안 아무것도 쓰지 않은 연결에 ping 전송
+    private int heartbeatBatchSize = 2000;                       // heartbeat tick 한 번에 ping 을 보내는 최대 연결 수
+}
@@ -2,6 +2,7 @@ package com.soda.notification.controller;
 
 import com.soda.global.response.ApiResponseForm;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
 import com.soda.notification.dto.NotificationResponse;
 import com.soda.notification.error.NotificationErrorCode;
 import com.soda.notification.service.NotificationService;
@@ -28,13 +29,15 @@ public class NotificationController {
 
 
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> subscribe(HttpServletRequest request) {
+    public ResponseEntity<SseEmitter> subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request) {
         Long currentMemberId = (Long) request.getAttribute("memberId");
 
-        log.info("새로운 SSE 연결 요청 for User ID: {}", currentMemberId);
+        log.info("새로운 SSE 연결 요청 for User ID: {}, Last-Event-ID: {}", currentMemberId, lastEventId);
 
         try {
-            SseEmitter emitter = notificationService.subscribe(currentMemberId);
+            SseEmitter emitter = notificationService.subscribe(currentMemberId, lastEventId);
             log.info("Controller: SSE 구독 요청 처리 완료 for User ID: {}", currentMemberId);
             return ResponseEntity.ok(emitter);
         } catch (Exception e) {
@@ -56,6 +59,40 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponseForm.success(notificationPage, "알림 목록 조회 성공"));
     }
 
+    /**
+     * 알림 목록을 커서 기반으로 조회합니다. (무한 스크롤용)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size   조회 개수 (최대 100)
+     * @return 성공 시 알림 목록과 다음 커서
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseForm<SlicedData<NotificationResponse>>> getMyNotificationsSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+        Long currentMemberId = (Long) request.getAttribute("memberId");
+
+        SlicedData<NotificationResponse> notificationSlice = notificationService.getNotificationsSlice(currentMemberId, cursor, size);
+        log.debug("사용자 알림 커서 조회 - User ID: {}, 조회된 항목 수: {}, hasNext: {}",
+                currentMemberId, notificationSlice.getContent().size(), notificationSlice.isHasNext());
+        return ResponseEntity.ok(ApiResponseForm.success(notificationSlice, "알림 목록 조회 성공"));
+    }
+
+    /**
+     * 현재 로그인한 사용자의 읽지 않은 알림 수를 조회합니다. (알림 배지용)
+     *
+     * @return 성공 시 읽지 않은 알림 수
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponseForm<Long>> getUnreadCount(HttpServletRequest request) {
+        Long currentMemberId = (Long) request.getAttribute("memberId");
+
+        long unreadCount = notificationService.getUnreadCount(currentMemberId);
+        log.debug("읽지 않은 알림 수 조회 - User ID: {}, Count: {}", currentMemberId, unreadCount);
+        return ResponseEntity.ok(ApiResponseForm.success(unreadCount, "읽지 않은 알림 수 조회 성공"));
+    }
+
     /**
      * 특정 알림을 읽음 상태로 변경합니다.
      * (이전에 수정한 코드와 동일한 형식 유지)
@@ -89,7 +126,7 @@ public class NotificationController {
 
         log.info("사용자 모든 알림 읽음 처리 요청 - User ID: {}", currentMemberId);
 
-        notificationService.markAllAsReadIterative(currentMemberId);
+        notificationService.markAllAsRead(currentMemberId);
         log.info("사용자 모든 알림 읽음 처리 성공 - User ID: {}", currentMemberId);
 
         return ResponseEntity.ok(ApiResponseForm.success(null, "모든 알림 읽음 처리 성공"));
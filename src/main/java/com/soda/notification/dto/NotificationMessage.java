@@ -0,0 +1,15 @@
+package com.soda.notification.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 노드 간 알림 전달용 Redis 메시지
+ *
+ * @param eventId      클러스터 전체에서 단조 증가하는 SSE 이벤트 id (Last-Event-ID 재전송 기준)
+ * @param userId       알림을 받을 사용자 ID
+ * @param eventName    SSE 이벤트 이름
+ * @param data         전송할 알림 데이터 (JSON)
+ * @param originNodeId 메시지를 발행한 노드 ID
+ */
+public record NotificationMessage(long eventId, Long userId, String eventName, JsonNode data, String originNodeId) {
+}
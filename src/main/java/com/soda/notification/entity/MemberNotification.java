@@ -10,6 +10,10 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(name = "member_notification", indexes = {
+        // 알림 목록/커서 조회: member_id, is_deleted 로 범위를 좁힌 뒤 created_at, id 순서로 바로 탐색
+        @Index(name = "idx_member_notification_member_deleted_created", columnList = "member_id, is_deleted, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberNotification extends BaseEntity {
 
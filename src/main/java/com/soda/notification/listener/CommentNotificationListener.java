@@ -1,14 +1,10 @@
 package com.soda.notification.listener;
 
-import com.soda.member.domain.member.Member;
+import com.soda.global.config.AsyncConfig;
 import com.soda.notification.dto.NotificationData;
-import com.soda.notification.entity.MemberNotification;
-import com.soda.notification.entity.Notification;
 import com.soda.notification.event.CommentCreatedEvent;
 import com.soda.notification.event.ReplyCreatedEvent;
-import com.soda.notification.service.MemberNotificationService;
 import com.soda.notification.service.NotificationService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -17,6 +13,7 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -26,10 +23,8 @@ import java.util.Set;
 public class CommentNotificationListener {
 
     private final NotificationService notificationService;
-    private final MemberNotificationService memberNotificationService;
-    private final EntityManager entityManager;
 
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_WRITE_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleEnrichedCommentCreated(CommentCreatedEvent event) {
         log.info("Event Received After Commit: EnrichedCommentCreatedEvent for comment {}", event.commentId());
@@ -49,11 +44,8 @@ public class CommentNotificationListener {
                         message, link, event.projectId(), event.articleId(), event.commentId()
                 );
 
-                // 알림 전송
-                notificationService.sendNotification(articleAuthorId, "new_comment", notificationData);
-
-                // DB 알림 저장
-                saveNotification(articleAuthorId, notificationData);
+                // DB 알림 저장 + 전송
+                notificationService.notify(List.of(articleAuthorId), "new_comment", notificationData);
             }
         } catch (Exception e) {
             log.error("Error handling EnrichedCommentCreatedEvent: {}", event, e);
@@ -61,7 +53,7 @@ public class CommentNotificationListener {
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async
+    @Async(AsyncConfig.NOTIFICATION_WRITE_EXECUTOR)
     public void handleEnrichedReplyCreated(ReplyCreatedEvent event) {
         log.info("Event Received After Commit: EnrichedReplyCreatedEvent for reply {}", event.replyId());
         try {
@@ -99,56 +91,14 @@ public class CommentNotificationListener {
                     eventName = "new_reply";
                 }
 
-                notificationService.sendNotification(targetUserId, eventName, notificationData);
-
-                // DB 알림 저장
-                saveNotification(articleAuthorId, notificationData);
+                // DB 알림 저장 + 전송 (수신자마다 메시지가 다르므로 대상별로 저장)
+                notificationService.notify(List.of(targetUserId), eventName, notificationData);
             }
         } catch (Exception e) {
             log.error("Error handling EnrichedReplyCreatedEvent: {}", event, e);
         }
     }
 
-    /**
-     * Notification 엔티티를 생성하고 DB에 저장합니다.
-     * Member 엔티티는 ID를 이용해 프록시 객체로 참조합니다.
-     *
-     * @param receiverId 알림 수신자 ID
-     * @param data       알림 데이터 DTO
-     */
-    private void saveNotification(Long receiverId, NotificationData data) {
-        try {
-            // <<< EntityManager를 사용하여 Member 프록시 객체 가져오기 >>>
-            Member receiverProxy = entityManager.getReference(Member.class, receiverId);
-
-            Notification notification = Notification.builder()
-                    .notificationType(data.type())
-                    .message(data.message())
-                    .link(data.link())
-                    .articleId(data.articleId())
-                    .commentId(data.commentId())
-                    .replyId(data.replyId())
-                    .taskId(data.requestId())
-                    .approvalId(data.responseId())
-                    .build();
-            Notification savedNotification = notificationService.save(notification);
-
-            MemberNotification memberNotification = MemberNotification.builder()
-                    .member(receiverProxy)
-                    .notification(savedNotification)
-                    .build();
-
-            memberNotificationService.save(memberNotification);
-
-            log.info("알림 저장 완료 for User ID: {}", receiverId);
-
-        } catch (jakarta.persistence.EntityNotFoundException enfe) {
-            log.error("알림 저장 실패: 프록시 대상 Member 엔티티를 찾을 수 없습니다. ID: {}", receiverId, enfe);
-        } catch (Exception e) {
-            log.error("알림 DB 저장 실패 for User ID: {}, Data: {}", receiverId, data, e);
-        }
-    }
-
     private String truncateContent(String content) {
         int maxLength = 50;
         if (content == null) return "";
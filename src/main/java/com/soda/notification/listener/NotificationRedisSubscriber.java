@@ -0,0 +1,51 @@
+package com.soda.notification.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soda.notification.config.NotificationBusProperties;
+import com.soda.notification.dto.NotificationMessage;
+import com.soda.notification.service.NotificationBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 알림 채널 구독자. 모든 노드가 같은 채널을 구독하고, 각자 연결된 사용자에게만 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRedisSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NotificationBroadcaster notificationBroadcaster;
+    private final NotificationBusProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!properties.isRedisEnabled()) {
+            log.info("Redis 알림 버스 비활성화 - 현재 노드의 Emitter 로만 알림 전달");
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+        log.info("알림 채널 구독 시작 - 채널: {}", properties.getChannel());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationMessage notificationMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationMessage.class);
+            notificationBroadcaster.deliverLocally(notificationMessage);
+        } catch (Exception e) {
+            log.error("알림 채널 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.soda.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MemberNotification 대량 저장
+ * JPA 는 IDENTITY 전략이라 배치 insert 가 되지 않으므로, 수신자 행을 multi-row INSERT 한 문장으로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberNotificationBulkRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1000; // 한 문장에 넣는 최대 행 수 (패킷 크기 제한 대비)
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 저장된 행 수
+     */
+    public int insertAll(Long notificationId, List<Long> memberIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < memberIds.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, memberIds.size()));
+            inserted += insertChunk(notificationId, chunk, now);
+        }
+        return inserted;
+    }
+
+    private int insertChunk(Long notificationId, List<Long> memberIds, Timestamp now) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO member_notification (member_id, notification_id, created_at, updated_at, is_deleted) VALUES ");
+        List<Object> params = new ArrayList<>(memberIds.size() * 4);
+        for (int i = 0; i < memberIds.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, false)");
+            params.add(memberIds.get(i));
+            params.add(notificationId);
+            params.add(now);
+            params.add(now);
+        }
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
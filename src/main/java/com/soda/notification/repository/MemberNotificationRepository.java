@@ -1,11 +1,16 @@
 package com.soda.notification.repository;
 
 import com.soda.notification.entity.MemberNotification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MemberNotificationRepository extends JpaRepository<MemberNotification, Long> {
@@ -14,4 +19,32 @@ public interface MemberNotificationRepository extends JpaRepository<MemberNotifi
     Page<MemberNotification> findByMemberIdAndIsDeletedFalse(Long memberId, Pageable pageable);
 
     List<MemberNotification> findByMemberIdAndIsDeletedFalse(Long userId);
+
+    // 커서 기반 조회 첫 페이지 (idx_member_notification_member_deleted_created 인덱스 순서 그대로 읽음)
+    @EntityGraph(attributePaths = {"notification"})
+    List<MemberNotification> findByMemberIdAndIsDeletedFalseOrderByCreatedAtDescIdDesc(Long memberId, Limit limit);
+
+    // 커서 기반 조회 다음 페이지 (커서 위치부터 인덱스를 바로 탐색, offset/count 없음)
+    @EntityGraph(attributePaths = {"notification"})
+    @Query("""
+            select mn from MemberNotification mn
+            where mn.member.id = :memberId and mn.isDeleted = false
+              and (mn.createdAt < :createdAt or (mn.createdAt = :createdAt and mn.id < :id))
+            order by mn.createdAt desc, mn.id desc
+            """)
+    List<MemberNotification> findByMemberIdAndIsDeletedFalseBefore(@Param("memberId") Long memberId,
+                                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                                    @Param("id") Long id,
+                                                                    Limit limit);
+
+    long countByMemberIdAndIsDeletedFalse(Long memberId);
+
+    // 읽지 않은 알림 일괄 읽음 처리 (엔티티 로딩/dirty checking 없이 UPDATE 한 번)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update MemberNotification mn
+            set mn.isDeleted = true, mn.updatedAt = :now
+            where mn.member.id = :memberId and mn.isDeleted = false
+            """)
+    int markAllAsRead(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
 }
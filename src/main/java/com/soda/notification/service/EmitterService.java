@@ -1,106 +1,367 @@
 package com.soda.notification.service;
 
+import com.soda.global.config.AsyncConfig;
+import com.soda.global.config.SchedulingConfig;
+import com.soda.notification.config.SseProperties;
+import com.soda.notification.service.UserEventBuffer.BufferedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class EmitterService {
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 1시간
+    private static final String RESYNC_EVENT_NAME = "resync"; // 재전송할 이벤트가 버퍼에서 밀려난 경우, 클라이언트에 전체 재조회를 요청
 
+    private final SseProperties properties;
+    private final SseEventSequence eventSequence;
+    private final Executor sendExecutor;
+
+    private final Map<Long, Set<SseConnection>> emitters = new ConcurrentHashMap<>(); // 사용자별 연결 (탭/기기마다 하나씩)
+    private final Map<Long, UserEventBuffer> eventBuffers = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong appendSequence = new AtomicLong(); // 버퍼에 들어온 순서 (버퍼 락 안에서 발급)
+
+    private final Counter evictedCounter;
+    private final Counter timedOutCounter;
+
+    public EmitterService(SseProperties properties, SseEventSequence eventSequence,
+                          @Qualifier(AsyncConfig.NOTIFICATION_SEND_EXECUTOR) Executor sendExecutor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.eventSequence = eventSequence;
+        this.sendExecutor = sendExecutor;
+        this.evictedCounter = Counter.builder("notification.sse.evicted")
+                .description("heartbeat/전송 실패로 정리된 SSE 연결 수")
+                .register(meterRegistry);
+        this.timedOutCounter = Counter.builder("notification.sse.timed-out")
+                .description("타임아웃으로 종료된 SSE 연결 수")
+                .register(meterRegistry);
+    }
 
     public SseEmitter createAndAddEmitter(Long userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        log.info("사용자 ID '{}'에 대한 SseEmitter 생성 시작. 타임아웃: {}ms", userId, DEFAULT_TIMEOUT);
+        return createAndAddEmitter(userId, null);
+    }
 
-        this.emitters.put(userId, emitter);
-        log.info("사용자 ID '{}'의 Emitter 추가 완료. 현재 Emitter 수: {}", userId, emitters.size());
+    /**
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID 헤더 값 (없으면 null)
+     */
+    public SseEmitter createAndAddEmitter(Long userId, String lastEventId) {
+        long timeout = properties.getTimeout().toMillis();
+        SseEmitter emitter = new SseEmitter(timeout);
+        SseConnection connection = new SseConnection(userId, emitter);
+        log.info("사용자 ID '{}'에 대한 SseEmitter 생성 시작. 타임아웃: {}ms, Last-Event-ID: {}", userId, timeout, lastEventId);
 
         emitter.onCompletion(() -> {
             log.info("SSE 연결 완료됨 (onCompletion). 사용자 ID: {}", userId);
-            removeEmitterInternal(userId, emitter, "완료");
+            removeEmitterInternal(connection, "완료");
         });
         emitter.onTimeout(() -> {
-            log.warn("SSE 연결 시간 초과 (onTimeout). 사용자 ID: {}", userId);
+            log.info("SSE 연결 시간 초과 (onTimeout). 사용자 ID: {}", userId);
+            if (removeEmitterInternal(connection, "시간 초과")) {
+                timedOutCounter.increment();
+            }
+            emitter.complete();
         });
         emitter.onError(throwable -> {
-            log.error("SSE 연결 오류 발생 (onError). 사용자 ID: {}. 오류: {}", userId, throwable.getMessage());
-            removeEmitterInternal(userId, emitter, "오류");
+            log.warn("SSE 연결 오류 발생 (onError). 사용자 ID: {}. 오류: {}", userId, throwable.getMessage());
+            removeEmitterInternal(connection, "오류");
         });
 
-        sendConnectionEstablishedEvent(userId, emitter);
+        if (!sendConnectionEstablishedEvent(userId, emitter)) {
+            return emitter;
+        }
+
+        // 등록과 재전송을 같은 락 안에서 처리해야 재전송 도중 들어온 실시간 이벤트가 순서를 앞지르지 않는다
+        // 새로 만드는 버퍼는 지금까지 발급된 id 이후만 보장한다
+        UserEventBuffer buffer = bufferOf(userId, eventSequence.current());
+        synchronized (buffer) {
+            this.emitters.compute(userId, (id, connections) -> {
+                Set<SseConnection> target = connections != null ? connections : ConcurrentHashMap.newKeySet();
+                target.add(connection);
+                return target;
+            });
+            connectionCount.incrementAndGet();
+            log.info("사용자 ID '{}'의 Emitter 추가 완료. 현재 Emitter 수: {}", userId, connectionCount.get());
+
+            replayMissedEvents(connection, buffer, lastEventId);
+            connection.markSent(buffer.lastSeq()); // 이미 버퍼에 있던 이벤트는 재전송으로 처리됨
+        }
 
         return emitter;
     }
 
     /**
      * 내부 Emitter 제거 로직
+     *
+     * @return 이번 호출로 실제 제거되었는지 (이미 제거된 경우 false)
      */
-    private void removeEmitterInternal(Long userId, SseEmitter emitterToRemove, String reason) {
-        SseEmitter currentEmitter = this.emitters.get(userId);
-        if (currentEmitter != null && currentEmitter == emitterToRemove) {
-            this.emitters.remove(userId);
-            log.info("사용자 ID '{}'의 Emitter 제거 완료. 이유: {}. 현재 Emitter 수: {}", userId, reason, emitters.size());
+    private boolean removeEmitterInternal(SseConnection connection, String reason) {
+        Long userId = connection.getUserId();
+        AtomicBoolean removed = new AtomicBoolean();
+        this.emitters.computeIfPresent(userId, (id, connections) -> {
+            removed.set(connections.remove(connection));
+            return connections.isEmpty() ? null : connections;
+        });
+
+        if (removed.get()) {
+            connectionCount.decrementAndGet();
+            log.info("사용자 ID '{}'의 Emitter 제거 완료. 이유: {}. 현재 Emitter 수: {}", userId, reason, connectionCount.get());
         } else {
-            log.warn("사용자 ID '{}'의 Emitter 제거 실패. 이유: {}. (현재 Emitter 인스턴스가 다르거나 이미 제거됨)", userId, reason);
+            log.debug("사용자 ID '{}'의 Emitter 제거 건너뜀. 이유: {}. (이미 제거됨)", userId, reason);
         }
+        return removed.get();
     }
 
-    private void sendConnectionEstablishedEvent(Long userId, SseEmitter emitter) {
+    private boolean sendConnectionEstablishedEvent(Long userId, SseEmitter emitter) {
         try {
+            // id 를 붙이면 브라우저의 Last-Event-ID 가 덮어써지므로 연결 이벤트에는 id 를 넣지 않는다
             emitter.send(SseEmitter.event()
-                    .id(userId + "_connect_" + System.currentTimeMillis())
                     .name("connect")
                     .data("SSE 연결이 성공적으로 수립되었습니다. 사용자 ID: " + userId)
             );
             log.info("사용자 ID '{}'에게 초기 연결 이벤트 전송 완료.", userId);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.error("사용자 ID '{}'에게 초기 연결 이벤트 전송 실패.", userId, e);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void replayMissedEvents(SseConnection connection, UserEventBuffer buffer, String lastEventIdHeader) {
+        Long userId = connection.getUserId();
+        Long lastEventId = parseEventId(lastEventIdHeader);
+        if (lastEventId == null) {
+            return;
+        }
+
+        // 발급된 적 없는 id (재기동/카운터 초기화 이전의 id) 면 이어지는지 알 수 없으므로 resync
+        if (lastEventId > eventSequence.current() && lastEventId > eventSequence.refresh()) {
+            log.info("사용자 ID '{}'의 Last-Event-ID({})가 발급된 id 범위를 벗어남. resync 이벤트 전송.", userId, lastEventId);
+            sendToEmitter(connection, SseEmitter.event().name(RESYNC_EVENT_NAME).data(lastEventId), RESYNC_EVENT_NAME);
+            return;
+        }
+        if (buffer.isMissingEventsAfter(lastEventId)) {
+            log.info("사용자 ID '{}'의 재전송 범위가 버퍼를 벗어남 (Last-Event-ID: {}). resync 이벤트 전송.", userId, lastEventId);
+            sendToEmitter(connection, SseEmitter.event().name(RESYNC_EVENT_NAME).data(lastEventId), RESYNC_EVENT_NAME);
+            return;
+        }
+
+        List<BufferedEvent> missed = buffer.eventsAfter(lastEventId);
+        for (BufferedEvent event : missed) {
+            if (!sendToEmitter(connection, toSseEvent(event), event.eventName())) {
+                return;
+            }
+        }
+        if (!missed.isEmpty()) {
+            log.info("사용자 ID '{}'에게 놓친 이벤트 {}건 재전송 (Last-Event-ID: {})", userId, missed.size(), lastEventId);
+        }
+    }
+
+    /**
+     * SseEventSequence 에서 발급한 id 로 전송
+     * 버퍼에는 호출 스레드에서 바로 넣고(들어온 순서 확정), 전송만 알림 전송 실행기에서 한다.
+     * 전송 작업은 순서와 상관없이 실행돼도 각 연결에 아직 보내지 않은 이벤트를 버퍼 순서대로 보내므로, 실행기 스레드가 여럿이어도 순서가 바뀌지 않는다.
+     */
+    public void sendNotification(Long userId, long eventId, String eventName, Object data) {
+        bufferEvent(userId, eventId, eventName, data);
+        if (hasEmitter(userId)) {
+            sendExecutor.execute(() -> dispatchPending(userId));
+        }
+    }
+
+    /**
+     * 현재 노드에 연결이 없는 사용자의 이벤트는 버퍼에만 남겨, 이 노드로 재연결하는 경우에도 재전송할 수 있게 한다.
+     */
+    public void bufferEvent(Long userId, long eventId, String eventName, Object data) {
+        UserEventBuffer buffer = bufferOf(userId, eventId - 1);
+        synchronized (buffer) {
+            buffer.append(appendSequence.incrementAndGet(), eventId, eventName, data);
+        }
+    }
+
+    private void dispatchPending(Long userId) {
+        String currentThreadName = Thread.currentThread().getName();
+        UserEventBuffer buffer = eventBuffers.get(userId);
+        if (buffer == null) {
+            return;
+        }
+
+        synchronized (buffer) {
+            Set<SseConnection> connections = this.emitters.get(userId);
+            if (connections == null || connections.isEmpty()) {
+                log.debug("[{}] 사용자 ID '{}'에 대한 활성 Emitter 없음. 이벤트는 버퍼에만 보관.", currentThreadName, userId);
+                return;
+            }
+
+            for (SseConnection connection : connections) {
+                if (buffer.isMissingAppendsAfter(connection.getSentSeq())) {
+                    // 전송이 밀려 있는 동안 버퍼가 넘쳐 보내지 못한 이벤트가 생김
+                    log.info("[{}] 사용자 ID '{}'의 미전송 이벤트가 버퍼에서 밀려남. resync 이벤트 전송.", currentThreadName, userId);
+                    if (!sendToEmitter(connection, SseEmitter.event().name(RESYNC_EVENT_NAME).data(connection.getSentSeq()), RESYNC_EVENT_NAME)) {
+                        continue;
+                    }
+                }
+                for (BufferedEvent event : buffer.eventsAppendedAfter(connection.getSentSeq())) {
+                    log.info("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 시도. 연결 수: {}", currentThreadName, userId, event.eventName(), connections.size());
+                    if (!sendToEmitter(connection, toSseEvent(event), event.eventName())) {
+                        break;
+                    }
+                    connection.markSent(event.seq());
+                }
+                connection.markSent(buffer.lastSeq());
+            }
+        }
+    }
+
+    private boolean sendToEmitter(SseConnection connection, SseEmitter.SseEventBuilder event, String eventName) {
+        String currentThreadName = Thread.currentThread().getName();
+        Long userId = connection.getUserId();
+        try {
+            connection.getEmitter().send(event);
+            connection.markWritten();
+            return true;
         } catch (IOException e) {
-            log.error("사용자 ID '{}'에게 초기 연결 이벤트 전송 실패. Emitter 제거 시도.", userId, e);
-            removeEmitterInternal(userId, emitter, "초기 전송 실패");
+            log.error("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 실패 (IOException). Emitter 제거 시도.", currentThreadName, userId, eventName, e);
+            evict(connection, "전송 실패(IO)", e);
+        } catch (IllegalStateException e) {
+            log.error("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 실패 (IllegalStateException - Emitter 완료됨). Emitter 제거 시도.", currentThreadName, userId, eventName, e);
+            evict(connection, "전송 실패(완료됨)", e);
+        }
+        return false;
+    }
+
+    /**
+     * 끊어진 연결을 목록에서 빼고 async 컨텍스트도 바로 반환한다 (타임아웃까지 기다리지 않음)
+     */
+    private void evict(SseConnection connection, String reason, Throwable cause) {
+        if (removeEmitterInternal(connection, reason)) {
+            evictedCounter.increment();
         }
+        connection.getEmitter().completeWithError(cause);
     }
 
-    @Async
-    public void sendNotification(Long userId, String eventName, Object data) {
-        Optional<SseEmitter> emitterOptional = this.getEmitter(userId);
-        if (emitterOptional.isPresent()) {
-            SseEmitter emitter = emitterOptional.get();
-            String currentThreadName = Thread.currentThread().getName();
+    /**
+     * 일정 시간 아무것도 쓰지 않은 연결에 주석 ping 을 보내 프록시/LB 의 유휴 종료를 막고, 끊어진 연결을 찾아 정리한다.
+     * 매 tick 마다 조용한 연결만 최대 heartbeat-batch-size 개씩 보내므로, 연결이 많아도 한 번에 몰리지 않는다.
+     * 다른 @Scheduled 작업이 길어져도 heartbeat 가 밀리지 않도록 전용 스케줄러에서 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-tick:1s}", scheduler = SchedulingConfig.SSE_HEARTBEAT_SCHEDULER)
+    public void sendHeartbeats() {
+        long quietThreshold = System.currentTimeMillis() - properties.getHeartbeatInterval().toMillis();
+        int batchSize = properties.getHeartbeatBatchSize();
+
+        List<SseConnection> batch = new ArrayList<>(Math.min(batchSize, Math.max(connectionCount.get(), 0)));
+        for (Set<SseConnection> connections : this.emitters.values()) {
+            for (SseConnection connection : connections) {
+                if (connection.isQuietSince(quietThreshold)) {
+                    batch.add(connection);
+                    if (batch.size() >= batchSize) {
+                        break;
+                    }
+                }
+            }
+            if (batch.size() >= batchSize) {
+                break;
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        int failed = 0;
+        for (SseConnection connection : batch) {
             try {
-                log.info("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 시도.", currentThreadName, userId, eventName);
-                emitter.send(SseEmitter.event()
-                        .id(userId + "_" + eventName + "_" + System.currentTimeMillis())
-                        .name(eventName)
-                        .data(data)
-                );
-                log.info("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 성공.", currentThreadName, userId, eventName);
-            } catch (IOException e) {
-                log.error("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 실패 (IOException). Emitter 제거 시도.", currentThreadName, userId, eventName, e);
-                removeEmitterInternal(userId, emitter, "전송 실패(IO)");
-            } catch (IllegalStateException e) {
-                log.error("[{}] 사용자 ID '{}'에게 '{}' 이벤트 전송 실패 (IllegalStateException - Emitter 완료됨). Emitter 제거 시도.", currentThreadName, userId, eventName, e);
-                removeEmitterInternal(userId, emitter, "전송 실패(완료됨)");
+                connection.getEmitter().send(SseEmitter.event().comment("ping")); // 클라이언트에 이벤트로 전달되지 않는 주석 라인
+                connection.markWritten();
+            } catch (IOException | IllegalStateException e) {
+                failed++;
+                log.debug("heartbeat 실패, 연결 정리 - 사용자 ID: {}, 오류: {}", connection.getUserId(), e.getMessage());
+                evict(connection, "heartbeat 실패", e);
             }
-        } else {
-            log.warn("[{}] 사용자 ID '{}'에 대한 활성 Emitter 없음. '{}' 이벤트 전송 건너뜀.", Thread.currentThread().getName(), userId, eventName);
         }
+        log.debug("heartbeat 전송 {}건, 정리 {}건. 현재 Emitter 수: {}", batch.size(), failed, connectionCount.get());
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(BufferedEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.eventName())
+                .data(event.data());
+    }
+
+    /**
+     * @param coveredFromId 버퍼를 새로 만들 때, 이 id 이후 이벤트만 버퍼에 있다고 본다
+     *                      (그 이전 이벤트는 처음 기동했거나 유휴 정리로 버퍼가 없던 동안 지나갔을 수 있음)
+     */
+    private UserEventBuffer bufferOf(Long userId, long coveredFromId) {
+        return eventBuffers.computeIfAbsent(userId, id -> new UserEventBuffer(properties.getReplayBufferSize(), coveredFromId));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (!StringUtils.hasText(lastEventId)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("숫자가 아닌 Last-Event-ID 무시: {}", lastEventId); // 이전 형식(userId_event_timestamp)의 id
+            return null;
+        }
+    }
+
+    /**
+     * 연결이 없고 보관 기간이 지난 사용자의 이벤트 버퍼 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.buffer-cleanup-interval:60s}")
+    public void evictIdleBuffers() {
+        long threshold = System.currentTimeMillis() - properties.getReplayRetention().toMillis();
+        int before = eventBuffers.size();
+        eventBuffers.entrySet().removeIf(entry ->
+                !this.emitters.containsKey(entry.getKey()) && entry.getValue().isIdleSince(threshold));
+        int evicted = before - eventBuffers.size();
+        if (evicted > 0) {
+            log.debug("유휴 이벤트 버퍼 {}개 정리. 남은 버퍼 수: {}", evicted, eventBuffers.size());
+        }
+    }
+
+    public Set<SseEmitter> getEmitters(Long userId) {
+        Set<SseConnection> connections = this.emitters.get(userId);
+        if (connections == null) {
+            return Collections.emptySet();
+        }
+        return connections.stream().map(SseConnection::getEmitter).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean hasEmitter(Long userId) {
+        return this.emitters.containsKey(userId);
     }
 
-    public Optional<SseEmitter> getEmitter(Long userId) {
-        return Optional.ofNullable(this.emitters.get(userId));
+    public int getLocalConnectionCount() {
+        return connectionCount.get();
     }
 
-    public Map<Long, SseEmitter> getAllEmitters() {
-        return Collections.unmodifiableMap(this.emitters);
+    public Map<Long, Set<SseEmitter>> getAllEmitters() {
+        return this.emitters.keySet().stream()
+                .collect(Collectors.toUnmodifiableMap(userId -> userId, this::getEmitters));
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,19 @@
 package com.soda.notification.service;
 
+import com.soda.global.response.Cursor;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
 import com.soda.notification.entity.MemberNotification;
 import com.soda.notification.error.NotificationErrorCode;
 import com.soda.notification.repository.MemberNotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -26,6 +30,14 @@ public class MemberNotificationService {
         return memberNotificationRepository.findByMemberIdAndIsDeletedFalse(userId, pageable);
     }
 
+    public SlicedData<MemberNotification> findSlice(Long userId, Cursor cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<MemberNotification> rows = cursor == null
+                ? memberNotificationRepository.findByMemberIdAndIsDeletedFalseOrderByCreatedAtDescIdDesc(userId, limit)
+                : memberNotificationRepository.findByMemberIdAndIsDeletedFalseBefore(userId, cursor.createdAt(), cursor.id(), limit);
+        return SlicedData.of(rows, size, row -> new Cursor(row.getCreatedAt(), row.getId()));
+    }
+
     public MemberNotification findByIdOrThrow(Long id) {
         return memberNotificationRepository.findById(id)
                 .orElseThrow(() -> {
@@ -37,4 +49,12 @@ public class MemberNotificationService {
     public List<MemberNotification> findByMemberIdAndIsReadFalse(Long userId) {
         return memberNotificationRepository.findByMemberIdAndIsDeletedFalse(userId);
     }
+
+    public long countUnread(Long userId) {
+        return memberNotificationRepository.countByMemberIdAndIsDeletedFalse(userId);
+    }
+
+    public int markAllAsRead(Long userId) {
+        return memberNotificationRepository.markAllAsRead(userId, LocalDateTime.now());
+    }
 }
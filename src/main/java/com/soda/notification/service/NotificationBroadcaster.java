@@ -0,0 +1,170 @@
+package com.soda.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soda.notification.config.NotificationBusProperties;
+import com.soda.notification.dto.NotificationMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 클러스터 전체 SSE 알림 발행기
+ * 알림을 Redis 채널로 발행하면 모든 노드의 NotificationRedisSubscriber 가 받아 자기 노드에 연결된 Emitter 에만 전달한다.
+ * 노드별 SSE 연결 수를 Redis 에 주기적으로 기록해 클러스터 전체 연결 현황을 조회할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class NotificationBroadcaster {
+
+    private static final String NODES_KEY = "notification:sse:nodes";
+    private static final String NODE_CONNECTIONS_KEY_PREFIX = "notification:sse:connections:";
+
+    private final EmitterService emitterService;
+    private final SseEventSequence eventSequence;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationBusProperties properties;
+    private final String nodeId;
+
+    public NotificationBroadcaster(EmitterService emitterService, SseEventSequence eventSequence,
+                                   RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+                                   NotificationBusProperties properties, MeterRegistry meterRegistry) {
+        this.emitterService = emitterService;
+        this.eventSequence = eventSequence;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nodeId = resolveNodeId(properties.getNodeId());
+
+        Gauge.builder("notification.sse.connections", emitterService, EmitterService::getLocalConnectionCount)
+                .description("현재 노드에 연결된 SSE Emitter 수")
+                .tag("node", nodeId)
+                .register(meterRegistry);
+        log.info("알림 버스 초기화 - Node ID: {}, Redis 사용: {}, 채널: {}", nodeId, properties.isRedisEnabled(), properties.getChannel());
+    }
+
+    /**
+     * 알림을 클러스터 전체로 발행. Redis 를 쓰지 않거나 발행에 실패하면 현재 노드에서 바로 전달한다.
+     * 어느 경로든 id 는 SseEventSequence 에서 발급한 것을 그대로 쓴다.
+     */
+    public void publish(Long userId, String eventName, Object data) {
+        long eventId = eventSequence.next();
+        if (!properties.isRedisEnabled()) {
+            emitterService.sendNotification(userId, eventId, eventName, data);
+            return;
+        }
+
+        try {
+            NotificationMessage message = new NotificationMessage(eventId, userId, eventName, objectMapper.valueToTree(data), nodeId);
+            redisTemplate.convertAndSend(properties.getChannel(), objectMapper.writeValueAsString(message));
+            log.debug("알림 발행 완료 - User ID: {}, Event: {}, 채널: {}", userId, eventName, properties.getChannel());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("알림 Redis 발행 실패, 현재 노드에서만 전달 - User ID: {}, Event ID: {}, Event: {}", userId, eventId, eventName, e);
+            emitterService.sendNotification(userId, eventId, eventName, data);
+        }
+    }
+
+    /**
+     * Redis 에서 수신한 알림을 현재 노드의 Emitter 로 전달.
+     * 이 노드에 연결되지 않은 사용자는 재연결 시 재전송할 수 있도록 버퍼에만 남긴다.
+     */
+    public void deliverLocally(NotificationMessage message) {
+        eventSequence.observe(message.eventId());
+        if (!emitterService.hasEmitter(message.userId())) {
+            log.trace("현재 노드에 연결 없음, 버퍼에만 보관 - User ID: {}, Event: {}", message.userId(), message.eventName());
+            emitterService.bufferEvent(message.userId(), message.eventId(), message.eventName(), message.data());
+            return;
+        }
+        emitterService.sendNotification(message.userId(), message.eventId(), message.eventName(), message.data());
+    }
+
+    /**
+     * 현재 노드의 연결 수를 TTL 키로 기록. 노드가 죽으면 키가 만료되어 집계에서 빠진다.
+     */
+    @Scheduled(fixedDelayString = "${notification.bus.connection-report-interval:30s}")
+    public void reportLocalConnections() {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(NODE_CONNECTIONS_KEY_PREFIX + nodeId,
+                    String.valueOf(emitterService.getLocalConnectionCount()),
+                    properties.getConnectionReportInterval().multipliedBy(3));
+            redisTemplate.opsForSet().add(NODES_KEY, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("노드 SSE 연결 수 기록 실패 - Node ID: {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 노드별 SSE 연결 수 조회 (만료된 노드는 목록에서 정리)
+     */
+    public Map<String, Long> getClusterConnectionCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        if (!properties.isRedisEnabled()) {
+            counts.put(nodeId, (long) emitterService.getLocalConnectionCount());
+            return counts;
+        }
+
+        Set<Object> nodeIds = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            return counts;
+        }
+        List<String> nodes = nodeIds.stream().map(String::valueOf).toList();
+        List<Object> values = redisTemplate.opsForValue()
+                .multiGet(nodes.stream().map(node -> NODE_CONNECTIONS_KEY_PREFIX + node).toList());
+
+        for (int i = 0; i < nodes.size(); i++) {
+            Object value = values != null ? values.get(i) : null;
+            if (value == null) {
+                redisTemplate.opsForSet().remove(NODES_KEY, nodes.get(i));
+                continue;
+            }
+            counts.put(nodes.get(i), Long.parseLong(value.toString()));
+        }
+        return counts;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void unregister() {
+        if (!properties.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(NODE_CONNECTIONS_KEY_PREFIX + nodeId);
+            redisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("노드 SSE 연결 정보 삭제 실패 - Node ID: {}", nodeId, e);
+        }
+    }
+
+    private static String resolveNodeId(String configured) {
+        if (StringUtils.hasText(configured)) {
+            return configured;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
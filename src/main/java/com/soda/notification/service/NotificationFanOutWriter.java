@@ -0,0 +1,61 @@
+package com.soda.notification.service;
+
+import com.soda.notification.dto.NotificationData;
+import com.soda.notification.entity.Notification;
+import com.soda.notification.repository.MemberNotificationBulkRepository;
+import com.soda.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 알림 DB 저장 (fan-out)
+ * 이벤트 하나당 Notification 1행을 저장하고, 수신자별 MemberNotification 은 한 번의 bulk insert 로 저장한다.
+ * 프로젝트 전체 멤버 대상 알림처럼 수신자가 수백 명이어도 DB 왕복은 두 번이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationFanOutWriter {
+
+    private final NotificationRepository notificationRepository;
+    private final MemberNotificationBulkRepository memberNotificationBulkRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    /**
+     * @param data        알림 데이터
+     * @param receiverIds 수신자 ID 목록 (중복/null 은 제외)
+     * @return 저장된 Notification (수신자가 없으면 null)
+     */
+    @Transactional
+    public Notification write(NotificationData data, Collection<Long> receiverIds) {
+        List<Long> receivers = receiverIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (receivers.isEmpty()) {
+            return null;
+        }
+
+        Notification notification = notificationRepository.save(Notification.builder()
+                .notificationType(data.type())
+                .message(data.message())
+                .link(data.link())
+                .articleId(data.articleId())
+                .commentId(data.commentId())
+                .replyId(data.replyId())
+                .taskId(data.requestId())
+                .approvalId(data.responseId())
+                .build());
+
+        int inserted = memberNotificationBulkRepository.insertAll(notification.getId(), receivers);
+        unreadNotificationCounter.increment(receivers);
+        log.info("알림 저장 완료 - Notification ID: {}, Type: {}, 수신자 수: {}", notification.getId(), data.type(), inserted);
+        return notification;
+    }
+}
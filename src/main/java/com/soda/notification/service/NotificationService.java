@@ -1,6 +1,9 @@
 package com.soda.notification.service;
 
+import com.soda.global.response.Cursor;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
+import com.soda.notification.dto.NotificationData;
 import com.soda.notification.dto.NotificationResponse;
 import com.soda.notification.entity.MemberNotification;
 import com.soda.notification.entity.Notification;
@@ -14,7 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Objects;
 
 @Service
@@ -23,21 +26,25 @@ import java.util.Objects;
 public class NotificationService {
 
     private final EmitterService emitterService;
+    private final NotificationBroadcaster notificationBroadcaster;
     private final NotificationRepository notificationRepository;
     private final MemberNotificationService memberNotificationService;
+    private final NotificationFanOutWriter notificationFanOutWriter;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     /**
      * 사용자의 알림 구독 요청을 처리합니다.
      * EmitterService를 통해 SSE 연결을 생성하고 관리합니다.
      *
-     * @param userId 구독을 요청하는 사용자의 ID
+     * @param userId      구독을 요청하는 사용자의 ID
+     * @param lastEventId 재연결 시 브라우저가 보낸 Last-Event-ID (이후 놓친 이벤트를 재전송)
      * @return 생성된 SseEmitter 객체
      * @throws RuntimeException Emitter 생성/처리 중 오류 발생 시
      */
-    public SseEmitter subscribe(Long userId) {
+    public SseEmitter subscribe(Long userId, String lastEventId) {
         log.info("알림 구독 서비스 시작 for User ID: {}", userId);
         try {
-            SseEmitter emitter = emitterService.createAndAddEmitter(userId);
+            SseEmitter emitter = emitterService.createAndAddEmitter(userId, lastEventId);
             log.info("Emitter 생성 및 등록 완료 by EmitterService for User ID: {}", userId);
             return emitter;
         } catch (Exception e) {
@@ -48,14 +55,33 @@ public class NotificationService {
 
     /**
      * 특정 사용자에게 알림 데이터를 전송합니다.
-     * 실제 데이터 전송은 EmitterService에 위임합니다.
+     * 사용자가 어느 노드에 연결되어 있을지 모르므로 NotificationBroadcaster를 통해 클러스터 전체로 발행합니다.
      * @param userId 알림을 받을 사용자의 ID
      * @param eventName 이벤트 이름 (예: "new_notice", "task_update")
      * @param noticeData 전송할 알림 데이터 (DTO, String 등)
      */
     public void sendNotification(Long userId, String eventName, Object noticeData) {
         log.info("알림 전송 요청 to User ID: {}, Event: {}", userId, eventName);
-        emitterService.sendNotification(userId, eventName, noticeData);
+        notificationBroadcaster.publish(userId, eventName, noticeData);
+    }
+
+    /**
+     * 알림을 DB 에 한 번에 저장(Notification 1행 + 수신자 bulk insert)한 뒤 각 수신자에게 실시간 전송합니다.
+     * DB 저장에 실패해도 실시간 전송은 시도합니다.
+     *
+     * @param receiverIds 알림을 받을 사용자 ID 목록
+     * @param eventName   SSE 이벤트 이름
+     * @param data        알림 데이터
+     */
+    public void notify(Collection<Long> receiverIds, String eventName, NotificationData data) {
+        try {
+            notificationFanOutWriter.write(data, receiverIds);
+        } catch (Exception e) {
+            log.error("알림 DB 저장 실패 - 수신자 수: {}, Data: {}", receiverIds.size(), data, e);
+        }
+        for (Long receiverId : receiverIds) {
+            sendNotification(receiverId, eventName, data);
+        }
     }
 
     public Notification save(Notification notification) {
@@ -74,6 +100,19 @@ public class NotificationService {
         return responseDtoPage;
     }
 
+    /**
+     * 사용자 알림 목록을 커서 기반으로 조회합니다. (무한 스크롤용, count 쿼리 없음)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   조회 개수
+     */
+    public SlicedData<NotificationResponse> getNotificationsSlice(Long userId, String cursor, int size) {
+        SlicedData<MemberNotification> memberNoticeSlice = memberNotificationService.findSlice(
+                userId, Cursor.decode(cursor), SlicedData.normalizeSize(size));
+        return memberNoticeSlice.map(NotificationResponse::fromEntity);
+    }
+
     /**
      * 사용자의 특정 알림을 읽음 상태로 변경합니다.
      *
@@ -92,29 +131,33 @@ public class NotificationService {
             throw new GeneralException(NotificationErrorCode.FORBIDDEN_ACCESS_NOTIFICATION);
         }
 
-        memberNotification.Deleted();
+        if (!memberNotification.getIsDeleted()) {
+            memberNotification.Deleted();
+            unreadNotificationCounter.decrement(userId);
+        }
 
         log.debug("알림 읽음 처리 완료 및 저장 예정 - MemberNotification ID: {}", memberNotificationId);
     }
 
+    /**
+     * 사용자의 읽지 않은 알림을 UPDATE 한 번으로 모두 읽음 처리합니다.
+     *
+     * @param userId 요청한 사용자의 ID
+     */
     @Transactional
-    public void markAllAsReadIterative(Long userId) {
-        log.debug("사용자 모든 알림 읽음 처리 서비스 시작 (개별 업데이트) - User ID: {}", userId);
+    public void markAllAsRead(Long userId) {
+        log.debug("사용자 모든 알림 읽음 처리 서비스 시작 - User ID: {}", userId);
 
-        // 1. 읽지 않은 알림 조회
-        List<MemberNotification> unreadNotifications = memberNotificationService.findByMemberIdAndIsReadFalse(userId);
+        int updated = memberNotificationService.markAllAsRead(userId);
+        unreadNotificationCounter.reset(userId);
 
-        if (unreadNotifications.isEmpty()) {
-            log.info("읽지 않은 알림이 없습니다. User ID: {}", userId);
-            return;
-        }
-
-        // 2. 각 알림을 읽음 상태로 변경
-        for (MemberNotification notification : unreadNotifications) {
-            // 엔티티의 markAsRead 메서드가 readAt도 설정한다고 가정
-            notification.Deleted();
-        }
+        log.info("사용자 모든 알림 읽음 처리 완료 - User ID: {}, 업데이트된 알림 수: {}", userId, updated);
+    }
 
-        log.info("사용자 모든 알림 읽음 처리 완료 (개별 업데이트) - User ID: {}, 업데이트된 알림 수: {}", userId, unreadNotifications.size());
+    /**
+     * 읽지 않은 알림 수를 조회합니다. (Redis 카운터, 없을 때만 DB COUNT)
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.getUnreadCount(userId);
     }
 }
\ No newline at end of file
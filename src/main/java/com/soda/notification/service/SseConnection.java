@@ -0,0 +1,46 @@
+package com.soda.notification.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 사용자 SSE 연결 하나 (탭/기기 단위)
+ * 마지막으로 데이터를 쓴 시각을 기록해, 최근에 이벤트를 받은 연결은 heartbeat 를 건너뛴다.
+ * 어디까지 보냈는지(버퍼 seq)도 기록해, 전송 작업이 어떤 순서로 실행돼도 버퍼 순서대로 이어서 보낸다.
+ */
+final class SseConnection {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private volatile long lastWriteAt;
+    private long sentSeq; // 이 연결에 보낸(또는 재전송으로 처리한) 마지막 버퍼 seq. 버퍼 락 안에서만 접근
+
+    SseConnection(Long userId, SseEmitter emitter) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.lastWriteAt = System.currentTimeMillis();
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    long getSentSeq() {
+        return sentSeq;
+    }
+
+    void markSent(long seq) {
+        sentSeq = Math.max(sentSeq, seq);
+    }
+
+    void markWritten() {
+        lastWriteAt = System.currentTimeMillis();
+    }
+
+    boolean isQuietSince(long thresholdMillis) {
+        return lastWriteAt < thresholdMillis;
+    }
+}
@@ -0,0 +1,86 @@
+package com.soda.notification.service;
+
+import com.soda.notification.config.NotificationBusProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 이벤트 id 발급기 (id 는 한 곳에서만 발급한다)
+ * Redis 버스를 쓰면 클러스터 공용 카운터(INCR)가 유일한 발급원이고, 이 노드는 지금까지 본 가장 큰 id 를 기억한다.
+ * Redis 호출이 실패하면 기억해 둔 마지막 id 에서 이어서 발급한다. (다른 노드와 겹칠 수는 있어도 단조 증가는 유지)
+ * Redis 버스를 쓰지 않으면 0 부터 로컬로 발급한다. 재기동 전의 id 로 재연결하면 EmitterService 가 resync 로 처리한다.
+ */
+@Slf4j
+@Component
+public class SseEventSequence {
+
+    static final String EVENT_ID_KEY = "notification:sse:event-id"; // 클러스터 전체에서 단조 증가하는 SSE 이벤트 id
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationBusProperties properties;
+    private final AtomicLong lastKnownId = new AtomicLong();
+
+    public SseEventSequence(RedisTemplate<String, Object> redisTemplate, NotificationBusProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    /**
+     * 새 이벤트 id 발급
+     */
+    public long next() {
+        if (properties.isRedisEnabled()) {
+            try {
+                Long id = redisTemplate.opsForValue().increment(EVENT_ID_KEY);
+                if (id != null) {
+                    observe(id);
+                    return id;
+                }
+            } catch (RuntimeException e) {
+                log.warn("SSE 이벤트 id Redis 발급 실패, 마지막 id({}) 에서 이어서 발급", lastKnownId.get(), e);
+            }
+        }
+        return lastKnownId.incrementAndGet();
+    }
+
+    /**
+     * 다른 노드가 발급한 id 를 받았을 때 기록
+     */
+    public void observe(long id) {
+        lastKnownId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * 이 노드가 알고 있는 가장 최근 id
+     */
+    public long current() {
+        return lastKnownId.get();
+    }
+
+    /**
+     * Redis 카운터의 현재 값을 반영한 최근 id (Redis 를 쓰지 않거나 조회에 실패하면 알고 있는 값 그대로)
+     */
+    public long refresh() {
+        if (!properties.isRedisEnabled()) {
+            return current();
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(EVENT_ID_KEY);
+            if (value != null) {
+                observe(Long.parseLong(value.toString()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("SSE 이벤트 id Redis 조회 실패", e);
+        }
+        return current();
+    }
+}
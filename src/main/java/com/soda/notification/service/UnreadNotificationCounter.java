@@ -0,0 +1,164 @@
+package com.soda.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (Redis 카운터)
+ * 키가 없을 때만 DB COUNT 로 초기화하고, 이후에는 알림 저장/읽음 처리 시 증감만 한다.
+ * 키가 없는 상태에서 증감하면 값이 틀어지므로, 증감은 키가 있을 때만 수행한다 (없으면 다음 조회 때 다시 COUNT).
+ * COUNT 와 저장 사이에 들어온 증감은 COUNT 에 포함됐는지 알 수 없으므로, 초기화 중 표시 키(:seeding)에 변경 여부를 남기고
+ * 변경이 있었으면 저장하지 않는다 (이번 조회는 DB 값으로 응답하고 다음 조회 때 다시 초기화).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String SEEDING_SUFFIX = ":seeding";
+    private static final Duration TTL = Duration.ofDays(1); // 오래 조회하지 않은 사용자의 카운터는 만료 후 다시 COUNT
+    private static final Duration SEEDING_WINDOW = Duration.ofSeconds(5); // COUNT 가 이보다 오래 걸리면 저장하지 않음
+
+    // 키가 있는 수신자만 +delta, 초기화 중인 수신자는 변경 표시만 (KEYS: 수신자별 [카운터 키, 초기화 중 키] 쌍, ARGV[1]: delta)
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+            local updated = 0
+            for i = 1, #KEYS, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[1])
+                    updated = updated + 1
+                elseif redis.call('EXISTS', KEYS[i + 1]) == 1 then
+                    redis.call('INCR', KEYS[i + 1])
+                end
+            end
+            return updated
+            """, Long.class);
+
+    // 키가 있을 때만 -delta, 음수가 되면 값이 틀어진 것이므로 삭제해 다음 조회 때 다시 COUNT (초기화 중이면 변경 표시만)
+    private static final RedisScript<Long> DECREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                if redis.call('EXISTS', KEYS[2]) == 1 then
+                    redis.call('INCR', KEYS[2])
+                end
+                return -1
+            end
+            local value = redis.call('DECRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('DEL', KEYS[1])
+                return -1
+            end
+            return value
+            """, Long.class);
+
+    // 초기화 중 변경이 없었을 때만 COUNT 결과 저장 (KEYS[1]: 카운터 키, KEYS[2]: 초기화 중 키, ARGV[1]: COUNT, ARGV[2]: TTL 초)
+    // 저장했거나 이미 값이 있으면 그 값, 저장하지 않았으면 -1
+    private static final RedisScript<Long> SEED_IF_UNCHANGED = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            local changes = redis.call('GET', KEYS[2])
+            redis.call('DEL', KEYS[2])
+            if current then
+                return tonumber(current)
+            end
+            if changes ~= '0' then
+                return -1
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return tonumber(ARGV[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MemberNotificationService memberNotificationService;
+
+    public long getUnreadCount(Long memberId) {
+        String key = KEY_PREFIX + memberId;
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached.toString());
+            }
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 Redis 조회 실패, DB 로 조회 - Member ID: {}", memberId, e);
+            return memberNotificationService.countUnread(memberId);
+        }
+
+        String seedingKey = key + SEEDING_SUFFIX;
+        boolean seeding;
+        try {
+            // 다른 요청이 이미 초기화 중이면 DB 값으로만 응답
+            seeding = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(seedingKey, "0", SEEDING_WINDOW));
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 Redis 초기화 시작 실패 - Member ID: {}", memberId, e);
+            seeding = false;
+        }
+
+        long count = memberNotificationService.countUnread(memberId);
+        if (!seeding) {
+            return count;
+        }
+        try {
+            Long seeded = redisTemplate.execute(SEED_IF_UNCHANGED, List.of(key, seedingKey),
+                    String.valueOf(count), String.valueOf(TTL.toSeconds()));
+            if (seeded != null && seeded >= 0) {
+                return seeded;
+            }
+            log.debug("읽지 않은 알림 수 초기화 중 변경 발생, 저장하지 않음 - Member ID: {}", memberId);
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 Redis 초기화 실패 - Member ID: {}", memberId, e);
+        }
+        return count;
+    }
+
+    /**
+     * 알림 저장 후 수신자들의 카운터 +1 (스크립트 한 번으로 처리)
+     */
+    public void increment(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> redisTemplate.execute(INCREMENT_IF_PRESENT,
+                memberIds.stream().flatMap(id -> Stream.of(KEY_PREFIX + id, KEY_PREFIX + id + SEEDING_SUFFIX)).toList(), "1"));
+    }
+
+    public void decrement(Long memberId) {
+        afterCommit(() -> redisTemplate.execute(DECREMENT_IF_PRESENT,
+                List.of(KEY_PREFIX + memberId, KEY_PREFIX + memberId + SEEDING_SUFFIX), "1"));
+    }
+
+    public void reset(Long memberId) {
+        afterCommit(() -> redisTemplate.opsForValue().set(KEY_PREFIX + memberId, "0", TTL));
+    }
+
+    /**
+     * DB 트랜잭션이 커밋된 뒤에만 카운터를 바꾼다 (롤백 시 카운터만 바뀌는 것 방지)
+     */
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("읽지 않은 알림 수 Redis 갱신 실패", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+        } else {
+            safeAction.run();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.soda.notification.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 사용자별 최근 SSE 이벤트 링 버퍼
+ * 용량을 넘으면 가장 먼저 들어온 이벤트부터 버린다. 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내는 데 사용한다.
+ * 이벤트는 들어온 순서(seq)대로 보관하고 전송한다. id 는 여러 스레드/노드에서 발급되므로 작은 id 가 늦게 들어올 수 있다.
+ * 동시 접근은 EmitterService 가 버퍼 단위로 동기화한다.
+ */
+final class UserEventBuffer {
+
+    /**
+     * @param seq         노드 안에서 들어온 순서 (EmitterService 가 발급, 버퍼가 바뀌어도 계속 증가)
+     * @param maxIdBefore 이 이벤트가 들어오기 직전까지 버퍼가 본 가장 큰 id (id 보다 크면 늦게 들어온 이벤트)
+     */
+    record BufferedEvent(long id, long seq, long maxIdBefore, String eventName, Object data) {
+    }
+
+    private final int capacity;
+    private final Deque<BufferedEvent> events;
+    private long coveredFromId;  // Last-Event-ID 가 이 값 이상이면 이후 재전송할 이벤트가 모두 버퍼에 있다
+    private long maxAppendedId;  // 지금까지 들어온 가장 큰 id
+    private long evictedUpToSeq; // 밀려난 이벤트 중 가장 큰 seq
+    private volatile long lastActivityAt;
+
+    UserEventBuffer(int capacity, long coveredFromId) {
+        this.capacity = capacity;
+        this.coveredFromId = coveredFromId;
+        this.maxAppendedId = coveredFromId;
+        this.events = new ArrayDeque<>(); // 유휴 사용자는 이벤트가 없으므로 필요할 때만 늘린다
+        this.lastActivityAt = System.currentTimeMillis();
+    }
+
+    BufferedEvent append(long seq, long id, String eventName, Object data) {
+        BufferedEvent event = new BufferedEvent(id, seq, maxAppendedId, eventName, data);
+        if (events.size() == capacity) {
+            BufferedEvent evicted = events.pollFirst();
+            // 늦게 들어온 이벤트가 밀려나면, 그 전에 들어온 id 까지 받은 연결도 이 이벤트를 못 받았을 수 있다
+            coveredFromId = Math.max(coveredFromId, Math.max(evicted.id(), evicted.maxIdBefore() + 1));
+            evictedUpToSeq = evicted.seq();
+        }
+        events.addLast(event);
+        maxAppendedId = Math.max(maxAppendedId, id);
+        touch();
+        return event;
+    }
+
+    /**
+     * Last-Event-ID 가 lastEventId 인 연결이 놓쳤을 수 있는 이벤트 (들어온 순서)
+     * id 가 더 큰 이벤트와, lastEventId 가 이미 들어온 뒤에 늦게 들어온 작은 id 의 이벤트를 함께 보낸다. (중복은 있을 수 있어도 누락은 없음)
+     */
+    List<BufferedEvent> eventsAfter(long lastEventId) {
+        List<BufferedEvent> result = new ArrayList<>();
+        for (BufferedEvent event : events) {
+            if (event.id() > lastEventId || event.maxIdBefore() >= lastEventId) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * seq 이후에 들어온 이벤트 (들어온 순서)
+     */
+    List<BufferedEvent> eventsAppendedAfter(long seq) {
+        List<BufferedEvent> result = new ArrayList<>();
+        for (BufferedEvent event : events) {
+            if (event.seq() > seq) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 마지막으로 들어온 이벤트의 seq (비어 있으면 0)
+     */
+    long lastSeq() {
+        BufferedEvent last = events.peekLast();
+        return last != null ? last.seq() : 0;
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 버퍼만으로 빠짐없이 보낼 수 있는지 증명할 수 없는 경우 true
+     * (버퍼가 만들어지기 전이거나 이미 밀려난 구간이 걸침 - 재전송만으로는 복구 불가)
+     */
+    boolean isMissingEventsAfter(long lastEventId) {
+        return lastEventId < coveredFromId;
+    }
+
+    /**
+     * seq 까지 전송한 연결에 보내기 전에 밀려난 이벤트가 있는지
+     */
+    boolean isMissingAppendsAfter(long seq) {
+        return seq < evictedUpToSeq;
+    }
+
+    void touch() {
+        lastActivityAt = System.currentTimeMillis();
+    }
+
+    boolean isIdleSince(long thresholdMillis) {
+        return lastActivityAt < thresholdMillis;
+    }
+}
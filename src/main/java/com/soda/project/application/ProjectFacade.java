@@ -3,6 +3,8 @@ package com.soda.project.application;
 import com.querydsl.core.Tuple;
 import com.soda.global.log.data.annotation.LoggableEntityAction;
 import com.soda.global.response.GeneralException;
+import com.soda.global.security.auth.AuthenticatedMember;
+import com.soda.global.security.auth.AuthenticatedMemberContext;
 import com.soda.member.domain.company.Company;
 import com.soda.member.domain.company.CompanyService;
 import com.soda.member.domain.member.Member;
@@ -51,6 +53,7 @@ public class ProjectFacade {
     private final ProjectValidator projectValidator;
     private final ApplicationEventPublisher eventPublisher;
     private final ProjectResponseBuilder projectResponseBuilder;
+    private final AuthenticatedMemberContext memberContext;
 
     @LoggableEntityAction(action = "CREATE", entityClass = Project.class)
     @Transactional
@@ -90,6 +93,7 @@ public class ProjectFacade {
                 request.getStageNames() // 초기 스테이지 이름 전달
         );
         
+        evictMemberships(clientManagers, clientMembers);
         publishProjectCreatedEvent(savedProject);
 
         return ProjectCreateResponse.from(savedProject);
@@ -97,7 +101,7 @@ public class ProjectFacade {
 
     private void publishProjectCreatedEvent(Project project) {
         LocalDate creationDate = project.getCreatedAt().toLocalDate();
-        eventPublisher.publishEvent(new ProjectCreatedEvent(creationDate));
+        eventPublisher.publishEvent(new ProjectCreatedEvent(project.getId(), creationDate));
     }
 
     @Transactional
@@ -118,6 +122,7 @@ public class ProjectFacade {
                 managersToAssign,  // 조회된 매니저 리스트
                 membersToAssign    // 조회된 멤버 리스트
         );
+        evictMemberships(managersToAssign, membersToAssign);
 
         if (project.getStatus() == ProjectStatus.CONTRACT) {
             project.changeStatus(ProjectStatus.IN_PROGRESS);
@@ -175,9 +180,9 @@ public class ProjectFacade {
         return projectResponseBuilder.createMyProjectListResponsePage(tuplePage, true);
     }
 
-    public ProjectViewResponse getProject(Long userId, String userRole, Long projectId) {
-        // 1. 엔티티 조회
-        Member member = memberService.findWithProjectsById(userId);
+    public ProjectViewResponse getProject(String userRole, Long projectId) {
+        // 1. 엔티티 조회 (회원은 인증 시 확인된 정보 사용)
+        AuthenticatedMember member = memberContext.get();
         Project project = projectService.getValidProject(projectId);
         // 2. 접근 권한 검증
         projectValidator.validateProjectAccessPermission(member, project);
@@ -186,12 +191,11 @@ public class ProjectFacade {
     }
 
     public Page<MyProjectListResponse> getMyCompanyProjects(Long userId, Pageable pageable) {
-        // 1. 사용자 및 회사 정보 조회
-        Member member = memberService.findMemberById(userId);
-        Company company = member.getCompany();
-        if (company == null) return Page.empty(pageable);
+        // 1. 사용자 회사 정보 (인증 시 확인된 정보 사용)
+        Long companyId = memberContext.getCompanyId();
+        if (companyId == null) return Page.empty(pageable);
         // 2. 데이터 조회
-        Page<Tuple> tuplePage = projectService.findMyCompanyProjectsData(userId, company.getId(), pageable);
+        Page<Tuple> tuplePage = projectService.findMyCompanyProjectsData(userId, companyId, pageable);
         // 3. DTO 변환
         return projectResponseBuilder.createMyProjectListResponsePage(tuplePage, false);
     }
@@ -202,14 +206,16 @@ public class ProjectFacade {
         projectValidator.validateAdminRole(userRole);
         Project project = projectService.getValidProject(projectId);
         projectService.deleteProject(project);
+        memberProjectService.evictMemberships(project.getMemberProjects().stream()
+                .map(memberProject -> memberProject.getMember().getId())
+                .toList());
     }
 
     @LoggableEntityAction(action = "UPDATE", entityClass = Project.class)
     @Transactional
-    public ProjectStatusUpdateResponse updateProjectStatus(Long userId, Long projectId, ProjectStatusUpdateRequest request) {
-        Member member = memberService.findMemberById(userId);
+    public ProjectStatusUpdateResponse updateProjectStatus(Long projectId, ProjectStatusUpdateRequest request) {
         Project project = projectService.getValidProject(projectId);
-        projectValidator.validateProjectAccessPermission(member, project);
+        projectValidator.validateProjectAccessPermission(memberContext.get(), project);
 
         projectService.changeProjectStatus(project, request.getStatus());
         return ProjectStatusUpdateResponse.from(project);
@@ -236,6 +242,7 @@ public class ProjectFacade {
         projectService.addCompanyAndMembersToProject(
                 project, company, request.getRole(), managers, members
         );
+        evictMemberships(managers, members);
 
         return ProjectCompanyAddResponse.from(project.getId(), company, request.getRole(), managers, members);
     }
@@ -276,6 +283,16 @@ public class ProjectFacade {
         return ProjectMemberAddResponse.from(project.getId(), company.getName(), managers, members);
     }
 
+    /**
+     * Project 연관관계로 추가된 MemberProject 는 MemberProjectService 를 거치지 않으므로 여기서 권한 캐시를 무효화
+     */
+    private void evictMemberships(List<Member> managers, List<Member> members) {
+        List<Long> memberIds = new ArrayList<>();
+        managers.forEach(manager -> memberIds.add(manager.getId()));
+        members.forEach(member -> memberIds.add(member.getId()));
+        memberProjectService.evictMemberships(memberIds);
+    }
+
     public Page<ProjectMemberResponse> getProjectMembers(Long projectId, ProjectMemberSearchCondition searchCondition, Pageable pageable) {
         Project project = projectService.getValidProject(projectId);
         CompanyProjectRole companyRoleFilter = searchCondition.getCompanyRole();
@@ -1,6 +1,7 @@
 package com.soda.project.application;
 
 import com.querydsl.core.Tuple;
+import com.soda.global.security.auth.AuthenticatedMember;
 import com.soda.member.domain.member.Member;
 import com.soda.member.domain.company.Company;
 import com.soda.project.domain.Project;
@@ -8,6 +9,7 @@ import com.soda.project.domain.company.CompanyProjectRole;
 import com.soda.project.domain.company.CompanyProjectService;
 import com.soda.project.domain.member.MemberProjectRole;
 import com.soda.project.domain.member.MemberProjectService;
+import com.soda.project.domain.member.ProjectMembership;
 import com.soda.project.interfaces.dto.CompanyAssignment;
 import com.soda.project.interfaces.dto.DevCompanyAssignmentResponse;
 import com.soda.project.interfaces.dto.MyProjectListResponse;
@@ -83,14 +85,18 @@ public class ProjectResponseBuilder {
         return MyProjectListResponse.from(project, companyRole, memberRole);
     }
 
-    public ProjectViewResponse createProjectViewResponse(Project project, Member member, String userRole) {
+    public ProjectViewResponse createProjectViewResponse(Project project, AuthenticatedMember member, String userRole) {
         // 회사 이름 조회
         List<String> devCompanyNames = companyProjectService.getCompanyNamesByRole(project, CompanyProjectRole.DEV_COMPANY);
         List<String> clientCompanyNames = companyProjectService.getCompanyNamesByRole(project, CompanyProjectRole.CLIENT_COMPANY);
 
         // 현재 사용자의 프로젝트 내 역할 조회 (!!! userRole 전달 !!!)
-        String currentMemberProjectRole = determineMemberProjectRole(member, project, userRole);
-        String currentCompanyProjectRole = determineCompanyProjectRole(member, project, userRole);
+        // 멤버 역할/회사 역할 모두 권한 캐시의 참여 정보에서 꺼내므로 추가 조회 없음
+        ProjectMembership membership = USER_ROLE.equals(userRole)
+                ? memberProjectService.getMembership(member.memberId(), project.getId())
+                : null;
+        String currentMemberProjectRole = determineMemberProjectRole(membership, userRole);
+        String currentCompanyProjectRole = determineCompanyProjectRole(member, membership, userRole);
 
         // 역할별 멤버 목록 조회
         List<Member> devManagers = memberProjectService.getMembersByRole(project, MemberProjectRole.DEV_MANAGER);
@@ -122,10 +128,9 @@ public class ProjectResponseBuilder {
     }
 
     /** 현재 사용자의 프로젝트 내 멤버 역할 결정 */
-    private String determineMemberProjectRole(Member member, Project project, String userRole) {
+    private String determineMemberProjectRole(ProjectMembership membership, String userRole) {
         if (USER_ROLE.equals(userRole)) {
-            MemberProjectRole role = memberProjectService.getMemberRoleInProject(member, project);
-            return (role != null) ? role.getDescription() : "Unknown Role";
+            return (membership != null) ? membership.memberRole().getDescription() : "Unknown Role";
         } else if (ADMIN_ROLE.equals(userRole)) {
             return ADMIN_ROLE;
         }
@@ -133,12 +138,12 @@ public class ProjectResponseBuilder {
     }
 
     /** 현재 사용자의 프로젝트 내 회사 역할 결정 */
-    private String determineCompanyProjectRole(Member member, Project project, String userRole) {
+    private String determineCompanyProjectRole(AuthenticatedMember member, ProjectMembership membership, String userRole) {
         if (USER_ROLE.equals(userRole)) {
-            if (member == null || member.getCompany() == null) {
+            if (member == null || member.companyId() == null) {
                 return "No Company Info";
             }
-            CompanyProjectRole role = companyProjectService.getCompanyRoleInProject(member.getCompany(), project);
+            CompanyProjectRole role = (membership != null) ? membership.companyRole() : null;
             return (role != null) ? role.getDescription() : "Unknown Role";
         } else if (ADMIN_ROLE.equals(userRole)) {
             return ADMIN_ROLE;
@@ -1,5 +1,8 @@
 package com.soda.project.application.event;
 
+import com.soda.global.config.AsyncConfig;
+import com.soda.project.application.stats.ProjectActivityStatsUpdateService;
+import com.soda.project.domain.event.ProjectActivityEvent;
 import com.soda.project.domain.event.ProjectCreatedEvent;
 import com.soda.project.application.stats.ProjectStatsUpdateService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -14,9 +19,10 @@ import org.springframework.stereotype.Component;
 public class ProjectEventListener {
 
     private final ProjectStatsUpdateService statsUpdateService;
+    private final ProjectActivityStatsUpdateService activityStatsUpdateService;
 
     @EventListener
-    @Async
+    @Async(AsyncConfig.STATS_EXECUTOR)
     public void handleProjectCreatedEvent(ProjectCreatedEvent event) {
         log.info("ProjectCreatedEvent 수신: Date = {}", event.getCreationDate());
         try {
@@ -26,4 +32,22 @@ public class ProjectEventListener {
             log.error("비동기 통계 업데이트 처리 중 최종 오류 발생: Date = {}, Error={}", event.getCreationDate(), e.getMessage(), e);
         }
     }
+
+    // 활동 순 정렬이 통계 테이블 기준으로 조회하므로 프로젝트와 같은 트랜잭션에서 통계 행을 만든다
+    @EventListener
+    public void createActivityStats(ProjectCreatedEvent event) {
+        activityStatsUpdateService.createStats(event.getProjectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async(AsyncConfig.STATS_EXECUTOR)
+    public void handleProjectActivityEvent(ProjectActivityEvent event) {
+        log.debug("ProjectActivityEvent 수신: projectId = {}, type = {}, deleted = {}",
+                event.getProjectId(), event.getActivityType(), event.isDeleted());
+        try {
+            activityStatsUpdateService.applyActivity(event);
+        } catch (Exception e) {
+            log.error("프로젝트 활동 통계 업데이트 처리 중 오류 발생: projectId = {}, Error={}", event.getProjectId(), e.getMessage(), e);
+        }
+    }
 }
@@ -2,13 +2,16 @@ package com.soda.project.application.stage.article;
 
 import com.querydsl.core.Tuple;
 import com.soda.global.log.data.annotation.LoggableEntityAction;
+import com.soda.global.response.Cursor;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
+import com.soda.global.security.auth.AuthenticatedMemberContext;
 import com.soda.member.domain.member.Member;
-import com.soda.member.domain.member.MemberService;
 import com.soda.project.application.stage.article.validator.ArticleValidator;
 import com.soda.project.application.stage.article.vote.validator.VoteValidator;
 import com.soda.project.domain.Project;
 import com.soda.project.domain.ProjectService;
+import com.soda.project.domain.event.ProjectActivityEvent;
 import com.soda.project.domain.stage.Stage;
 import com.soda.project.domain.stage.StageService;
 import com.soda.project.domain.stage.article.Article;
@@ -18,15 +21,18 @@ import com.soda.project.domain.stage.article.vote.Vote;
 import com.soda.project.domain.stage.article.vote.VoteAnswer;
 import com.soda.project.domain.stage.article.vote.VoteItem;
 import com.soda.project.domain.stage.article.vote.VoteService;
+import com.soda.project.domain.stats.ProjectActivityType;
 import com.soda.project.interfaces.stage.article.dto.*;
 import com.soda.project.interfaces.stage.article.vote.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -37,7 +43,7 @@ public class ArticleFacade {
 
     private final ProjectService projectService;
     private final StageService stageService;
-    private final MemberService memberService;
+    private final AuthenticatedMemberContext memberContext;
     private final ArticleService articleService;
     private final VoteService voteService;
 
@@ -45,11 +51,12 @@ public class ArticleFacade {
     private final VoteValidator voteValidator;
 
     private final ArticleResponseBuilder articleResponseBuilder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @LoggableEntityAction(action = "CREATE", entityClass = Article.class)
     @Transactional
-    public ArticleCreateResponse createArticle(ArticleCreateRequest request, Long userId, String userRole) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public ArticleCreateResponse createArticle(ArticleCreateRequest request, String userRole) {
+        Member member = memberContext.getMember();
         Project project = projectService.getValidProject(request.getProjectId());
         Stage stage = stageService.validateStage(request.getStageId(), project);
 
@@ -66,22 +73,39 @@ public class ArticleFacade {
                 request.getParentArticleId(),
                 request.getLinkList()
         );
+        eventPublisher.publishEvent(ProjectActivityEvent.created(project.getId(), ProjectActivityType.ARTICLE, LocalDateTime.now()));
         return ArticleCreateResponse.fromEntity(createdArticle);
     }
 
-    public Page<ArticleListViewResponse> getAllArticles(Long userId, String userRole, Long projectId, ArticleSearchCondition searchCondition, Pageable pageable) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public Page<ArticleListViewResponse> getAllArticles(String userRole, Long projectId, ArticleSearchCondition searchCondition, Pageable pageable) {
+        Member member = memberContext.getMember();
         Project project = projectService.getValidProject(projectId);
 
         articleValidator.validateAdminOrProjectMember(userRole, member, project);
 
         Page<Article> articlePage = articleService.getAllArticles(projectId, searchCondition, pageable);
+        List<Article> descendants = articleService.findDescendants(articlePage.getContent());
 
-        return articleResponseBuilder.buildArticleListPageWithHierarchy(articlePage, pageable);
+        return articleResponseBuilder.buildArticleListPageWithHierarchy(articlePage, descendants, pageable, searchCondition);
     }
 
-    public ArticleViewResponse getArticle(Long projectId, Long userId, String userRole, Long articleId) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public SlicedData<ArticleListViewResponse> getArticlesSlice(String userRole, Long projectId, ArticleSearchCondition searchCondition,
+                                                               String cursor, int size) {
+        Member member = memberContext.getMember();
+        Project project = projectService.getValidProject(projectId);
+
+        articleValidator.validateAdminOrProjectMember(userRole, member, project);
+
+        SlicedData<Article> articleSlice = articleService.getArticlesSlice(projectId, searchCondition,
+                Cursor.decode(cursor), SlicedData.normalizeSize(size));
+
+        List<Article> descendants = articleService.findDescendants(articleSlice.getContent());
+
+        return articleResponseBuilder.buildArticleListSliceWithHierarchy(articleSlice, descendants, searchCondition);
+    }
+
+    public ArticleViewResponse getArticle(Long projectId, String userRole, Long articleId) {
+        Member member = memberContext.getMember();
         Project project = projectService.getValidProject(projectId);
         Article article = articleService.validateArticle(articleId);
 
@@ -91,18 +115,19 @@ public class ArticleFacade {
 
     @LoggableEntityAction(action = "DELETE", entityClass = Article.class)
     @Transactional
-    public void deleteArticle(Long projectId, Long userId, String userRole, Long articleId) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public void deleteArticle(Long projectId, String userRole, Long articleId) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
 
         articleValidator.validateUpdatePermission(member, userRole, article);
         articleService.deleteArticle(article);
+        eventPublisher.publishEvent(ProjectActivityEvent.deleted(article.getStage().getProject().getId(), ProjectActivityType.ARTICLE, article.getCreatedAt()));
     }
 
     @LoggableEntityAction(action = "UPDATE", entityClass = Article.class)
     @Transactional
-    public ArticleModifyResponse updateArticle(Long userId, String userRole, Long articleId, ArticleModifyRequest request) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public ArticleModifyResponse updateArticle(String userRole, Long articleId, ArticleModifyRequest request) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
 
         articleValidator.validateUpdatePermission(member, userRole, article);
@@ -112,14 +137,19 @@ public class ArticleFacade {
         return ArticleModifyResponse.fromEntity(updatedArticle);
     }
 
-    public Page<MyArticleListResponse> getMyArticles(Long memberId, Long projectId, Pageable pageable) {
-        Page<Tuple> tuplePage = articleService.findMyArticlesData(memberId, projectId, pageable);
+    public Page<MyArticleListResponse> getMyArticles(Long projectId, Pageable pageable) {
+        Page<Tuple> tuplePage = articleService.findMyArticlesData(memberContext.getMemberId(), projectId, pageable);
         return articleResponseBuilder.buildMyArticleListPage(tuplePage);
     }
 
+    public SlicedData<MyArticleListResponse> getMyArticlesSlice(Long projectId, String cursor, int size) {
+        SlicedData<Tuple> tupleSlice = articleService.findMyArticlesSlice(memberContext.getMemberId(), projectId, Cursor.decode(cursor), SlicedData.normalizeSize(size));
+        return articleResponseBuilder.buildMyArticleListSlice(tupleSlice);
+    }
+
     @Transactional
-    public ArticleStatusUpdateResponse updateArticleStatus(Long userId, Long articleId, ArticleStatusUpdateRequest updateRequest) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public ArticleStatusUpdateResponse updateArticleStatus(Long articleId, ArticleStatusUpdateRequest updateRequest) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
 
         articleValidator.validateStatusUpdatePermission(member, article);
@@ -153,8 +183,8 @@ public class ArticleFacade {
     }
 
     @Transactional
-    public VoteSubmitResponse submitVoteForArticle(Long articleId, Long userId, VoteSubmitRequest request) {
-        Member member = memberService.findWithProjectsById(userId);
+    public VoteSubmitResponse submitVoteForArticle(Long articleId, VoteSubmitRequest request) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
         Vote vote = article.getVote();
         if (vote == null || vote.getIsDeleted()) {
@@ -175,8 +205,8 @@ public class ArticleFacade {
     }
 
     @Transactional
-    public VoteItemAddResponse addVoteItem(Long articleId, Long userId, VoteItemAddRequest request) {
-        Member member = memberService.findWithProjectsById(userId);
+    public VoteItemAddResponse addVoteItem(Long articleId, VoteItemAddRequest request) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
         Vote vote = article.getVote();
         if (vote == null || vote.getIsDeleted()) {
@@ -189,8 +219,8 @@ public class ArticleFacade {
         return VoteItemAddResponse.from(savedItem);
     }
 
-    public VoteResultResponse getVoteResults(Long articleId, Long userId) {
-        Member member = memberService.findWithProjectsById(userId);
+    public VoteResultResponse getVoteResults(Long articleId) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
         Vote vote = article.getVote();
         if (vote == null || vote.getIsDeleted()) {
@@ -2,9 +2,12 @@ package com.soda.project.application.stage.article;
 
 import com.querydsl.core.Tuple;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
+import com.soda.global.search.SearchHighlighter;
 import com.soda.project.domain.stage.article.Article;
 import com.soda.project.domain.stage.article.error.ArticleErrorCode;
 import com.soda.project.interfaces.stage.article.dto.ArticleListViewResponse;
+import com.soda.project.interfaces.stage.article.dto.ArticleSearchCondition;
 import com.soda.project.interfaces.stage.article.dto.MyArticleListResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,50 +16,75 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ArticleResponseBuilder {
 
-    public Page<ArticleListViewResponse> buildArticleListPageWithHierarchy(Page<Article> articlePage, Pageable pageable) {
+    private final SearchHighlighter searchHighlighter;
+
+    public Page<ArticleListViewResponse> buildArticleListPageWithHierarchy(Page<Article> articlePage, List<Article> descendants,
+                                                                           Pageable pageable, ArticleSearchCondition searchCondition) {
         if (articlePage == null || articlePage.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        List<Article> articles = articlePage.getContent();
-
-        List<ArticleListViewResponse> flatArticleDTOList = articles.stream()
-                .map(ArticleListViewResponse::fromEntity)
-                .toList();
+        return new PageImpl<>(buildHierarchy(articlePage.getContent(), descendants, highlightKeyword(searchCondition)),
+                pageable, articlePage.getTotalElements());
+    }
 
-        Map<Long, List<ArticleListViewResponse>> parentToChildMap = flatArticleDTOList.stream()
-                .filter(dto -> dto.getParentArticleId() != null)
-                .collect(Collectors.groupingBy(ArticleListViewResponse::getParentArticleId));
+    public SlicedData<ArticleListViewResponse> buildArticleListSliceWithHierarchy(SlicedData<Article> articleSlice, List<Article> descendants,
+                                                                                  ArticleSearchCondition searchCondition) {
+        return articleSlice.withContent(buildHierarchy(articleSlice.getContent(), descendants, highlightKeyword(searchCondition)));
+    }
 
-        List<ArticleListViewResponse> hierarchicalArticleDTOList = flatArticleDTOList.stream()
-                .filter(dto -> dto.getParentArticleId() == null)
-                .map(rootDto -> buildRecursiveHierarchy(rootDto, parentToChildMap))
-                .collect(Collectors.toList());
+    /**
+     * 루트 게시글 목록과 그 하위 게시글 전체로 트리를 조립한다.
+     * 모든 노드를 id 로 먼저 만들어 두고, 하위 게시글을 한 번 훑으며 부모 노드에 붙인다. (재귀/지연 로딩 없음)
+     * 하위 게시글은 작성 순서로 들어오므로 같은 부모의 답글도 작성 순서로 붙는다.
+     */
+    private List<ArticleListViewResponse> buildHierarchy(List<Article> roots, List<Article> descendants, String keyword) {
+        Map<Long, ArticleListViewResponse> nodes = new HashMap<>();
+        List<ArticleListViewResponse> rootDtos = new ArrayList<>(roots.size());
+        for (Article root : roots) {
+            ArticleListViewResponse dto = toListViewResponse(root, keyword);
+            nodes.put(root.getId(), dto);
+            rootDtos.add(dto);
+        }
+        for (Article descendant : descendants) {
+            nodes.put(descendant.getId(), toListViewResponse(descendant, keyword));
+        }
 
-        return new PageImpl<>(hierarchicalArticleDTOList, pageable, articlePage.getTotalElements());
+        for (Article descendant : descendants) {
+            ArticleListViewResponse parent = nodes.get(descendant.getParentArticle().getId());
+            if (parent != null) {
+                parent.addChild(nodes.get(descendant.getId()));
+            }
+        }
+        return rootDtos;
     }
 
-    private ArticleListViewResponse buildRecursiveHierarchy(ArticleListViewResponse currentDto, Map<Long, List<ArticleListViewResponse>> parentToChildMap) {
-        List<ArticleListViewResponse> childDtos = parentToChildMap.get(currentDto.getId());
-
-        if (childDtos != null && !childDtos.isEmpty()) {
-            // 자식 DTO들이 있다면, 각 자식에 대해서도 재귀적으로 이 함수를 호출하여 그들의 자식들을 설정
-            List<ArticleListViewResponse> processedChildren = childDtos.stream()
-                    .map(childDto -> buildRecursiveHierarchy(childDto, parentToChildMap))
-                    .collect(Collectors.toList());
+    // 제목/내용 검색일 때만 스니펫을 만든다
+    private String highlightKeyword(ArticleSearchCondition searchCondition) {
+        return searchCondition != null && searchCondition.getSearchType() == ArticleSearchCondition.SearchType.TITLE_CONTENT
+                ? searchCondition.getKeyword()
+                : null;
+    }
 
-            return currentDto.withChildArticles(processedChildren);
-        } else {
-            return currentDto;
+    // 스니펫은 내용에서 먼저 찾고, 없으면 제목에서 찾는다
+    private ArticleListViewResponse toListViewResponse(Article article, String keyword) {
+        String snippet = null;
+        if (keyword != null) {
+            snippet = searchHighlighter.highlight(article.getContent(), keyword);
+            if (snippet == null) {
+                snippet = searchHighlighter.highlight(article.getTitle(), keyword);
+            }
         }
+        return ArticleListViewResponse.fromEntity(article, snippet);
     }
 
     public Page<MyArticleListResponse> buildMyArticleListPage(Page<Tuple> tuplePage) {
@@ -66,6 +94,10 @@ public class ArticleResponseBuilder {
         return tuplePage.map(this::mapTupleToMyArticleResponse);
     }
 
+    public SlicedData<MyArticleListResponse> buildMyArticleListSlice(SlicedData<Tuple> tupleSlice) {
+        return tupleSlice.map(this::mapTupleToMyArticleResponse);
+    }
+
     private MyArticleListResponse mapTupleToMyArticleResponse(Tuple tuple) {
         // Tuple에서 데이터 추출
         Long articleId = tuple.get(0, Long.class);
@@ -1,8 +1,8 @@
 package com.soda.project.application.stage.article.comment;
 
 import com.soda.global.log.data.annotation.LoggableEntityAction;
+import com.soda.global.security.auth.AuthenticatedMemberContext;
 import com.soda.member.domain.member.Member;
-import com.soda.member.domain.member.MemberService;
 import com.soda.project.application.stage.article.comment.builder.CommentHierarchyBuilder;
 import com.soda.project.application.stage.article.comment.validator.CommentValidator;
 import com.soda.project.application.stage.article.validator.ArticleValidator;
@@ -25,7 +25,7 @@ import java.util.List;
 public class CommentFacade {
 
     private final CommentService commentService;
-    private final MemberService memberService;
+    private final AuthenticatedMemberContext memberContext;
     private final ArticleService articleService;
     private final ProjectService projectService;
     private final CommentHierarchyBuilder commentHierarchyBuilder;
@@ -35,8 +35,8 @@ public class CommentFacade {
 
     @LoggableEntityAction(action = "CREATE", entityClass = Comment.class)
     @Transactional
-    public CommentCreateResponse createComment(Long userId, String userRole, CommentCreateRequest request) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public CommentCreateResponse createComment(String userRole, CommentCreateRequest request) {
+        Member member = memberContext.getMember();
         Project project = projectService.getValidProject(request.getProjectId());
         Article article = articleService.validateArticle(request.getArticleId());
 
@@ -50,8 +50,8 @@ public class CommentFacade {
         return commentService.createComment(request.getContent(), member, article, parentComment);
     }
 
-    public List<CommentDTO> getCommentList(Long userId, String userRole, Long articleId) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public List<CommentDTO> getCommentList(String userRole, Long articleId) {
+        Member member = memberContext.getMember();
         Article article = articleService.validateArticle(articleId);
         Project project = article.getStage().getProject();
 
@@ -63,8 +63,8 @@ public class CommentFacade {
 
     @LoggableEntityAction(action = "DELETE", entityClass = Comment.class)
     @Transactional
-    public void deleteComment(Long userId, Long commentId) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public void deleteComment(Long commentId) {
+        Member member = memberContext.getMember();
         Comment comment = commentService.findCommentById(commentId);
 
         commentValidator.validateCommentAuthor(member, comment);
@@ -74,8 +74,8 @@ public class CommentFacade {
 
     @LoggableEntityAction(action = "UPDATE", entityClass = Comment.class)
     @Transactional
-    public CommentUpdateResponse updateComment(Long userId, CommentUpdateRequest request, Long commentId) {
-        Member member = memberService.findByIdAndIsDeletedFalse(userId);
+    public CommentUpdateResponse updateComment(CommentUpdateRequest request, Long commentId) {
+        Member member = memberContext.getMember();
         Comment comment = commentService.findCommentById(commentId);
 
         commentValidator.validateCommentAuthor(member, comment);
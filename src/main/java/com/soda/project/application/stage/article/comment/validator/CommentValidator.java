@@ -5,6 +5,7 @@ import com.soda.member.domain.member.Member;
 import com.soda.member.domain.member.MemberRole;
 import com.soda.project.domain.Project;
 import com.soda.project.domain.ProjectErrorCode;
+import com.soda.project.domain.member.MemberProjectService;
 import com.soda.project.domain.stage.article.Article;
 import com.soda.project.domain.stage.article.comment.Comment;
 import com.soda.project.domain.stage.article.comment.error.CommentErrorCode;
@@ -16,6 +17,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CommentValidator {
 
+    private final MemberProjectService memberProjectService;
+
     public void validateAccessPermission(String userRole, Member member, Project project) {
         MemberRole role = MemberRole.valueOf(userRole.toUpperCase());
         if (role == MemberRole.ADMIN) {
@@ -50,12 +53,6 @@ public class CommentValidator {
     }
 
     private boolean isMemberInProject(Long projectId, Member member) {
-        if (member.getMemberProjects() == null) {
-            return false;
-        }
-
-        return member.getMemberProjects().stream()
-                .filter(mp -> !mp.getIsDeleted())
-                .anyMatch(mp -> mp.getProject().getId().equals(projectId));
+        return memberProjectService.getMembership(member.getId(), projectId) != null;
     }
 }
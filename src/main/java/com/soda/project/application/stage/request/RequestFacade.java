@@ -1,20 +1,26 @@
 package com.soda.project.application.stage.request;
 
 import com.soda.global.log.data.annotation.LoggableEntityAction;
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
+import com.soda.global.security.auth.AuthenticatedMemberContext;
 import com.soda.member.domain.member.Member;
-import com.soda.member.domain.member.MemberService;
 import com.soda.project.application.validator.ProjectValidator;
+import com.soda.project.domain.event.ProjectActivityEvent;
 import com.soda.project.domain.stage.Stage;
 import com.soda.project.domain.stage.StageService;
 import com.soda.project.domain.stage.request.Request;
 import com.soda.project.domain.stage.request.RequestService;
+import com.soda.project.domain.stats.ProjectActivityType;
 import com.soda.project.interfaces.stage.request.dto.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -22,57 +28,68 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class RequestFacade {
     private final RequestService requestService;
-    private final MemberService memberService;
+    private final AuthenticatedMemberContext memberContext;
     private final StageService stageService;
 
     private final ProjectValidator projectValidator;
     private final RequestValidator requestValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @LoggableEntityAction(action = "CREATE", entityClass = Request.class)
     @Transactional
-    public RequestCreateResponse createRequest(Long memberId, RequestCreateRequest requestCreateRequest) {
-        Member member = memberService.getMemberWithProjectOrThrow(memberId);
+    public RequestCreateResponse createRequest(RequestCreateRequest requestCreateRequest) {
+        Member member = memberContext.getMember();
         Stage stage = stageService.getStageOrThrow(requestCreateRequest.getStageId());
-        projectValidator.validateProjectAuthority(member, requestCreateRequest.getProjectId());
+        projectValidator.validateProjectAuthority(memberContext.get(), requestCreateRequest.getProjectId());
 
-        return requestService.createRequest(member, stage, requestCreateRequest);
+        RequestCreateResponse response = requestService.createRequest(member, stage, requestCreateRequest);
+        eventPublisher.publishEvent(ProjectActivityEvent.created(stage.getProject().getId(), ProjectActivityType.REQUEST, LocalDateTime.now()));
+        return response;
     }
 
     @LoggableEntityAction(action = "CREATE", entityClass = Request.class)
     @Transactional
-    public RequestCreateResponse createReRequest(Long memberId, Long requestId, ReRequestCreateRequest reRequestCreateRequest) {
-        Member member = memberService.getMemberWithProjectOrThrow(memberId);
+    public RequestCreateResponse createReRequest(Long requestId, ReRequestCreateRequest reRequestCreateRequest) {
+        Member member = memberContext.getMember();
         Request parentRequest = requestService.getRequestOrThrow(requestId);
         Stage stage = stageService.getStageOrThrow(parentRequest.getStage().getId());
-        projectValidator.validateProjectAuthority(member, requestId);
+        projectValidator.validateProjectAuthority(memberContext.get(), stage.getProject().getId());
         requestValidator.validateRequestStatus(parentRequest);
 
-        return requestService.createReRequest(requestId, member, stage, reRequestCreateRequest);
+        RequestCreateResponse response = requestService.createReRequest(requestId, member, stage, reRequestCreateRequest);
+        eventPublisher.publishEvent(ProjectActivityEvent.created(stage.getProject().getId(), ProjectActivityType.REQUEST, LocalDateTime.now()));
+        return response;
     }
 
     @LoggableEntityAction(action = "UPDATE", entityClass = Request.class)
     @Transactional
-    public RequestUpdateResponse updateRequest(Long memberId, Long requestId, RequestUpdateRequest requestUpdateRequest) {
+    public RequestUpdateResponse updateRequest(Long requestId, RequestUpdateRequest requestUpdateRequest) {
         Request request = requestService.getRequestOrThrow(requestId);
-        requestValidator.validaRequestWriter(memberId, request);
+        requestValidator.validaRequestWriter(memberContext.getMemberId(), request);
 
         return requestService.updateRequest(request, requestUpdateRequest);
     }
 
     @LoggableEntityAction(action = "DELETE", entityClass = Request.class)
     @Transactional
-    public RequestDeleteResponse deleteRequest(Long memberId, Long requestId) {
+    public RequestDeleteResponse deleteRequest(Long requestId) {
         Request request = requestService.getRequestOrThrow(requestId);
-        requestValidator.validaRequestWriter(memberId, request);
+        requestValidator.validaRequestWriter(memberContext.getMemberId(), request);
 
-        return requestService.deleteRequest(request);
+        RequestDeleteResponse response = requestService.deleteRequest(request);
+        eventPublisher.publishEvent(ProjectActivityEvent.deleted(request.getStage().getProject().getId(), ProjectActivityType.REQUEST, request.getCreatedAt()));
+        return response;
     }
 
     public Page<RequestDTO> findRequests(Long projectId, GetRequestCondition condition, Pageable pageable) {
         return requestService.findRequests(projectId, condition, pageable);
     }
 
-    public Page<RequestDTO> findMemberRequests(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
+    public SlicedData<RequestDTO> findRequestsSlice(Long projectId, GetRequestCondition condition, String cursor, int size) {
+        return requestService.findRequestsSlice(projectId, condition, Cursor.decode(cursor), SlicedData.normalizeSize(size));
+    }
+
+    public Page<MemberRequestListItem> findMemberRequests(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
         return requestService.findMemberRequests(memberId, condition, pageable);
     }
 
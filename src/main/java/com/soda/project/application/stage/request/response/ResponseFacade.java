@@ -1,8 +1,8 @@
 package com.soda.project.application.stage.request.response;
 
 import com.soda.global.log.data.annotation.LoggableEntityAction;
+import com.soda.global.security.auth.AuthenticatedMemberContext;
 import com.soda.member.domain.member.Member;
-import com.soda.member.domain.member.MemberService;
 import com.soda.project.application.stage.request.response.validator.ResponseValidator;
 import com.soda.project.application.stage.request.validator.RequestApproverValidator;
 import com.soda.project.application.validator.ProjectValidator;
@@ -23,7 +23,7 @@ import java.util.List;
 public class ResponseFacade {
 
     private final ResponseService responseService;
-    private final MemberService memberService;
+    private final AuthenticatedMemberContext memberContext;
     private final RequestService requestService;
 
     private final ProjectValidator projectValidator;
@@ -32,11 +32,11 @@ public class ResponseFacade {
 
     @LoggableEntityAction(action = "CREATE", entityClass = Response.class)
     @Transactional
-    public RequestApproveResponse approveRequest(Long memberId, Long requestId,
+    public RequestApproveResponse approveRequest(Long requestId,
                                                  RequestApproveRequest requestApproveRequest) {
-        Member member = memberService.getMemberWithProjectOrThrow(memberId);
+        Member member = memberContext.getMember();
         Request request = requestService.getRequestOrThrow(requestId);
-        projectValidator.validateProjectAuthority(member, requestApproveRequest.getProjectId());
+        projectValidator.validateProjectAuthority(memberContext.get(), requestApproveRequest.getProjectId());
         requestApproverValidator.validateApprover(member, request.getApprovers());
 
         return responseService.approveRequest(member, request, requestApproveRequest);
@@ -44,11 +44,11 @@ public class ResponseFacade {
 
     @LoggableEntityAction(action = "CREATE", entityClass = Response.class)
     @Transactional
-    public RequestRejectResponse rejectRequest(Long memberId, Long requestId,
+    public RequestRejectResponse rejectRequest(Long requestId,
                                                RequestRejectRequest requestRejectRequest) {
-        Member member = memberService.getMemberWithProjectOrThrow(memberId);
+        Member member = memberContext.getMember();
         Request request = requestService.getRequestOrThrow(requestId);
-        projectValidator.validateProjectAuthority(member, requestRejectRequest.getProjectId());
+        projectValidator.validateProjectAuthority(memberContext.get(), requestRejectRequest.getProjectId());
         requestApproverValidator.validateApprover(member, request.getApprovers());
 
         return responseService.rejectRequest(member, request, requestRejectRequest);
@@ -56,18 +56,17 @@ public class ResponseFacade {
 
     @LoggableEntityAction(action = "UPDATE", entityClass = Response.class)
     @Transactional
-    public ResponseUpdateResponse updateResponse(Long memberId, Long responseId,
-                                                 ResponseUpdateRequest responseUpdateRequest) {
+    public ResponseUpdateResponse updateResponse(Long responseId, ResponseUpdateRequest responseUpdateRequest) {
         Response response = responseService.getResponseOrThrow(responseId);
-        responseValidator.validateResponseWriter(response, memberId);
+        responseValidator.validateResponseWriter(response, memberContext.getMemberId());
         return responseService.updateResponse(response, responseUpdateRequest);
     }
 
     @LoggableEntityAction(action = "DELETE", entityClass = Response.class)
     @Transactional
-    public ResponseDeleteResponse deleteResponse(Long memberId, Long responseId) {
+    public ResponseDeleteResponse deleteResponse(Long responseId) {
         Response response = responseService.getResponseOrThrow(responseId);
-        responseValidator.validateResponseWriter(response, memberId);
+        responseValidator.validateResponseWriter(response, memberContext.getMemberId());
 
         return responseService.deleteResponse(response);
     }
@@ -8,17 +8,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class RequestApproverValidator {
 
     public void validateApprover(Member member, List<ApproverDesignation> approvers) {
-        List<Member> members = approvers.stream()
+        // 요청자는 조회 없이 만든 참조일 수 있으므로 인스턴스가 아닌 ID로 비교
+        boolean isApprover = approvers.stream()
                 .map(ApproverDesignation::getMember)
-                .collect(Collectors.toList());
-        if (!members.contains(member)) {
+                .anyMatch(approver -> approver.getId().equals(member.getId()));
+        if (!isApprover) {
             throw new GeneralException(RequestErrorCode.USER_IS_NOT_APPROVER);
         }
     }
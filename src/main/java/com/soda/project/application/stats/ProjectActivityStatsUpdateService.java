@@ -0,0 +1,110 @@
+package com.soda.project.application.stats;
+
+import com.soda.project.domain.event.ProjectActivityEvent;
+import com.soda.project.infrastructure.stats.ProjectActivityDailyStatsRepository;
+import com.soda.project.infrastructure.stats.ProjectActivityStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectActivityStatsUpdateService {
+    private static final int WEEKLY_WINDOW_DAYS = 7;
+
+    private final ProjectActivityStatsRepository activityStatsRepository;
+    private final ProjectActivityDailyStatsRepository dailyStatsRepository;
+
+    /**
+     * 새 프로젝트의 통계 행 생성 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void createStats(Long projectId) {
+        activityStatsRepository.createIfAbsent(projectId);
+    }
+
+    /**
+     * 요청/게시글 생성·삭제 이벤트를 통계에 반영
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyActivity(ProjectActivityEvent event) {
+        Long projectId = event.getProjectId();
+        LocalDate statDate = event.getActivityCreatedAt().toLocalDate();
+
+        if (!event.isDeleted()) {
+            switch (event.getActivityType()) {
+                case REQUEST -> {
+                    dailyStatsRepository.incrementRequestCount(projectId, statDate);
+                    activityStatsRepository.recordRequestCreated(projectId, event.getActivityCreatedAt());
+                }
+                case ARTICLE -> {
+                    dailyStatsRepository.incrementArticleCount(projectId, statDate);
+                    activityStatsRepository.recordArticleCreated(projectId, event.getActivityCreatedAt());
+                }
+            }
+            return;
+        }
+
+        // 집계 구간 밖에서 생성된 항목의 삭제는 주간 카운트에 영향 없음
+        if (statDate.isBefore(windowStartDate())) {
+            log.debug("집계 구간 밖 활동 삭제 무시: projectId={}, createdDate={}", projectId, statDate);
+            return;
+        }
+        switch (event.getActivityType()) {
+            case REQUEST -> {
+                dailyStatsRepository.decrementRequestCount(projectId, statDate);
+                activityStatsRepository.decrementWeeklyRequestCount(projectId);
+            }
+            case ARTICLE -> {
+                dailyStatsRepository.decrementArticleCount(projectId, statDate);
+                activityStatsRepository.decrementWeeklyArticleCount(projectId);
+            }
+        }
+    }
+
+    /**
+     * 매일 자정 7일 구간을 한 칸 밀고, 일별 버킷 기준으로 주간 카운트를 다시 계산
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    @Transactional
+    public void rollWeeklyWindow() {
+        LocalDate fromDate = windowStartDate();
+        int purged = dailyStatsRepository.deleteOlderThan(fromDate);
+        int updated = activityStatsRepository.recalculateWeeklyCounts(fromDate);
+        log.info("프로젝트 주간 활동 통계 갱신 완료: fromDate={}, 정리된 버킷={}, 갱신된 프로젝트={}", fromDate, purged, updated);
+    }
+
+    /**
+     * 통계 테이블이 비어 있으면 (최초 배포 등) 원본 테이블에서 한 번 적재
+     * 비어 있지 않으면 통계 행이 없는 프로젝트의 행만 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (activityStatsRepository.count() > 0) {
+            int created = activityStatsRepository.createMissing();
+            if (created > 0) {
+                log.info("통계 행이 없던 프로젝트 {}개의 행 생성", created);
+            }
+            return;
+        }
+        LocalDate fromDate = windowStartDate();
+        log.info("프로젝트 활동 통계 초기 적재 시작: fromDate={}", fromDate);
+        dailyStatsRepository.rebuildFrom(fromDate);
+        activityStatsRepository.rebuildRecentActivityDates();
+        activityStatsRepository.recalculateWeeklyCounts(fromDate);
+        log.info("프로젝트 활동 통계 초기 적재 완료");
+    }
+
+    private LocalDate windowStartDate() {
+        return LocalDate.now().minusDays(WEEKLY_WINDOW_DAYS - 1);
+    }
+}
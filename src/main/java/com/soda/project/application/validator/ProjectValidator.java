@@ -2,6 +2,7 @@ package com.soda.project.application.validator;
 
 import com.soda.global.response.CommonErrorCode;
 import com.soda.global.response.GeneralException;
+import com.soda.global.security.auth.AuthenticatedMember;
 import com.soda.member.domain.company.Company;
 import com.soda.member.domain.company.CompanyService;
 import com.soda.member.domain.member.Member;
@@ -9,8 +10,8 @@ import com.soda.member.domain.member.MemberRole;
 import com.soda.member.domain.member.MemberService;
 import com.soda.project.domain.Project;
 import com.soda.project.domain.ProjectErrorCode;
-import com.soda.project.domain.member.MemberProjectRole;
 import com.soda.project.domain.member.MemberProjectService;
+import com.soda.project.domain.member.ProjectMembership;
 import com.soda.project.interfaces.dto.CompanyAssignment;
 import com.soda.project.interfaces.dto.DevCompanyAssignmentRequest;
 import lombok.RequiredArgsConstructor;
@@ -33,18 +34,18 @@ public class ProjectValidator {
     private final MemberService memberService;
     private final MemberProjectService memberProjectService;
 
-    public void validateProjectAuthority(Member member, Long projectId) {
-        if (!isCliInCurrentProject(projectId, member) && !isAdmin(member.getRole())) {
+    public void validateProjectAuthority(AuthenticatedMember member, Long projectId) {
+        if (isAdmin(member.role())) {
+            return;
+        }
+        if (!isCliInCurrentProject(projectId, member)) {
             throw new GeneralException(CommonErrorCode.USER_NOT_IN_PROJECT_CLI);
         }
     }
 
-    private static boolean isCliInCurrentProject(Long projectId, Member member) {
-        return member.getMemberProjects().stream()
-                .anyMatch(mp ->
-                        mp.getProject().getId().equals(projectId) &&
-                                (mp.getRole() == MemberProjectRole.CLI_MANAGER || mp.getRole() == MemberProjectRole.CLI_PARTICIPANT)
-                );
+    private boolean isCliInCurrentProject(Long projectId, AuthenticatedMember member) {
+        ProjectMembership membership = memberProjectService.getMembership(member.memberId(), projectId);
+        return membership != null && membership.isClientMember();
     }
 
     private static boolean isAdmin(MemberRole memberRole) {
@@ -100,13 +101,13 @@ public class ProjectValidator {
         }
     }
 
-    public void validateProjectAccessPermission(Member member, Project project) {
+    public void validateProjectAccessPermission(AuthenticatedMember member, Project project) {
         // 1. 관리자 확인
-        if (member.getRole() == MemberRole.ADMIN) {
+        if (isAdmin(member.role())) {
             return;
         }
         // 2. 프로젝트 멤버 확인
-        boolean isParticipant = memberProjectService.existsByMemberAndProjectAndIsDeletedFalse(member, project);
+        boolean isParticipant = memberProjectService.getMembership(member.memberId(), project.getId()) != null;
         if (!isParticipant) {
             throw new GeneralException(ProjectErrorCode.MEMBER_NOT_IN_PROJECT);
         }
@@ -0,0 +1,16 @@
+package com.soda.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "project.authorization")
+@Data
+public class ProjectAuthorizationProperties {
+    private Duration cacheTtl = Duration.ofMinutes(10);                        // 변경 전파가 누락돼도 이 시간 뒤에는 DB 기준으로 다시 로드
+    private long cacheMaxSize = 10_000;                                         // 캐시할 최대 회원 수
+    private String invalidationChannel = "project:authorization:invalidate";   // 다른 노드의 캐시 무효화용 Redis 채널
+}
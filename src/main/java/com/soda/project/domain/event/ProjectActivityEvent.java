@@ -0,0 +1,29 @@
+package com.soda.project.domain.event;
+
+import com.soda.project.domain.stats.ProjectActivityType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ProjectActivityEvent {
+    private final Long projectId;
+    private final ProjectActivityType activityType;
+    private final LocalDateTime activityCreatedAt; // 요청/게시글의 생성 시각
+    private final boolean deleted;
+
+    private ProjectActivityEvent(Long projectId, ProjectActivityType activityType, LocalDateTime activityCreatedAt, boolean deleted) {
+        this.projectId = projectId;
+        this.activityType = activityType;
+        this.activityCreatedAt = activityCreatedAt;
+        this.deleted = deleted;
+    }
+
+    public static ProjectActivityEvent created(Long projectId, ProjectActivityType activityType, LocalDateTime createdAt) {
+        return new ProjectActivityEvent(projectId, activityType, createdAt, false);
+    }
+
+    public static ProjectActivityEvent deleted(Long projectId, ProjectActivityType activityType, LocalDateTime createdAt) {
+        return new ProjectActivityEvent(projectId, activityType, createdAt, true);
+    }
+}
@@ -6,9 +6,11 @@ import java.time.LocalDate;
 
 @Getter
 public class ProjectCreatedEvent {
+    private final Long projectId;
     private final LocalDate creationDate;
 
-    public ProjectCreatedEvent (LocalDate creationDate) {
+    public ProjectCreatedEvent (Long projectId, LocalDate creationDate) {
+        this.projectId = projectId;
         this.creationDate = creationDate;
     }
 
@@ -35,4 +35,6 @@ public interface MemberProjectProvider {
     Page<MemberProject> findFilteredMembers(Long projectId, List<Long> filteredCompanyIds, Long specificCompanyId, MemberProjectRole memberRole, Long memberId, Pageable pageable);
 
     List<Long> findAllProjectIdsByMemberIdAndIsDeletedFalse(Long memberId);
+
+    List<ProjectMembership> findMembershipsByMemberId(Long memberId);
 }
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberProjectService {
     private final MemberProjectProvider memberProjectProvider;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public void addOrUpdateProjectMembers(Project project, CompanyProjectRole companyRole, List<Member> managers, List<Member> members) {
         log.info("프로젝트 멤버 추가/업데이트 시작: projectId={}, companyRole={}", project.getId(), companyRole);
@@ -40,6 +42,8 @@ public class MemberProjectService {
         if (!CollectionUtils.isEmpty(members)) {
             assignOrUpdateInternal(members, project, targetMemberRole);
         }
+        evictMembers(managers);
+        evictMembers(members);
 
         log.info("프로젝트 멤버 추가/업데이트 완료: projectId={}, companyRole={}", project.getId(), companyRole);
     }
@@ -101,7 +105,28 @@ public class MemberProjectService {
     }
 
     public boolean existsByMemberAndProjectAndIsDeletedFalse(Member member, Project project) {
-        return memberProjectProvider.existsByMemberAndProjectAndIsDeletedFalse(member, project);
+        return getMembership(member.getId(), project.getId()) != null;
+    }
+
+    /**
+     * 권한 검증용 프로젝트 참여 정보 (캐시). 참여하지 않았거나 참여 정보가 삭제된 경우 null
+     */
+    public ProjectMembership getMembership(Long memberId, Long projectId) {
+        return projectMembershipCache.find(memberId, projectId);
+    }
+
+    /**
+     * 참여 정보가 바뀐 회원들의 권한 캐시를 커밋 후 무효화합니다.
+     * MemberProject 를 이 서비스 밖에서(Project 연관관계 등) 변경한 경우 호출해야 합니다.
+     */
+    public void evictMemberships(Collection<Long> memberIds) {
+        projectMembershipCache.invalidate(memberIds);
+    }
+
+    private void evictMembers(List<Member> members) {
+        if (!CollectionUtils.isEmpty(members)) {
+            evictMemberships(members.stream().map(Member::getId).toList());
+        }
     }
 
     public List<Member> getMembersByCompanyAndRole(Project project, Company company, MemberProjectRole role) {
@@ -131,8 +156,8 @@ public class MemberProjectService {
      * 멤버가 해당 프로젝트에 참여하지 않거나, 참여 정보가 삭제된 경우 null을 반환합니다.
      */
     public MemberProjectRole getMemberRoleInProject(Member member, Project project) {
-        Optional<MemberProject> memberProjectOpt = memberProjectProvider.findByMemberAndProjectAndIsDeletedFalse(member, project);
-        return memberProjectOpt.map(MemberProject::getRole).orElse(null);
+        ProjectMembership membership = getMembership(member.getId(), project.getId());
+        return membership != null ? membership.memberRole() : null;
     }
 
     @Transactional
@@ -143,6 +168,7 @@ public class MemberProjectService {
         for (MemberProject memberProject: membersToDelete) {
             memberProject.delete();
         }
+        evictMemberships(membersToDelete.stream().map(mp -> mp.getMember().getId()).toList());
 
         log.info("멤버 {}명이 프로젝트 ID {} 에서 삭제되었습니다.", membersToDelete.size(), project.getId());
     }
@@ -153,6 +179,7 @@ public class MemberProjectService {
                 .orElseThrow(() -> new GeneralException(ProjectErrorCode.MEMBER_PROJECT_NOT_FOUND));
 
         memberToDelete.delete();
+        evictMemberships(List.of(memberId));
         log.info("단일 멤버 연결 삭제 완료: projectId={}, memberId={}, memberProjectId={}",
                 project.getId(), memberId, memberToDelete.getId());
     }
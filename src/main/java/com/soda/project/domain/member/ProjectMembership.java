@@ -0,0 +1,14 @@
+package com.soda.project.domain.member;
+
+import com.soda.project.domain.company.CompanyProjectRole;
+
+/**
+ * 회원 한 명의 프로젝트 참여 정보 (권한 검증용)
+ * companyRole 은 회원 소속 회사의 해당 프로젝트 내 역할이며, 회사가 프로젝트에 배정되지 않았으면 null
+ */
+public record ProjectMembership(Long projectId, MemberProjectRole memberRole, CompanyProjectRole companyRole) {
+
+    public boolean isClientMember() {
+        return memberRole == MemberProjectRole.CLI_MANAGER || memberRole == MemberProjectRole.CLI_PARTICIPANT;
+    }
+}
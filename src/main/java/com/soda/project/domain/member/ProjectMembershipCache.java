@@ -0,0 +1,135 @@
+package com.soda.project.domain.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soda.project.config.ProjectAuthorizationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 권한 검증용 로컬 캐시 (memberId → {projectId → 멤버 역할, 회사 역할})
+ * 회원의 참여 프로젝트 전체를 쿼리 한 번으로 읽어 두고, 권한 검증은 메모리에서 처리한다.
+ * 참여 정보가 바뀌면 커밋 후 해당 회원들만 무효화하고, Redis 채널로 다른 노드에도 무효화를 전파한다.
+ */
+@Slf4j
+@Component
+public class ProjectMembershipCache implements MessageListener {
+
+    private final Cache<Long, Map<Long, ProjectMembership>> cache;
+    private final MemberProjectProvider memberProjectProvider;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String invalidationChannel;
+
+    public ProjectMembershipCache(ProjectAuthorizationProperties properties, MemberProjectProvider memberProjectProvider,
+                                  RedisTemplate<String, Object> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaxSize())
+                .recordStats()
+                .build();
+        this.memberProjectProvider = memberProjectProvider;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.invalidationChannel = properties.getInvalidationChannel();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.membership");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+    }
+
+    /**
+     * 회원이 참여 중인(삭제되지 않은) 프로젝트별 역할. 참여 프로젝트가 없으면 빈 Map
+     */
+    public Map<Long, ProjectMembership> getMemberships(Long memberId) {
+        return cache.get(memberId, this::load);
+    }
+
+    /**
+     * 특정 프로젝트 참여 정보. 참여하지 않았으면 null
+     */
+    public ProjectMembership find(Long memberId, Long projectId) {
+        if (memberId == null || projectId == null) {
+            return null;
+        }
+        return getMemberships(memberId).get(projectId);
+    }
+
+    private Map<Long, ProjectMembership> load(Long memberId) {
+        Map<Long, ProjectMembership> memberships = memberProjectProvider.findMembershipsByMemberId(memberId).stream()
+                .collect(Collectors.toUnmodifiableMap(ProjectMembership::projectId, Function.identity(), (first, duplicate) -> first));
+        log.debug("프로젝트 참여 정보 로드: memberId={}, projects={}", memberId, memberships.size());
+        return memberships;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 무효화 (커밋 전에 지우면 다른 요청이 변경 전 값을 다시 캐시할 수 있음)
+     */
+    public void invalidate(Collection<Long> memberIds) {
+        if (CollectionUtils.isEmpty(memberIds)) {
+            return;
+        }
+        Set<Long> targets = memberIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (targets.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(targets);
+                }
+            });
+        } else {
+            invalidateNow(targets);
+        }
+    }
+
+    private void invalidateNow(Set<Long> memberIds) {
+        cache.invalidateAll(memberIds);
+        String payload = memberIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, payload);
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 참여 정보 캐시 무효화 전파 실패 (다른 노드는 TTL 만료 후 반영): memberIds={}", payload, e);
+        }
+        log.debug("프로젝트 참여 정보 캐시 무효화: memberIds={}", payload);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidateAll(Arrays.stream(payload.split(","))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 프로젝트 참여 정보 무효화 메시지, 전체 무효화: {}", payload);
+            cache.invalidateAll();
+        }
+        log.debug("다른 노드 요청으로 프로젝트 참여 정보 캐시 무효화: memberIds={}", payload);
+    }
+}
@@ -20,6 +20,11 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(name = "article", indexes = {
+        // 내 게시글 / 단계별 게시글 목록: 조건 컬럼 뒤에 created_at, id 를 두어 정렬/커서 조회를 인덱스로 처리
+        @Index(name = "idx_article_member_deleted_created", columnList = "member_id, is_deleted, created_at, id"),
+        @Index(name = "idx_article_stage_deleted_created", columnList = "stage_id, is_deleted, created_at, id")
+})
 public class Article extends BaseEntity {
 
     private String title;
@@ -1,6 +1,8 @@
 package com.soda.project.domain.stage.article;
 
 import com.querydsl.core.Tuple;
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
 import com.soda.project.domain.Project;
 import com.soda.project.domain.stage.Stage;
 import com.soda.project.interfaces.stage.article.dto.ArticleSearchCondition;
@@ -17,6 +19,10 @@ public interface ArticleProvider {
 
     Page<Article> searchArticles(Long projectId, ArticleSearchCondition searchCondition, Pageable pageable);
 
+    SlicedData<Article> searchArticlesSlice(Long projectId, ArticleSearchCondition searchCondition, Cursor cursor, int size);
+
+    List<Article> findDescendants(List<Long> rootIds);
+
     List<Article> findByStageAndStage_Project(Stage stage, Project project);
 
     List<Article> findByStage_Project(Project project);
@@ -24,4 +30,6 @@ public interface ArticleProvider {
     Optional<Article> findByIdAndIsDeletedFalseWithMemberAndCompanyUsingQuerydsl(Long articleId);
 
     Page<Tuple> findMyArticlesData(Long userId, Long projectId, Pageable pageable);
+
+    SlicedData<Tuple> findMyArticlesSlice(Long userId, Long projectId, Cursor cursor, int size);
 }
@@ -1,7 +1,9 @@
 package com.soda.project.domain.stage.article;
 
 import com.querydsl.core.Tuple;
+import com.soda.global.response.Cursor;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
 import com.soda.member.domain.member.Member;
 import com.soda.project.domain.stage.Stage;
 import com.soda.project.domain.stage.article.enums.ArticleStatus;
@@ -80,6 +82,16 @@ public class ArticleService {
         return articleProvider.searchArticles(projectId, articleSearchCondition, pageable);
     }
 
+    // 특정 프로젝트 단계에 속한 게시글 커서 기반 조회
+    public SlicedData<Article> getArticlesSlice(Long projectId, ArticleSearchCondition articleSearchCondition, Cursor cursor, int size) {
+        return articleProvider.searchArticlesSlice(projectId, articleSearchCondition, cursor, size);
+    }
+
+    // 루트 게시글들의 모든 하위 게시글 조회 (목록 트리 조립용)
+    public List<Article> findDescendants(List<Article> rootArticles) {
+        return articleProvider.findDescendants(rootArticles.stream().map(Article::getId).toList());
+    }
+
     // 특정 게시글을 조회
     public ArticleViewResponse getArticle(Article article) {
         return ArticleViewResponse.fromEntity(article);
@@ -99,6 +111,11 @@ public class ArticleService {
         return articleProvider.findMyArticlesData(userId, projectId, pageable);
     }
 
+    // 사용자가 작성한 게시글 커서 기반 조회
+    public SlicedData<Tuple> findMyArticlesSlice(Long userId, Long projectId, Cursor cursor, int size) {
+        return articleProvider.findMyArticlesSlice(userId, projectId, cursor, size);
+    }
+
     // 게시글 상태 변경
     public Article updateArticleStatus(Article article, ArticleStatus newStatus) {
         article.changeStatus(newStatus);
@@ -21,6 +21,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(name = "request", indexes = {
+        // 단계별 루트 요청 목록: parent_id IS NULL 조건 뒤에 created_at, id 를 두어 정렬/커서 조회를 인덱스로 처리
+        @Index(name = "idx_request_stage_deleted_parent_created", columnList = "stage_id, is_deleted, parent_id, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Request extends BaseEntity {
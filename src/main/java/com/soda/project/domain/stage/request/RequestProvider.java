@@ -1,7 +1,10 @@
 package com.soda.project.domain.stage.request;
 
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
 import com.soda.project.interfaces.stage.request.dto.GetMemberRequestCondition;
 import com.soda.project.interfaces.stage.request.dto.GetRequestCondition;
+import com.soda.project.interfaces.stage.request.dto.MemberRequestListItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,7 +16,11 @@ public interface RequestProvider {
 
     Page<Request> searchByCondition(Long projectId, GetRequestCondition condition, Pageable pageable);
 
-    Page<Request> searchByMemberCondition(Long memberId, GetMemberRequestCondition condition, Pageable pageable);
+    Page<Request> searchRootPagedByCondition(Long projectId, GetRequestCondition condition, Pageable pageable);
+
+    SlicedData<Request> searchRootSliceByCondition(Long projectId, GetRequestCondition condition, Cursor cursor, int size);
+
+    Page<MemberRequestListItem> searchByMemberCondition(Long memberId, GetMemberRequestCondition condition, Pageable pageable);
 
     List<Request> findAllByStage_IdAndIsDeletedFalse(Long stageId);
 
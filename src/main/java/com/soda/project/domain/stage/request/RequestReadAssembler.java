@@ -0,0 +1,60 @@
+package com.soda.project.domain.stage.request;
+
+import com.soda.project.domain.stage.request.approver.ApproverDesignationProvider;
+import com.soda.project.domain.stage.request.file.RequestFileProvider;
+import com.soda.project.domain.stage.request.link.RequestLinkProvider;
+import com.soda.project.interfaces.stage.common.file.dto.FileDTO;
+import com.soda.project.interfaces.stage.common.link.dto.LinkDTO;
+import com.soda.project.interfaces.stage.request.dto.ApproverDTO;
+import com.soda.project.interfaces.stage.request.dto.RequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 목록 → RequestDTO 변환
+ * 요청마다 링크/파일/승인자 컬렉션을 지연 로딩하지 않고, 현재 목록의 요청 id 로 연관 종류별 한 번씩만 조회해 묶는다.
+ * (목록 크기와 관계없이 연관 조회는 3번. 단계/작성자는 목록 조회 쿼리에서 fetch join)
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestReadAssembler {
+
+    private final RequestLinkProvider requestLinkProvider;
+    private final RequestFileProvider requestFileProvider;
+    private final ApproverDesignationProvider approverDesignationProvider;
+
+    public Page<RequestDTO> toDtoPage(Page<Request> requests) {
+        Map<Long, RequestDTO> dtos = toDtos(requests.getContent()).stream()
+                .collect(Collectors.toMap(RequestDTO::getRequestId, dto -> dto, (first, duplicate) -> first));
+        return requests.map(request -> dtos.get(request.getId())); // HierarchyPageImpl 등 Page 구현체 유지
+    }
+
+    public List<RequestDTO> toDtos(List<Request> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        List<Long> requestIds = requests.stream().map(Request::getId).distinct().toList();
+
+        Map<Long, List<LinkDTO>> links = requestLinkProvider.findAllByRequestIds(requestIds).stream()
+                .collect(Collectors.groupingBy(link -> link.getRequest().getId(),
+                        Collectors.mapping(LinkDTO::fromEntity, Collectors.toList())));
+        Map<Long, List<FileDTO>> files = requestFileProvider.findAllByRequestIds(requestIds).stream()
+                .collect(Collectors.groupingBy(file -> file.getRequest().getId(),
+                        Collectors.mapping(FileDTO::fromEntity, Collectors.toList())));
+        Map<Long, List<ApproverDTO>> approvers = approverDesignationProvider.findAllByRequestIds(requestIds).stream()
+                .collect(Collectors.groupingBy(approver -> approver.getRequest().getId(),
+                        Collectors.mapping(ApproverDTO::fromEntity, Collectors.toList())));
+
+        return requests.stream()
+                .map(request -> RequestDTO.of(request,
+                        links.getOrDefault(request.getId(), List.of()),
+                        files.getOrDefault(request.getId(), List.of()),
+                        approvers.getOrDefault(request.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,8 @@
 package com.soda.project.domain.stage.request;
 
+import com.soda.global.response.Cursor;
 import com.soda.global.response.GeneralException;
+import com.soda.global.response.SlicedData;
 import com.soda.member.domain.member.Member;
 import com.soda.project.domain.stage.Stage;
 import com.soda.project.interfaces.stage.request.dto.*;
@@ -10,7 +12,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +21,8 @@ public class RequestService {
 
     private final RequestProvider requestProvider;
 
+    private final RequestReadAssembler requestReadAssembler;
+
 
     public RequestCreateResponse createRequest(Member member, Stage stage, RequestCreateRequest requestCreateRequest) {
         Request request = requestFactory.createRequest(member, stage, requestCreateRequest);
@@ -45,19 +48,23 @@ public class RequestService {
     }
 
     public Page<RequestDTO> findRequests(Long projectId, GetRequestCondition condition, Pageable pageable) {
-        return requestProvider.searchByCondition(projectId, condition, pageable)
-                .map(RequestDTO::fromEntity);
+        Page<Request> requests = condition.isRootPaging()
+                ? requestProvider.searchRootPagedByCondition(projectId, condition, pageable)
+                : requestProvider.searchByCondition(projectId, condition, pageable);
+        return requestReadAssembler.toDtoPage(requests);
+    }
+
+    public SlicedData<RequestDTO> findRequestsSlice(Long projectId, GetRequestCondition condition, Cursor cursor, int size) {
+        SlicedData<Request> requests = requestProvider.searchRootSliceByCondition(projectId, condition, cursor, size);
+        return requests.withContent(requestReadAssembler.toDtos(requests.getContent()));
     }
 
-    public Page<RequestDTO> findMemberRequests(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
-        return requestProvider.searchByMemberCondition(memberId, condition, pageable)
-                .map(RequestDTO::fromEntity);
+    public Page<MemberRequestListItem> findMemberRequests(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
+        return requestProvider.searchByMemberCondition(memberId, condition, pageable);
     }
 
     public List<RequestDTO> findAllByStageId(Long stageId) {
-        return requestProvider.findAllByStage_IdAndIsDeletedFalse(stageId).stream()
-                .map(RequestDTO::fromEntity)
-                .collect(Collectors.toList());
+        return requestReadAssembler.toDtos(requestProvider.findAllByStage_IdAndIsDeletedFalse(stageId));
     }
 
     public RequestDTO findById(Long requestId) {
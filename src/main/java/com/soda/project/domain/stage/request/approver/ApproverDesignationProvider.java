@@ -1,7 +1,12 @@
 package com.soda.project.domain.stage.request.approver;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ApproverDesignationProvider {
     Optional<ApproverDesignation> findById(Long approverId);
+
+    // 삭제되지 않은 승인자 지정을 요청 여러 건에 대해 한 번에 조회
+    List<ApproverDesignation> findAllByRequestIds(Collection<Long> requestIds);
 }
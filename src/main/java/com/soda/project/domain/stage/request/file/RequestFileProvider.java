@@ -1,5 +1,6 @@
 package com.soda.project.domain.stage.request.file;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,4 +8,7 @@ public interface RequestFileProvider {
     void saveAll(List<RequestFile> entities);
 
     Optional<RequestFile> findById(Long fileId);
+
+    // 삭제되지 않은 파일을 요청 여러 건에 대해 한 번에 조회
+    List<RequestFile> findAllByRequestIds(Collection<Long> requestIds);
 }
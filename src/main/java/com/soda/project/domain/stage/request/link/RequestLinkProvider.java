@@ -1,9 +1,13 @@
 package com.soda.project.domain.stage.request.link;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RequestLinkProvider {
     public void saveAll(List<RequestLink> entities);
     Optional<RequestLink> findById(Long linkId);
+
+    // 삭제되지 않은 링크를 요청 여러 건에 대해 한 번에 조회
+    List<RequestLink> findAllByRequestIds(Collection<Long> requestIds);
 }
@@ -0,0 +1,37 @@
+package com.soda.project.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트별 일 단위 활동 버킷
+ * 최근 7일치만 유지하며, ProjectActivityStats 의 주간 카운트를 다시 계산하는 기준 데이터로 사용된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_activity_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_activity_daily_stats", columnNames = {"project_id", "stat_date"})
+})
+public class ProjectActivityDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "stat_date", nullable = false, columnDefinition = "DATE")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Long requestCount;
+
+    @Column(nullable = false)
+    private Long articleCount;
+}
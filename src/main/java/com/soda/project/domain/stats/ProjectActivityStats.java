@@ -0,0 +1,38 @@
+package com.soda.project.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 프로젝트 목록용 활동 통계 (프로젝트당 1행)
+ * 요청/게시글 생성·삭제 이벤트로 증분 갱신되고, 주간 카운트는 매일 자정 일별 버킷 기준으로 다시 계산된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_activity_stats", indexes = {
+        @Index(name = "idx_project_activity_stats_weekly_activity", columnList = "weekly_activity")
+})
+public class ProjectActivityStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private Long weeklyRequestCount; // 최근 7일간 생성된 요청 수
+
+    @Column(nullable = false)
+    private Long weeklyArticleCount; // 최근 7일간 생성된 게시글 수
+
+    @Column(nullable = false)
+    private Long weeklyActivity; // 정렬용 저장 컬럼 (요청 + 게시글)
+
+    private LocalDateTime recentRequestDate; // 마지막 요청 생성 시각
+
+    private LocalDateTime recentArticleDate; // 마지막 게시글 생성 시각
+}
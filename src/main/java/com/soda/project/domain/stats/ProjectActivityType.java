@@ -0,0 +1,6 @@
+package com.soda.project.domain.stats;
+
+public enum ProjectActivityType {
+    REQUEST,
+    ARTICLE
+}
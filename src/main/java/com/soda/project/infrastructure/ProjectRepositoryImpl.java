@@ -4,10 +4,8 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -15,9 +13,7 @@ import com.soda.project.domain.QProject;
 import com.soda.project.domain.company.QCompanyProject;
 import com.soda.project.domain.ProjectStatus;
 import com.soda.project.domain.member.QMemberProject;
-import com.soda.project.domain.stage.QStage;
-import com.soda.project.domain.stage.article.QArticle;
-import com.soda.project.domain.stage.request.QRequest;
+import com.soda.project.domain.stats.QProjectActivityStats;
 import com.soda.project.interfaces.dto.ProjectListResponse;
 import com.soda.project.interfaces.dto.ProjectSearchCondition;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +24,6 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -131,11 +126,7 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
     @Override
     public Page<ProjectListResponse> searchProjects(ProjectSearchCondition condition, Pageable pageable) {
         QProject project = QProject.project;
-        QStage stage = QStage.stage;
-        QRequest requestEntity = QRequest.request;
-        QArticle article = QArticle.article;
-
-        LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(7);
+        QProjectActivityStats activityStats = QProjectActivityStats.projectActivityStats;
 
         BooleanBuilder where = new BooleanBuilder()
                 .and(project.isDeleted.isFalse())
@@ -145,37 +136,10 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
         boolean sortByWeeklyActivity = pageable.getSort().stream()
                 .anyMatch(order -> order.getProperty().equals("weeklyActivity"));
 
-        NumberExpression<Long> weeklyRequestCount = Expressions.numberTemplate(Long.class, "({0})",
-                JPAExpressions.select(requestEntity.count())
-                        .from(requestEntity)
-                        .join(requestEntity.stage, stage)
-                        .where(stage.project.eq(project), requestEntity.createdAt.goe(oneWeekAgo))
-        );
-
-        NumberExpression<Long> weeklyArticleCount = Expressions.numberTemplate(Long.class, "({0})",
-                JPAExpressions.select(article.count())
-                        .from(article)
-                        .join(article.stage, stage)
-                        .where(stage.project.eq(project), article.createdAt.goe(oneWeekAgo))
-        );
-
-        NumberExpression<Long> weeklyActivity = weeklyRequestCount.add(weeklyArticleCount);
-
-        DateTimeExpression<LocalDateTime> recentRequestDate = Expressions.dateTimeTemplate(
-                LocalDateTime.class, "({0})",
-                JPAExpressions.select(requestEntity.createdAt.max())
-                        .from(requestEntity)
-                        .join(requestEntity.stage, stage)
-                        .where(stage.project.eq(project))
-        );
-
-        DateTimeExpression<LocalDateTime> recentArticleDate = Expressions.dateTimeTemplate(
-                LocalDateTime.class, "({0})",
-                JPAExpressions.select(article.createdAt.max())
-                        .from(article)
-                        .join(article.stage, stage)
-                        .where(stage.project.eq(project))
-        );
+        // 활동 통계는 project_activity_stats 에 미리 집계된 값을 사용 (활동이 없는 프로젝트는 0)
+        NumberExpression<Long> weeklyRequestCount = Expressions.numberTemplate(Long.class, "coalesce({0}, 0)", activityStats.weeklyRequestCount);
+        NumberExpression<Long> weeklyArticleCount = Expressions.numberTemplate(Long.class, "coalesce({0}, 0)", activityStats.weeklyArticleCount);
+        NumberExpression<Long> weeklyActivity = Expressions.numberTemplate(Long.class, "coalesce({0}, 0)", activityStats.weeklyActivity);
 
         JPQLQuery<ProjectListResponse> query = queryFactory
                 .select(Projections.constructor(ProjectListResponse.class,
@@ -187,17 +151,23 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
                         weeklyRequestCount,
                         weeklyArticleCount,
                         weeklyActivity,
-                        recentRequestDate,
-                        recentArticleDate
-                ))
-                .from(project)
-                .where(where);
+                        activityStats.recentRequestDate,
+                        activityStats.recentArticleDate
+                ));
 
         if (sortByWeeklyActivity) {
-            query.orderBy(weeklyActivity.desc());
+            // 모든 프로젝트에 통계 행이 있으므로 통계 테이블에서 출발해 idx_project_activity_stats_weekly_activity 순서대로 읽고,
+            // 조건에 맞는 프로젝트로 페이지가 찰 때까지만 project 를 조인한다 (filesort 없음).
+            // 보조 인덱스 끝에 PK(project_id = project.id)가 붙어 있어 같은 활동 수 안에서는 프로젝트 id 순으로 고정된다.
+            query.from(activityStats)
+                    .join(project).on(project.id.eq(activityStats.projectId))
+                    .orderBy(activityStats.weeklyActivity.desc(), activityStats.projectId.desc());
         } else {
-            query.orderBy(project.createdAt.desc());
+            query.from(project)
+                    .leftJoin(activityStats).on(activityStats.projectId.eq(project.id))
+                    .orderBy(project.createdAt.desc(), project.id.desc());
         }
+        query.where(where);
 
         List<ProjectListResponse> content = query
                 .offset(pageable.getOffset())
@@ -6,6 +6,7 @@ import com.soda.project.domain.Project;
 import com.soda.project.domain.member.MemberProject;
 import com.soda.project.domain.member.MemberProjectProvider;
 import com.soda.project.domain.member.MemberProjectRole;
+import com.soda.project.domain.member.ProjectMembership;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -87,4 +88,9 @@ public class MemberProjectProviderImpl implements MemberProjectProvider {
     public List<Long> findAllProjectIdsByMemberIdAndIsDeletedFalse(Long memberId) {
         return memberProjectRepository.findAllProjectIdsByMemberIdAndIsDeletedFalse(memberId);
     }
+
+    @Override
+    public List<ProjectMembership> findMembershipsByMemberId(Long memberId) {
+        return memberProjectRepository.findMembershipsByMemberId(memberId);
+    }
 }
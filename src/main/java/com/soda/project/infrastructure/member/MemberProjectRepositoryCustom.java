@@ -2,6 +2,7 @@ package com.soda.project.infrastructure.member;
 
 import com.soda.project.domain.member.MemberProjectRole;
 import com.soda.project.domain.member.MemberProject;
+import com.soda.project.domain.member.ProjectMembership;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,4 +16,6 @@ public interface MemberProjectRepositoryCustom {
                                             MemberProjectRole memberRole,
                                             Long memberId,
                                             Pageable pageable);
+
+    List<ProjectMembership> findMembershipsByMemberId(Long memberId);
 }
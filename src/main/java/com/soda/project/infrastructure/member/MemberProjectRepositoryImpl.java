@@ -2,12 +2,14 @@ package com.soda.project.infrastructure.member;
 
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.soda.project.domain.member.MemberProject;
 import com.soda.project.domain.member.MemberProjectRole;
+import com.soda.project.domain.member.ProjectMembership;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +23,7 @@ import java.util.List;
 
 import static com.soda.member.domain.member.QMember.member;
 import static com.soda.member.domain.company.QCompany.company;
+import static com.soda.project.domain.company.QCompanyProject.companyProject;
 import static com.soda.project.domain.member.QMemberProject.memberProject;
 
 @Repository
@@ -74,6 +77,31 @@ public class MemberProjectRepositoryImpl implements MemberProjectRepositoryCusto
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 회원이 참여 중인 프로젝트별 멤버 역할과, 소속 회사의 해당 프로젝트 내 회사 역할을 한 번에 조회합니다.
+     * 회사가 프로젝트에 배정되지 않은 경우 회사 역할은 null 입니다.
+     */
+    @Override
+    public List<ProjectMembership> findMembershipsByMemberId(Long memberId) {
+        return queryFactory
+                .select(Projections.constructor(ProjectMembership.class,
+                        memberProject.project.id,
+                        memberProject.role,
+                        companyProject.companyProjectRole))
+                .from(memberProject)
+                .join(memberProject.member, member)
+                .leftJoin(companyProject).on(
+                        companyProject.project.id.eq(memberProject.project.id),
+                        companyProject.company.id.eq(member.company.id),
+                        companyProject.isDeleted.isFalse()
+                )
+                .where(
+                        member.id.eq(memberId),
+                        memberProject.isDeleted.isFalse()
+                )
+                .fetch();
+    }
+
     private BooleanExpression memberIdEq(Long memberId) {
         return ObjectUtils.isEmpty(memberId) ? null : member.id.eq(memberId);
     }
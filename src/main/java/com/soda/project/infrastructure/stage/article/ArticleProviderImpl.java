@@ -1,6 +1,8 @@
 package com.soda.project.infrastructure.stage.article;
 
 import com.querydsl.core.Tuple;
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
 import com.soda.project.domain.Project;
 import com.soda.project.domain.stage.Stage;
 import com.soda.project.domain.stage.article.Article;
@@ -34,6 +36,16 @@ public class ArticleProviderImpl implements ArticleProvider {
         return articleRepository.searchArticles(projectId, searchCondition, pageable);
     }
 
+    @Override
+    public SlicedData<Article> searchArticlesSlice(Long projectId, ArticleSearchCondition searchCondition, Cursor cursor, int size) {
+        return articleRepository.searchArticlesSlice(projectId, searchCondition, cursor, size);
+    }
+
+    @Override
+    public List<Article> findDescendants(List<Long> rootIds) {
+        return articleRepository.findDescendants(rootIds);
+    }
+
     @Override
     public List<Article> findByStageAndStage_Project(Stage stage, Project project) {
         return articleRepository.findByStageAndStage_Project(stage, project);
@@ -53,4 +65,9 @@ public class ArticleProviderImpl implements ArticleProvider {
     public Page<Tuple> findMyArticlesData(Long userId, Long projectId, Pageable pageable) {
         return articleRepository.findMyArticlesData(userId, projectId, pageable);
     }
+
+    @Override
+    public SlicedData<Tuple> findMyArticlesSlice(Long userId, Long projectId, Cursor cursor, int size) {
+        return articleRepository.findMyArticlesSlice(userId, projectId, cursor, size);
+    }
 }
@@ -1,11 +1,14 @@
 package com.soda.project.infrastructure.stage.article;
 
 import com.querydsl.core.Tuple;
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
 import com.soda.project.interfaces.stage.article.dto.ArticleSearchCondition;
 import com.soda.project.domain.stage.article.Article;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
@@ -15,4 +18,10 @@ public interface ArticleRepositoryCustom {
     Optional<Article> findByIdAndIsDeletedFalseWithMemberAndCompanyUsingQuerydsl(Long articleId);
 
     Page<Article> searchArticles(Long projectId, ArticleSearchCondition articleSearchCondition, Pageable pageable);
+
+    SlicedData<Tuple> findMyArticlesSlice(Long authorId, Long projectId, Cursor cursor, int size);
+
+    SlicedData<Article> searchArticlesSlice(Long projectId, ArticleSearchCondition articleSearchCondition, Cursor cursor, int size);
+
+    List<Article> findDescendants(List<Long> rootIds);
 }
@@ -1,13 +1,19 @@
 package com.soda.project.infrastructure.stage.article;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
+import com.soda.global.search.FullTextIndex;
+import com.soda.global.search.FullTextSearch;
 import com.soda.project.interfaces.stage.article.dto.ArticleSearchCondition;
 import com.soda.project.domain.stage.article.Article;
 import com.soda.project.domain.stage.article.enums.ArticleStatus;
 import com.soda.project.domain.stage.article.enums.PriorityType;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,7 +36,22 @@ import static com.soda.project.domain.stage.article.QArticle.article;
 @RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
+    private static final int MAX_TREE_DEPTH = 50; // 답글 트리 최대 깊이 (순환 참조 방지)
+
+    // 루트 게시글들의 모든 하위 게시글 id (MySQL 8 재귀 CTE, parent_article_id FK 인덱스로 단계별 탐색)
+    private static final String DESCENDANT_IDS_SQL = """
+            WITH RECURSIVE descendant (id, depth) AS (
+                SELECT a.id, 1 FROM article a WHERE a.parent_article_id IN (:rootIds)
+                UNION ALL
+                SELECT a.id, d.depth + 1 FROM article a JOIN descendant d ON a.parent_article_id = d.id
+                WHERE d.depth < :maxDepth
+            )
+            SELECT id FROM descendant
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final FullTextSearch fullTextSearch;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Tuple> findMyArticlesData(Long authorId, Long projectId, Pageable pageable) {
@@ -107,12 +128,13 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
                 .where(
                         stage.project.id.eq(projectId),
                         article.isDeleted.isFalse(),
+                        article.parentArticle.isNull(), // 루트 게시글 단위로 페이징 (답글은 findDescendants 로 따로 조회)
                         stageIdEq(request.getStageId()),
                         searchCondition(request.getSearchType(), request.getKeyword()),
                         articleStatusEq(request.getStatus()),
                         priorityTypeEq(request.getPriorityType())
                 )
-                .orderBy(article.createdAt.desc()) // 기본 정렬, Pageable 정렬 처리 필요시 추가
+                .orderBy(searchOrder(request))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -126,13 +148,124 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
                 .where(
                         stage.project.id.eq(projectId),
                         article.isDeleted.isFalse(),
+                        article.parentArticle.isNull(),
                         stageIdEq(request.getStageId()),
-                        searchCondition(request.getSearchType(), request.getKeyword())
+                        searchCondition(request.getSearchType(), request.getKeyword()),
+                        articleStatusEq(request.getStatus()),
+                        priorityTypeEq(request.getPriorityType())
                 );
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 내 게시글 목록 (커서 기반)
+     * offset 없이 (createdAt, id) 기준으로 이어서 조회하고, count 쿼리 대신 size + 1 건으로 다음 여부를 판단한다.
+     */
+    @Override
+    public SlicedData<Tuple> findMyArticlesSlice(Long authorId, Long projectId, Cursor cursor, int size) {
+        List<Tuple> rows = queryFactory
+                .select( // findMyArticlesData 와 같은 컬럼 순서
+                        article.id,
+                        article.title,
+                        project.id,
+                        project.title,
+                        stage.id,
+                        stage.name,
+                        article.createdAt
+                )
+                .from(article)
+                .join(article.stage, stage)
+                .join(stage.project, project)
+                .where(
+                        article.member.id.eq(authorId),
+                        article.isDeleted.isFalse(),
+                        projectIdEq(projectId),
+                        afterCursor(cursor)
+                )
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return SlicedData.of(rows, size, row -> new Cursor(row.get(article.createdAt), row.get(article.id)));
+    }
+
+    /**
+     * 프로젝트 게시글 목록 (커서 기반)
+     */
+    @Override
+    public SlicedData<Article> searchArticlesSlice(Long projectId, ArticleSearchCondition request, Cursor cursor, int size) {
+        List<Article> rows = queryFactory
+                .selectFrom(article)
+                .join(article.stage, stage).fetchJoin()
+                .join(article.member, member).fetchJoin()
+                .leftJoin(member.company, company).fetchJoin()
+                .where(
+                        stage.project.id.eq(projectId),
+                        article.isDeleted.isFalse(),
+                        article.parentArticle.isNull(),
+                        stageIdEq(request.getStageId()),
+                        searchCondition(request.getSearchType(), request.getKeyword()),
+                        articleStatusEq(request.getStatus()),
+                        priorityTypeEq(request.getPriorityType()),
+                        afterCursor(cursor)
+                )
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return SlicedData.of(rows, size, row -> new Cursor(row.getCreatedAt(), row.getId()));
+    }
+
+    /**
+     * 루트 게시글들의 모든 하위 게시글(답글, 답글의 답글 ...)을 깊이와 관계없이 한 번에 조회한다.
+     * 재귀 CTE 로 id 를 모은 뒤 작성자와 함께 한 번 더 조회한다. (게시글별 childArticles 지연 로딩 없음)
+     * 삭제된 답글도 포함하며(isDeleted 로 표시), 작성 순서대로 반환한다.
+     */
+    @Override
+    public List<Article> findDescendants(List<Long> rootIds) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Number> ids = entityManager.createNativeQuery(DESCENDANT_IDS_SQL)
+                .setParameter("rootIds", rootIds)
+                .setParameter("maxDepth", MAX_TREE_DEPTH)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(article)
+                .join(article.member, member).fetchJoin()
+                .where(article.id.in(ids.stream().map(Number::longValue).distinct().toList()))
+                .orderBy(article.createdAt.asc(), article.id.asc())
+                .fetch();
+    }
+
+    // 기본은 최신순, 관련도 정렬을 요청했고 FULLTEXT 검색이면 관련도 → 최신순
+    private OrderSpecifier<?>[] searchOrder(ArticleSearchCondition request) {
+        if (request.isRelevance()
+                && request.getSearchType() == ArticleSearchCondition.SearchType.TITLE_CONTENT
+                && fullTextSearch.isEnabled(FullTextIndex.ARTICLE_TITLE_CONTENT, request.getKeyword())) {
+            return new OrderSpecifier<?>[]{
+                    fullTextSearch.score(request.getKeyword(), article.title, article.content).desc(),
+                    article.createdAt.desc()
+            };
+        }
+        return new OrderSpecifier<?>[]{article.createdAt.desc()};
+    }
+
+    // 커서 이후 항목 조건 (createdAt desc, id desc 정렬 기준)
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
+
     private BooleanExpression priorityTypeEq(PriorityType priorityType) {
         return priorityType != null ? article.priority.eq(priorityType) : null;
     }
@@ -157,7 +290,9 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         }
 
         return switch (searchType) {
-            case TITLE_CONTENT -> article.title.containsIgnoreCase(keyword)
+            case TITLE_CONTENT -> fullTextSearch.isEnabled(FullTextIndex.ARTICLE_TITLE_CONTENT, keyword)
+                    ? fullTextSearch.score(keyword, article.title, article.content).gt(0.0) // ngram FULLTEXT 인덱스
+                    : article.title.containsIgnoreCase(keyword)
                     .or(article.content.containsIgnoreCase(keyword)); // 제목 또는 내용
             case AUTHOR -> member.name.containsIgnoreCase(keyword); // 작성자 이름 (member 조인 필요)
         };
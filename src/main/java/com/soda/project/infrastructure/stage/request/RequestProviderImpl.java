@@ -1,8 +1,11 @@
 package com.soda.project.infrastructure.stage.request;
 
+import com.soda.global.response.Cursor;
+import com.soda.global.response.SlicedData;
 import com.soda.project.domain.stage.request.Request;
 import com.soda.project.domain.stage.request.RequestProvider;
 import com.soda.project.interfaces.stage.request.dto.GetMemberRequestCondition;
+import com.soda.project.interfaces.stage.request.dto.MemberRequestListItem;
 import com.soda.project.interfaces.stage.request.dto.GetRequestCondition;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,7 +31,17 @@ public class RequestProviderImpl implements RequestProvider {
     }
 
     @Override
-    public Page<Request> searchByMemberCondition(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
+    public Page<Request> searchRootPagedByCondition(Long projectId, GetRequestCondition condition, Pageable pageable) {
+        return requestRepository.searchRootPagedByCondition(projectId, condition, pageable);
+    }
+
+    @Override
+    public SlicedData<Request> searchRootSliceByCondition(Long projectId, GetRequestCondition condition, Cursor cursor, int size) {
+        return requestRepository.searchRootSliceByCondition(projectId, condition, cursor, size);
+    }
+
+    @Override
+    public Page<MemberRequestListItem> searchByMemberCondition(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
         return requestRepository.searchByMemberCondition(memberId, condition, pageable);
     }
 
@@ -1,6 +1,7 @@
 package com.soda.project.infrastructure.stage.request;
 
 import com.soda.project.domain.stage.request.Request;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,6 @@ import java.util.List;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long>, RequestRepositoryCustom {
+    @EntityGraph(attributePaths = {"stage", "member"})
     List<Request> findAllByStage_IdAndIsDeletedFalse(Long stageId);
 }
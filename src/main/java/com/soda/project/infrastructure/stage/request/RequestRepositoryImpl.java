@@ -2,21 +2,32 @@ package com.soda.project.infrastructure.stage.request;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.soda.global.response.Cursor;
+import com.soda.global.response.HierarchyPageImpl;
+import com.soda.global.response.SlicedData;
+import com.soda.global.search.FullTextIndex;
+import com.soda.global.search.FullTextSearch;
 import com.soda.project.domain.stage.request.QRequest;
 import com.soda.project.domain.stage.request.Request;
 import com.soda.project.domain.stage.request.approver.QApproverDesignation;
 import com.soda.project.interfaces.stage.request.dto.GetMemberRequestCondition;
 import com.soda.project.interfaces.stage.request.dto.GetRequestCondition;
+import com.soda.project.interfaces.stage.request.dto.MemberRequestListItem;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -26,6 +37,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.soda.member.domain.member.QMember.member;
+import static com.soda.project.domain.QProject.project;
+import static com.soda.project.domain.stage.QStage.stage;
 
 
 @Slf4j
@@ -33,34 +46,23 @@ import static com.soda.member.domain.member.QMember.member;
 public class RequestRepositoryImpl implements RequestRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final FullTextSearch fullTextSearch;
 
-    public RequestRepositoryImpl(EntityManager em) {
+    public RequestRepositoryImpl(EntityManager em, FullTextSearch fullTextSearch) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
     public Page<Request> searchByCondition(Long projectId, GetRequestCondition condition, Pageable pageable) {
         QRequest request = QRequest.request;
-        BooleanBuilder builder = new BooleanBuilder();
-
-        builder.and(request.stage.project.id.eq(projectId));
-        if (condition.getStageId() != null) {
-            builder.and(request.stage.id.eq(condition.getStageId()));
-        }
-        if (condition.getStatus() != null) {
-            builder.and(request.status.eq(condition.getStatus()));
-        }
-        if (condition.getKeyword() != null && !condition.getKeyword().isBlank()) {
-            builder.and(
-                    request.title.containsIgnoreCase(condition.getKeyword())
-                            .or(request.member.name.containsIgnoreCase(condition.getKeyword()))
-            );
-        }
+        BooleanBuilder builder = searchCondition(request, projectId, condition);
 
         List<Request> allRequests = queryFactory
                 .selectFrom(request)
                 .join(request.member, member).fetchJoin()
-                .where(builder.and(request.isDeleted.eq(false)))
+                .join(request.stage, stage).fetchJoin()
+                .where(builder)
                 .orderBy(request.createdAt.desc())
                 .fetch();
 
@@ -88,49 +90,194 @@ public class RequestRepositoryImpl implements RequestRepositoryCustom {
     }
 
     @Override
-    public Page<Request> searchByMemberCondition(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
+    public Page<Request> searchRootPagedByCondition(Long projectId, GetRequestCondition condition, Pageable pageable) {
+        QRequest request = QRequest.request;
+        BooleanBuilder builder = searchCondition(request, projectId, condition);
+
+        // 1. 루트 요청만 DB에서 페이징 (최신순)
+        List<Request> rootRequests = queryFactory
+                .selectFrom(request)
+                .join(request.member, member).fetchJoin()
+                .join(request.stage, stage).fetchJoin()
+                .where(builder, request.parentId.isNull())
+                .orderBy(request.createdAt.desc(), request.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 2. 전체 개수는 루트 요청 기준 count 쿼리로 계산
+        JPAQuery<Long> rootCountQuery = queryFactory
+                .select(request.count())
+                .from(request)
+                .where(builder, request.parentId.isNull());
+
+        long rootTotal = PageableExecutionUtils.getPage(rootRequests, pageable, rootCountQuery::fetchOne)
+                .getTotalElements();
+
+        if (rootRequests.isEmpty()) {
+            return new HierarchyPageImpl<>(rootRequests, pageable, rootTotal);
+        }
+
+        // 3. 현재 페이지 루트들의 자식 요청만 한 번에 조회
+        return new HierarchyPageImpl<>(attachChildren(builder, rootRequests), pageable, rootTotal);
+    }
+
+    /**
+     * 루트 요청 단위 커서 기반 조회
+     * 루트 요청을 (createdAt, id) 기준으로 이어서 size + 1 건 조회하고(count 쿼리 없음), 해당 루트들의 자식 요청을 한 번에 붙인다.
+     * 커서는 마지막 루트 요청 기준이다.
+     */
+    @Override
+    public SlicedData<Request> searchRootSliceByCondition(Long projectId, GetRequestCondition condition, Cursor cursor, int size) {
+        QRequest request = QRequest.request;
+        BooleanBuilder builder = searchCondition(request, projectId, condition);
+
+        List<Request> rootRows = queryFactory
+                .selectFrom(request)
+                .join(request.member, member).fetchJoin()
+                .join(request.stage, stage).fetchJoin()
+                .where(builder, request.parentId.isNull(), afterCursor(request, cursor))
+                .orderBy(request.createdAt.desc(), request.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        SlicedData<Request> rootSlice = SlicedData.of(rootRows, size, root -> new Cursor(root.getCreatedAt(), root.getId()));
+        if (rootSlice.getContent().isEmpty()) {
+            return rootSlice;
+        }
+
+        return rootSlice.withContent(attachChildren(builder, rootSlice.getContent()));
+    }
+
+    // 루트 요청들의 자식 요청을 한 번에 조회해 각 루트 바로 뒤에 붙인다 (자식도 최신순)
+    private List<Request> attachChildren(BooleanBuilder builder, List<Request> roots) {
+        QRequest request = QRequest.request;
+        List<Long> rootIds = roots.stream()
+                .map(Request::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<Request>> childRequestMap = queryFactory
+                .selectFrom(request)
+                .join(request.member, member).fetchJoin()
+                .join(request.stage, stage).fetchJoin()
+                .where(builder, request.parentId.in(rootIds))
+                .orderBy(request.createdAt.desc(), request.id.desc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(Request::getParentId));
+
+        List<Request> sortedRequests = new ArrayList<>();
+        for (Request root : roots) {
+            sortedRequests.add(root);
+            sortedRequests.addAll(childRequestMap.getOrDefault(root.getId(), List.of()));
+        }
+        return sortedRequests;
+    }
+
+    // 커서 이후 항목 조건 (createdAt desc, id desc 정렬 기준)
+    private BooleanExpression afterCursor(QRequest request, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return request.createdAt.lt(cursor.createdAt())
+                .or(request.createdAt.eq(cursor.createdAt()).and(request.id.lt(cursor.id())));
+    }
+
+    // 제목 키워드 조건 (ngram FULLTEXT 인덱스가 준비됐으면 MATCH, 아니면 LIKE)
+    private BooleanExpression titleMatches(QRequest request, String keyword) {
+        return fullTextSearch.isEnabled(FullTextIndex.REQUEST_TITLE, keyword)
+                ? fullTextSearch.score(keyword, request.title).gt(0.0)
+                : request.title.containsIgnoreCase(keyword);
+    }
+
+    private BooleanBuilder searchCondition(QRequest request, Long projectId, GetRequestCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        builder.and(request.stage.project.id.eq(projectId));
+        if (condition.getStageId() != null) {
+            builder.and(request.stage.id.eq(condition.getStageId()));
+        }
+        if (condition.getStatus() != null) {
+            builder.and(request.status.eq(condition.getStatus()));
+        }
+        if (condition.getKeyword() != null && !condition.getKeyword().isBlank()) {
+            builder.and(
+                    titleMatches(request, condition.getKeyword())
+                            .or(request.member.name.containsIgnoreCase(condition.getKeyword()))
+            );
+        }
+        builder.and(request.isDeleted.eq(false));
+
+        return builder;
+    }
+
+    /**
+     * 내 요청 목록 (요청자이거나 승인자로 지정된 요청)
+     * 목록 화면에 필요한 컬럼만 projection 으로 조회해 컬렉션을 로딩하지 않고, DB 에서 정확히 페이징한다.
+     * 승인자 여부는 exists 서브쿼리로 판별해 조인으로 행이 늘어나지 않게 한다.
+     */
+    @Override
+    public Page<MemberRequestListItem> searchByMemberCondition(Long memberId, GetMemberRequestCondition condition, Pageable pageable) {
         QRequest request = QRequest.request;
         QApproverDesignation approverDesignation = QApproverDesignation.approverDesignation;
 
-        BooleanBuilder baseCondition = new BooleanBuilder();
+        BooleanExpression isApprover = JPAExpressions.selectOne()
+                .from(approverDesignation)
+                .where(approverDesignation.request.eq(request),
+                        approverDesignation.member.id.eq(memberId),
+                        approverDesignation.isDeleted.isFalse())
+                .exists();
 
+        BooleanBuilder where = new BooleanBuilder();
         if (condition.getProjectId() != null) {
-            baseCondition.and(request.stage.project.id.eq(condition.getProjectId()));
+            where.and(project.id.eq(condition.getProjectId()));
         }
         if (condition.getKeyword() != null && !condition.getKeyword().isBlank()) {
-            baseCondition.and(request.title.containsIgnoreCase(condition.getKeyword()));
+            where.and(titleMatches(request, condition.getKeyword()));
         }
-        baseCondition.and(request.stage.project.isDeleted.eq(false));
-
-        BooleanExpression requesterCondition = request.member.id.eq(memberId);
+        where.and(project.isDeleted.isFalse());
+        where.and(member.id.eq(memberId).or(isApprover));
 
-        JPQLQuery<Request> query = queryFactory
-                .selectFrom(request)
-                .leftJoin(request.approvers, approverDesignation).fetchJoin()
-                .where(baseCondition.and(
-                        requesterCondition.or(approverDesignation.member.id.eq(memberId))
-                ))
+        JPQLQuery<MemberRequestListItem> query = queryFactory
+                .select(Projections.constructor(MemberRequestListItem.class,
+                        request.id,
+                        request.parentId,
+                        request.title,
+                        request.status,
+                        stage.id,
+                        stage.name,
+                        project.id,
+                        project.title,
+                        member.id,
+                        member.name,
+                        new CaseBuilder().when(isApprover).then(true).otherwise(false),
+                        request.createdAt))
+                .from(request)
+                .join(request.member, member)
+                .join(request.stage, stage)
+                .join(stage.project, project)
+                .where(where)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
 
         List<OrderSpecifier<?>> orderSpecifiers = getOrderSpecifiers(pageable.getSort(), request);
-        if (!orderSpecifiers.isEmpty()) {
-            query.orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]));
-        } else {
-            query.orderBy(request.createdAt.desc());
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(request.createdAt.desc());
         }
+        orderSpecifiers.add(request.id.desc()); // 같은 값끼리 페이지 경계에서 순서가 흔들리지 않도록
+        query.orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]));
 
-        List<Request> content = query.fetch();
+        List<MemberRequestListItem> content = query.fetch();
 
-        long total = queryFactory
-                .selectFrom(request)
-                .leftJoin(request.approvers, approverDesignation)
-                .where(baseCondition.and(
-                        requesterCondition.or(approverDesignation.member.id.eq(memberId))
-                ))
-                .fetchCount();
+        JPAQuery<Long> countQuery = queryFactory
+                .select(request.count())
+                .from(request)
+                .join(request.member, member)
+                .join(request.stage, stage)
+                .join(stage.project, project)
+                .where(where);
 
-        return new PageImpl<>(content, pageable, total);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
 
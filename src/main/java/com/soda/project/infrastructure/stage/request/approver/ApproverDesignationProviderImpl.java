@@ -5,6 +5,8 @@ import com.soda.project.domain.stage.request.approver.ApproverDesignationProvide
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -17,4 +19,9 @@ public class ApproverDesignationProviderImpl implements ApproverDesignationProvi
     public Optional<ApproverDesignation> findById(Long approverId) {
         return approverDesignationRepository.findById(approverId);
     }
+
+    @Override
+    public List<ApproverDesignation> findAllByRequestIds(Collection<Long> requestIds) {
+        return approverDesignationRepository.findAllByRequest_IdInAndIsDeletedFalseOrderByIdAsc(requestIds);
+    }
 }
@@ -4,6 +4,10 @@ import com.soda.project.domain.stage.request.approver.ApproverDesignation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ApproverDesignationRepository extends JpaRepository<ApproverDesignation, Long> {
+    List<ApproverDesignation> findAllByRequest_IdInAndIsDeletedFalseOrderByIdAsc(Collection<Long> requestIds);
 }
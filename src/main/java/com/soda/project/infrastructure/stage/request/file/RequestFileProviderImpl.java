@@ -5,6 +5,7 @@ import com.soda.project.domain.stage.request.file.RequestFileProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +24,9 @@ public class RequestFileProviderImpl implements RequestFileProvider {
     public Optional<RequestFile> findById(Long fileId) {
         return requestFileRepository.findById(fileId);
     }
+
+    @Override
+    public List<RequestFile> findAllByRequestIds(Collection<Long> requestIds) {
+        return requestFileRepository.findAllByRequest_IdInAndIsDeletedFalseOrderByIdAsc(requestIds);
+    }
 }
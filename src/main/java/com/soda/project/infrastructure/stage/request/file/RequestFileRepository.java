@@ -4,6 +4,10 @@ import com.soda.project.domain.stage.request.file.RequestFile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RequestFileRepository extends JpaRepository<RequestFile, Long> {
+    List<RequestFile> findAllByRequest_IdInAndIsDeletedFalseOrderByIdAsc(Collection<Long> requestIds);
 }
@@ -5,6 +5,7 @@ import com.soda.project.domain.stage.request.link.RequestLinkProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +24,9 @@ public class RequestLinkProviderImpl implements RequestLinkProvider {
     public Optional<RequestLink> findById(Long linkId) {
         return requestLinkRepository.findById(linkId);
     }
+
+    @Override
+    public List<RequestLink> findAllByRequestIds(Collection<Long> requestIds) {
+        return requestLinkRepository.findAllByRequest_IdInAndIsDeletedFalseOrderByIdAsc(requestIds);
+    }
 }
@@ -4,6 +4,10 @@ import com.soda.project.domain.stage.request.link.RequestLink;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RequestLinkRepository extends JpaRepository<RequestLink, Long> {
+    List<RequestLink> findAllByRequest_IdInAndIsDeletedFalseOrderByIdAsc(Collection<Long> requestIds);
 }
@@ -0,0 +1,72 @@
+package com.soda.project.infrastructure.stats;
+
+import com.soda.project.domain.stats.ProjectActivityDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface ProjectActivityDailyStatsRepository extends JpaRepository<ProjectActivityDailyStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_activity_daily_stats (project_id, stat_date, request_count, article_count)
+            VALUES (:projectId, :statDate, 1, 0)
+            ON DUPLICATE KEY UPDATE request_count = request_count + 1
+            """, nativeQuery = true)
+    int incrementRequestCount(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_activity_daily_stats (project_id, stat_date, request_count, article_count)
+            VALUES (:projectId, :statDate, 0, 1)
+            ON DUPLICATE KEY UPDATE article_count = article_count + 1
+            """, nativeQuery = true)
+    int incrementArticleCount(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate);
+
+    @Modifying
+    @Query(value = """
+            UPDATE project_activity_daily_stats
+            SET request_count = GREATEST(request_count - 1, 0)
+            WHERE project_id = :projectId AND stat_date = :statDate
+            """, nativeQuery = true)
+    int decrementRequestCount(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate);
+
+    @Modifying
+    @Query(value = """
+            UPDATE project_activity_daily_stats
+            SET article_count = GREATEST(article_count - 1, 0)
+            WHERE project_id = :projectId AND stat_date = :statDate
+            """, nativeQuery = true)
+    int decrementArticleCount(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate);
+
+    // 집계 구간이 지난 버킷 정리
+    @Modifying
+    @Query("delete from ProjectActivityDailyStats d where d.statDate < :fromDate")
+    int deleteOlderThan(@Param("fromDate") LocalDate fromDate);
+
+    // 초기 적재: 최근 구간의 삭제되지 않은 요청/게시글로 일별 버킷을 다시 만든다
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_activity_daily_stats (project_id, stat_date, request_count, article_count)
+            SELECT t.project_id, t.stat_date, SUM(t.request_count), SUM(t.article_count)
+            FROM (
+                SELECT s.project_id, DATE(r.created_at) AS stat_date, 1 AS request_count, 0 AS article_count
+                FROM request r JOIN stage s ON s.id = r.stage_id
+                WHERE r.is_deleted = false AND r.created_at >= :fromDate
+                UNION ALL
+                SELECT s.project_id, DATE(a.created_at), 0, 1
+                FROM article a JOIN stage s ON s.id = a.stage_id
+                WHERE a.is_deleted = false AND a.created_at >= :fromDate
+            ) t
+            GROUP BY t.project_id, t.stat_date
+            ON DUPLICATE KEY UPDATE
+                request_count = VALUES(request_count),
+                article_count = VALUES(article_count)
+            """, nativeQuery = true)
+    int rebuildFrom(@Param("fromDate") LocalDate fromDate);
+}
@@ -0,0 +1,113 @@
+package com.soda.project.infrastructure.stats;
+
+import com.soda.project.domain.stats.ProjectActivityStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProjectActivityStatsRepository extends JpaRepository<ProjectActivityStats, Long> {
+
+    // 프로젝트 생성: 활동이 없는 프로젝트도 목록 정렬에 포함되도록 0 으로 된 행을 만든다
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO project_activity_stats
+                (project_id, weekly_request_count, weekly_article_count, weekly_activity)
+            VALUES (:projectId, 0, 0, 0)
+            """, nativeQuery = true)
+    int createIfAbsent(@Param("projectId") Long projectId);
+
+    // 통계 행이 없는 프로젝트의 행을 만든다 (이 행이 생기기 전에 만들어진 프로젝트)
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO project_activity_stats
+                (project_id, weekly_request_count, weekly_article_count, weekly_activity)
+            SELECT p.id, 0, 0, 0
+            FROM project p
+            LEFT JOIN project_activity_stats s ON s.project_id = p.id
+            WHERE s.project_id IS NULL
+            """, nativeQuery = true)
+    int createMissing();
+
+    // 요청 생성: 행이 없으면 생성, 있으면 원자적으로 증가 (동시 생성 시에도 유실 없음)
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_activity_stats
+                (project_id, weekly_request_count, weekly_article_count, weekly_activity, recent_request_date)
+            VALUES (:projectId, 1, 0, 1, :createdAt)
+            ON DUPLICATE KEY UPDATE
+                weekly_request_count = weekly_request_count + 1,
+                weekly_activity = weekly_activity + 1,
+                recent_request_date = GREATEST(COALESCE(recent_request_date, :createdAt), :createdAt)
+            """, nativeQuery = true)
+    int recordRequestCreated(@Param("projectId") Long projectId, @Param("createdAt") LocalDateTime createdAt);
+
+    // 게시글 생성
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_activity_stats
+                (project_id, weekly_request_count, weekly_article_count, weekly_activity, recent_article_date)
+            VALUES (:projectId, 0, 1, 1, :createdAt)
+            ON DUPLICATE KEY UPDATE
+                weekly_article_count = weekly_article_count + 1,
+                weekly_activity = weekly_activity + 1,
+                recent_article_date = GREATEST(COALESCE(recent_article_date, :createdAt), :createdAt)
+            """, nativeQuery = true)
+    int recordArticleCreated(@Param("projectId") Long projectId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE project_activity_stats
+            SET weekly_request_count = GREATEST(weekly_request_count - 1, 0),
+                weekly_activity = GREATEST(weekly_activity - 1, 0)
+            WHERE project_id = :projectId
+            """, nativeQuery = true)
+    int decrementWeeklyRequestCount(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE project_activity_stats
+            SET weekly_article_count = GREATEST(weekly_article_count - 1, 0),
+                weekly_activity = GREATEST(weekly_activity - 1, 0)
+            WHERE project_id = :projectId
+            """, nativeQuery = true)
+    int decrementWeeklyArticleCount(@Param("projectId") Long projectId);
+
+    // 일별 버킷 기준으로 전체 프로젝트의 주간 카운트를 한 번에 다시 계산
+    @Modifying
+    @Query(value = """
+            UPDATE project_activity_stats s
+            LEFT JOIN (
+                SELECT d.project_id,
+                       SUM(d.request_count) AS request_count,
+                       SUM(d.article_count) AS article_count
+                FROM project_activity_daily_stats d
+                WHERE d.stat_date >= :fromDate
+                GROUP BY d.project_id
+            ) w ON w.project_id = s.project_id
+            SET s.weekly_request_count = COALESCE(w.request_count, 0),
+                s.weekly_article_count = COALESCE(w.article_count, 0),
+                s.weekly_activity = COALESCE(w.request_count, 0) + COALESCE(w.article_count, 0)
+            """, nativeQuery = true)
+    int recalculateWeeklyCounts(@Param("fromDate") LocalDate fromDate);
+
+    // 초기 적재: 모든 프로젝트의 행을 만들고 마지막 활동 시각을 원본 테이블에서 채운다
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_activity_stats
+                (project_id, weekly_request_count, weekly_article_count, weekly_activity, recent_request_date, recent_article_date)
+            SELECT p.id, 0, 0, 0,
+                   (SELECT MAX(r.created_at) FROM request r JOIN stage s ON s.id = r.stage_id WHERE s.project_id = p.id),
+                   (SELECT MAX(a.created_at) FROM article a JOIN stage s ON s.id = a.stage_id WHERE s.project_id = p.id)
+            FROM project p
+            ON DUPLICATE KEY UPDATE
+                recent_request_date = VALUES(recent_request_date),
+                recent_article_date = VALUES(recent_article_date)
+            """, nativeQuery = true)
+    int rebuildRecentActivityDates();
+}
@@ -59,17 +59,15 @@ public class ProjectController {
 
     @GetMapping("/{projectId}")
     public ResponseEntity<ApiResponseForm<ProjectViewResponse>> getProject(HttpServletRequest request, @PathVariable Long projectId) {
-        Long userId = (Long) request.getAttribute("memberId");
         String userRole = (String) request.getAttribute("userRole").toString();
-        ProjectViewResponse response = projectFacade.getProject(userId, userRole, projectId);
+        ProjectViewResponse response = projectFacade.getProject(userRole, projectId);
         return ResponseEntity.ok(ApiResponseForm.success(response));
     }
 
     @PatchMapping("/{projectId}/status")
-    public ResponseEntity<ApiResponseForm<ProjectStatusUpdateResponse>> updateProjectStatus(HttpServletRequest request, @PathVariable Long projectId,
+    public ResponseEntity<ApiResponseForm<ProjectStatusUpdateResponse>> updateProjectStatus(@PathVariable Long projectId,
                                                                                             @Valid @RequestBody ProjectStatusUpdateRequest updateRequest) {
-        Long userId = (Long) request.getAttribute("memberId");
-        ProjectStatusUpdateResponse response = projectFacade.updateProjectStatus(userId, projectId, updateRequest);
+        ProjectStatusUpdateResponse response = projectFacade.updateProjectStatus(projectId, updateRequest);
         return ResponseEntity.ok(ApiResponseForm.success(response, "프로젝트 상태 변경 성공"));
     }
 
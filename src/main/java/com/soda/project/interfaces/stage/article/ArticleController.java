@@ -4,6 +4,7 @@ import com.soda.project.application.stage.common.FileFacade;
 import com.soda.project.application.stage.common.LinkFacade;
 import com.soda.project.interfaces.stage.common.link.dto.LinkDeleteResponse;
 import com.soda.global.response.ApiResponseForm;
+import com.soda.global.response.SlicedData;
 import com.soda.project.application.stage.article.ArticleFacade;
 import com.soda.project.interfaces.stage.common.file.dto.*;
 import com.soda.project.interfaces.stage.article.dto.*;
@@ -30,9 +31,8 @@ public class ArticleController {
 
     @PostMapping("/articles")
     public ResponseEntity<ApiResponseForm<ArticleCreateResponse>> createArticle(@RequestBody ArticleCreateRequest request, HttpServletRequest user) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        ArticleCreateResponse response = articleFacade.createArticle(request, userId, userRole);
+        ArticleCreateResponse response = articleFacade.createArticle(request, userRole);
         return ResponseEntity.ok(ApiResponseForm.success(response, "게시글 생성 성공"));
     }
 
@@ -42,36 +42,44 @@ public class ArticleController {
                                                                                          @PathVariable Long projectId,
                                                                                          @ModelAttribute ArticleSearchCondition articleSearchCondition,
                                                                                          @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        Page<ArticleListViewResponse> response = articleFacade.getAllArticles(userId, userRole, projectId, articleSearchCondition, pageable);
+        Page<ArticleListViewResponse> response = articleFacade.getAllArticles(userRole, projectId, articleSearchCondition, pageable);
+        return ResponseEntity.ok(ApiResponseForm.success(response));
+    }
+
+    // 무한 스크롤용 커서 기반 조회 (count 쿼리 없음)
+    @GetMapping("/projects/{projectId}/articles/scroll")
+    public ResponseEntity<ApiResponseForm<SlicedData<ArticleListViewResponse>>> getArticlesSlice(HttpServletRequest user,
+                                                                                                 @PathVariable Long projectId,
+                                                                                                 @ModelAttribute ArticleSearchCondition articleSearchCondition,
+                                                                                                 @RequestParam(required = false) String cursor,
+                                                                                                 @RequestParam(defaultValue = "20") int size) {
+        String userRole = (String) user.getAttribute("userRole").toString();
+        SlicedData<ArticleListViewResponse> response = articleFacade.getArticlesSlice(userRole, projectId, articleSearchCondition, cursor, size);
         return ResponseEntity.ok(ApiResponseForm.success(response));
     }
 
     @GetMapping("/projects/{projectId}/articles/{articleId}")
     public ResponseEntity<ApiResponseForm<ArticleViewResponse>> getArticle(@PathVariable Long projectId, HttpServletRequest user,
                                                                            @PathVariable Long articleId) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        ArticleViewResponse response = articleFacade.getArticle(projectId, userId, userRole, articleId);
+        ArticleViewResponse response = articleFacade.getArticle(projectId, userRole, articleId);
         return ResponseEntity.ok(ApiResponseForm.success(response));
     }
 
     @DeleteMapping("/projects/{projectId}/articles/{articleId}")
     public ResponseEntity<Void> deleteArticle(@PathVariable Long projectId, HttpServletRequest user,
                                               @PathVariable Long articleId) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        articleFacade.deleteArticle(projectId, userId, userRole, articleId);
+        articleFacade.deleteArticle(projectId, userRole, articleId);
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping("/articles/{articleId}")
     public ResponseEntity<ApiResponseForm<ArticleModifyResponse>> updateArticle(HttpServletRequest user,
                                                                                 @PathVariable Long articleId, @RequestBody ArticleModifyRequest request) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        ArticleModifyResponse response = articleFacade.updateArticle(userId, userRole, articleId, request);
+        ArticleModifyResponse response = articleFacade.updateArticle(userRole, articleId, request);
         return ResponseEntity.ok(ApiResponseForm.success(response, "Article 수정 성공"));
     }
 
@@ -110,12 +118,18 @@ public class ArticleController {
     }
 
     @GetMapping("/articles/my")
-    public ResponseEntity<ApiResponseForm<Page<MyArticleListResponse>>> getMyArticles(HttpServletRequest request,
-                                                                                      @RequestParam(required = false) Long projectId,
+    public ResponseEntity<ApiResponseForm<Page<MyArticleListResponse>>> getMyArticles(@RequestParam(required = false) Long projectId,
                                                                                       Pageable pageable
                                                                                       ) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        Page<MyArticleListResponse> response = articleFacade.getMyArticles(memberId, projectId, pageable);
+        Page<MyArticleListResponse> response = articleFacade.getMyArticles(projectId, pageable);
+        return ResponseEntity.ok(ApiResponseForm.success(response));
+    }
+
+    @GetMapping("/articles/my/scroll")
+    public ResponseEntity<ApiResponseForm<SlicedData<MyArticleListResponse>>> getMyArticlesSlice(@RequestParam(required = false) Long projectId,
+                                                                                                 @RequestParam(required = false) String cursor,
+                                                                                                 @RequestParam(defaultValue = "20") int size) {
+        SlicedData<MyArticleListResponse> response = articleFacade.getMyArticlesSlice(projectId, cursor, size);
         return ResponseEntity.ok(ApiResponseForm.success(response));
     }
 
@@ -135,33 +149,29 @@ public class ArticleController {
     }
 
     @PostMapping("/articles/{articleId}/vote/submission")
-    public ResponseEntity<ApiResponseForm<VoteSubmitResponse>> submitVote(@PathVariable Long articleId, HttpServletRequest request,
+    public ResponseEntity<ApiResponseForm<VoteSubmitResponse>> submitVote(@PathVariable Long articleId,
                                                                           @Valid @RequestBody VoteSubmitRequest voteSubmitRequest) {
-        Long userId = (Long) request.getAttribute("memberId");
-        VoteSubmitResponse response = articleFacade.submitVoteForArticle(articleId, userId, voteSubmitRequest);
+        VoteSubmitResponse response = articleFacade.submitVoteForArticle(articleId, voteSubmitRequest);
         return ResponseEntity.ok(ApiResponseForm.success(response, "투표하기 성공"));
     }
 
     @PostMapping("/articles/{articleId}/vote/items")
-    public ResponseEntity<ApiResponseForm<VoteItemAddResponse>> addVoteItem(@PathVariable Long articleId, HttpServletRequest request,
+    public ResponseEntity<ApiResponseForm<VoteItemAddResponse>> addVoteItem(@PathVariable Long articleId,
                                                                             @Valid @RequestBody VoteItemAddRequest voteItemAddRequest) {
-        Long userId = (Long) request.getAttribute("memberId");
-        VoteItemAddResponse response = articleFacade.addVoteItem(articleId, userId, voteItemAddRequest);
+        VoteItemAddResponse response = articleFacade.addVoteItem(articleId, voteItemAddRequest);
         return ResponseEntity.ok(ApiResponseForm.success(response, "투표 항목 추가 성공"));
     }
 
     @GetMapping("/articles/{articleId}/vote-results")
-    public ResponseEntity<ApiResponseForm<VoteResultResponse>> getVoteResults(@PathVariable Long articleId, HttpServletRequest request) {
-        Long userId = (Long) request.getAttribute("memberId");
-        VoteResultResponse response = articleFacade.getVoteResults(articleId, userId);
+    public ResponseEntity<ApiResponseForm<VoteResultResponse>> getVoteResults(@PathVariable Long articleId) {
+        VoteResultResponse response = articleFacade.getVoteResults(articleId);
         return ResponseEntity.ok(ApiResponseForm.success(response));
     }
 
     @PatchMapping("/articles/{articleId}/status")
-    public ResponseEntity<ApiResponseForm<ArticleStatusUpdateResponse>> updateArticleStatus(HttpServletRequest request, @PathVariable Long articleId,
+    public ResponseEntity<ApiResponseForm<ArticleStatusUpdateResponse>> updateArticleStatus(@PathVariable Long articleId,
                                                                                             @Valid @RequestBody ArticleStatusUpdateRequest updateRequest) {
-        Long userId = (Long) request.getAttribute("memberId");
-        ArticleStatusUpdateResponse response = articleFacade.updateArticleStatus(userId, articleId, updateRequest);
+        ArticleStatusUpdateResponse response = articleFacade.updateArticleStatus(articleId, updateRequest);
         return ResponseEntity.ok(ApiResponseForm.success(response, "게시글 상태 변경 성공"));
     }
 }
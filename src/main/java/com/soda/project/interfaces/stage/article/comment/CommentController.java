@@ -18,32 +18,28 @@ public class CommentController {
 
     @PostMapping("/comments")
     public ResponseEntity<ApiResponseForm<CommentCreateResponse>> createComment(HttpServletRequest user, @RequestBody CommentCreateRequest request) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        CommentCreateResponse response = commentFacade.createComment(userId, userRole, request);
+        CommentCreateResponse response = commentFacade.createComment(userRole, request);
         return ResponseEntity.ok(ApiResponseForm.success(response, "댓글 생성 성공"));
     }
 
     @GetMapping("/articles/{articleId}/comments")
     public ResponseEntity<ApiResponseForm<List<CommentDTO>>> getCommentList(HttpServletRequest user, @PathVariable Long articleId) {
-        Long userId = (Long) user.getAttribute("memberId");
         String userRole = (String) user.getAttribute("userRole").toString();
-        List<CommentDTO> response = commentFacade.getCommentList(userId, userRole, articleId);
+        List<CommentDTO> response = commentFacade.getCommentList(userRole, articleId);
         return ResponseEntity.ok(ApiResponseForm.success(response));
     }
 
     @DeleteMapping("/comments/{commentId}")
-    public ResponseEntity<Void> deleteComment(HttpServletRequest user, @PathVariable Long commentId) {
-        Long userId = (Long) user.getAttribute("memberId");
-        commentFacade.deleteComment(userId, commentId);
+    public ResponseEntity<Void> deleteComment(@PathVariable Long commentId) {
+        commentFacade.deleteComment(commentId);
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping("/comments/{commentId}")
-    public ResponseEntity<ApiResponseForm<CommentUpdateResponse>> updateComment(HttpServletRequest user,
-                                                                                @RequestBody CommentUpdateRequest request, @PathVariable Long commentId) {
-        Long userId = (Long) user.getAttribute("memberId");
-        CommentUpdateResponse response = commentFacade.updateComment(userId, request, commentId);
+    public ResponseEntity<ApiResponseForm<CommentUpdateResponse>> updateComment(@RequestBody CommentUpdateRequest request,
+                                                                                @PathVariable Long commentId) {
+        CommentUpdateResponse response = commentFacade.updateComment(request, commentId);
         return ResponseEntity.ok(ApiResponseForm.success(response, "댓글 수정 성공"));
     }
 }
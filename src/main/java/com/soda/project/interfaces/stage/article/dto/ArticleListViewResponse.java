@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -25,14 +26,13 @@ public class ArticleListViewResponse {
     private Long parentArticleId;
     private List<ArticleListViewResponse> children;     // 자식 게시글 리스트
     private boolean isDeleted;
+    private String snippet;                             // 키워드 검색 시 일치 부분 하이라이트 (<mark>, HTML 이스케이프됨)
 
-    public static ArticleListViewResponse fromEntity(Article article) {
-        List<ArticleListViewResponse> childArticleDTOs = article.getChildArticles() != null ?
-                article.getChildArticles().stream()
-                        .map(ArticleListViewResponse::fromEntity)
-                        .toList() :
-                null;
-
+    /**
+     * 게시글 한 건을 변환한다. 자식 컬렉션(article.getChildArticles())은 건드리지 않으며,
+     * children 은 빈 목록으로 만들어 두고 ArticleResponseBuilder 가 트리를 조립하면서 채운다.
+     */
+    public static ArticleListViewResponse fromEntity(Article article, String snippet) {
         return ArticleListViewResponse.builder()
                 .id(article.getId())
                 .title(article.getTitle())
@@ -42,23 +42,14 @@ public class ArticleListViewResponse {
                 .deadLine(article.getDeadline())
                 .createdAt(article.getCreatedAt())
                 .parentArticleId(article.getParentArticle() != null ? article.getParentArticle().getId() : null)
-                .children(childArticleDTOs)
+                .children(new ArrayList<>())
                 .isDeleted(article.getIsDeleted())
+                .snippet(snippet)
                 .build();
     }
 
-    // 자식 글을 추가하는 메서드
-    public ArticleListViewResponse withChildArticles(List<ArticleListViewResponse> childArticles) {
-        return ArticleListViewResponse.builder()
-                .id(this.getId())
-                .title(this.getTitle())
-                .userName(this.getUserName())
-                .status(this.getStatus())
-                .priority(this.getPriority())
-                .deadLine(this.getDeadLine())
-                .createdAt(this.getCreatedAt())
-                .children(childArticles)
-                .isDeleted(this.isDeleted())
-                .build();
+    // 트리 조립 시 자식 게시글을 추가하는 메서드
+    public void addChild(ArticleListViewResponse child) {
+        this.children.add(child);
     }
 }
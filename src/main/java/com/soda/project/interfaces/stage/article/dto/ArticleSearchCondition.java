@@ -15,6 +15,7 @@ public class ArticleSearchCondition {
 
     private SearchType searchType;
     private String keyword;
+    private boolean relevance; // true면 제목/내용 검색 결과를 관련도 순으로 정렬 (FULLTEXT 검색일 때만)
 
     private ArticleStatus status;
     private PriorityType priorityType;
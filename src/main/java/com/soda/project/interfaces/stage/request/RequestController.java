@@ -1,6 +1,7 @@
 package com.soda.project.interfaces.stage.request;
 
 import com.soda.global.response.ApiResponseForm;
+import com.soda.global.response.SlicedData;
 import com.soda.project.application.stage.common.FileFacade;
 import com.soda.project.application.stage.common.LinkFacade;
 import com.soda.project.application.stage.request.RequestFacade;
@@ -27,19 +28,15 @@ public class RequestController {
 
 
     @PostMapping("/requests")
-    public ResponseEntity<ApiResponseForm<?>> createRequest(@RequestBody RequestCreateRequest requestCreateRequest,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        RequestCreateResponse requestCreateResponse = requestFacade.createRequest(memberId, requestCreateRequest);
+    public ResponseEntity<ApiResponseForm<?>> createRequest(@RequestBody RequestCreateRequest requestCreateRequest) {
+        RequestCreateResponse requestCreateResponse = requestFacade.createRequest(requestCreateRequest);
         return ResponseEntity.ok(ApiResponseForm.success(requestCreateResponse));
     }
 
     @PostMapping("/requests/{requestId}/re-requests")
     public ResponseEntity<ApiResponseForm<?>> createReRequest(@PathVariable Long requestId,
-                                                              @RequestBody ReRequestCreateRequest reRequestCreateRequest,
-                                                              HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        RequestCreateResponse requestCreateResponse = requestFacade.createReRequest(memberId, requestId, reRequestCreateRequest);
+                                                              @RequestBody ReRequestCreateRequest reRequestCreateRequest) {
+        RequestCreateResponse requestCreateResponse = requestFacade.createReRequest(requestId, reRequestCreateRequest);
         return ResponseEntity.ok(ApiResponseForm.success(requestCreateResponse));
     }
 
@@ -51,11 +48,21 @@ public class RequestController {
         return ResponseEntity.ok(ApiResponseForm.success(requests));
     }
 
+    // 무한 스크롤용 커서 기반 조회 (루트 요청 단위, count 쿼리 없음)
+    @GetMapping("/projects/{projectId}/requests/scroll")
+    public ResponseEntity<ApiResponseForm<?>> getRequestsSlice(@PathVariable Long projectId,
+                                                               @ModelAttribute GetRequestCondition condition,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        SlicedData<RequestDTO> requests = requestFacade.findRequestsSlice(projectId, condition, cursor, size);
+        return ResponseEntity.ok(ApiResponseForm.success(requests));
+    }
+
     @GetMapping("/members/{memberId}/requests")
     public ResponseEntity<ApiResponseForm<?>> getMemberRequests(@PathVariable Long memberId,
                                                                 @ModelAttribute GetMemberRequestCondition condition,
                                                                 Pageable pageable) {
-        Page<RequestDTO> requests = requestFacade.findMemberRequests(memberId, condition, pageable);
+        Page<MemberRequestListItem> requests = requestFacade.findMemberRequests(memberId, condition, pageable);
         return ResponseEntity.ok(ApiResponseForm.success(requests));
     }
 
@@ -73,18 +80,14 @@ public class RequestController {
 
     @PutMapping("/requests/{requestId}")
     public ResponseEntity<ApiResponseForm<?>> updateRequest(@RequestBody RequestUpdateRequest requestUpdateRequest,
-                                                            @PathVariable Long requestId,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        RequestUpdateResponse requestUpdateResponse = requestFacade.updateRequest(memberId, requestId, requestUpdateRequest);
+                                                            @PathVariable Long requestId) {
+        RequestUpdateResponse requestUpdateResponse = requestFacade.updateRequest(requestId, requestUpdateRequest);
         return ResponseEntity.ok(ApiResponseForm.success(requestUpdateResponse));
     }
 
     @DeleteMapping("/requests/{requestId}")
-    public ResponseEntity<ApiResponseForm<?>> deleteRequest(@PathVariable Long requestId,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        RequestDeleteResponse requestDeleteResponse = requestFacade.deleteRequest(memberId, requestId);
+    public ResponseEntity<ApiResponseForm<?>> deleteRequest(@PathVariable Long requestId) {
+        RequestDeleteResponse requestDeleteResponse = requestFacade.deleteRequest(requestId);
         return ResponseEntity.ok(ApiResponseForm.success(requestDeleteResponse));
     }
 
@@ -12,4 +12,5 @@ public class GetRequestCondition {
     private Long stageId;
     private RequestStatus status;
     private String keyword;
+    private boolean rootPaging; // true면 루트 요청 단위로 DB 페이징 (자식 요청은 해당 페이지 루트 기준으로 함께 조회)
 }
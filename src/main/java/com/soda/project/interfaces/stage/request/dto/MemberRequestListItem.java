@@ -0,0 +1,15 @@
+package com.soda.project.interfaces.stage.request.dto;
+
+import com.soda.project.domain.stage.request.RequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 요청 목록 한 줄 (컬렉션 없이 projection 으로만 조회)
+ * approver: 조회한 회원이 이 요청의 승인자로 지정되어 있는지
+ */
+public record MemberRequestListItem(Long requestId, Long parentId, String title, RequestStatus status,
+                                    Long stageId, String stageName, Long projectId, String projectTitle,
+                                    Long requesterId, String requesterName, Boolean approver,
+                                    LocalDateTime createdAt) {
+}
@@ -31,6 +31,23 @@ public class RequestDTO {
 
     // Entity → DTO 변환
     public static RequestDTO fromEntity(Request request) {
+        return of(request,
+                request.getLinks().stream()
+                        .filter(link -> !link.getIsDeleted())
+                        .map(LinkDTO::fromEntity)
+                        .collect(Collectors.toList()),
+                request.getFiles().stream()
+                        .filter(file -> !file.getIsDeleted())
+                        .map(FileDTO::fromEntity)
+                        .collect(Collectors.toList()),
+                request.getApprovers().stream()
+                        .filter(approver -> !approver.getIsDeleted())
+                        .map(ApproverDTO::fromEntity)
+                        .collect(Collectors.toList()));
+    }
+
+    // 연관 목록을 따로 조회한 경우 (목록 조회 시 RequestReadAssembler 에서 요청 id 별로 묶어 전달)
+    public static RequestDTO of(Request request, List<LinkDTO> links, List<FileDTO> files, List<ApproverDTO> approvers) {
         return RequestDTO.builder()
                 .requestId(request.getId())
                 .projectId(request.getStage().getProject().getId())
@@ -40,24 +57,9 @@ public class RequestDTO {
                 .parentId(request.getParentId() == null ? -1 : request.getParentId())
                 .title(request.getTitle())
                 .content(request.getContent())
-                .links(
-                        request.getLinks().stream()
-                                .filter(link -> !link.getIsDeleted())
-                                .map(LinkDTO::fromEntity)
-                                .collect(Collectors.toList())
-                )
-                .files(
-                        request.getFiles().stream()
-                                .filter(file -> !file.getIsDeleted())
-                                .map(FileDTO::fromEntity)
-                                .collect(Collectors.toList())
-                )
-                .approvers(
-                        request.getApprovers().stream()
-                                .filter(approver -> !approver.getIsDeleted())
-                                .map(ApproverDTO::fromEntity)
-                                .collect(Collectors.toList())
-                )
+                .links(links)
+                .files(files)
+                .approvers(approvers)
                 .status(request.getStatus())
                 .createdAt(request.getCreatedAt())
                 .updatedAt(request.getUpdatedAt())
@@ -23,19 +23,15 @@ public class ResponseController {
 
     @PostMapping("/requests/{requestId}/approval")
     public ResponseEntity<ApiResponseForm<?>> approveRequest(@RequestBody RequestApproveRequest requestApproveRequest,
-                                                            @PathVariable Long requestId,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        RequestApproveResponse requestApproveResponse = responseFacade.approveRequest(memberId, requestId, requestApproveRequest);
+                                                            @PathVariable Long requestId) {
+        RequestApproveResponse requestApproveResponse = responseFacade.approveRequest(requestId, requestApproveRequest);
         return ResponseEntity.ok(ApiResponseForm.success(requestApproveResponse));
     }
 
     @PostMapping("/requests/{requestId}/rejection")
     public ResponseEntity<ApiResponseForm<?>> rejectRequest(@RequestBody RequestRejectRequest requestRejectRequest,
-                                                            @PathVariable Long requestId,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        RequestRejectResponse requestRejectResponse = responseFacade.rejectRequest(memberId, requestId, requestRejectRequest);
+                                                            @PathVariable Long requestId) {
+        RequestRejectResponse requestRejectResponse = responseFacade.rejectRequest(requestId, requestRejectRequest);
         return ResponseEntity.ok(ApiResponseForm.success(requestRejectResponse));
     }
 
@@ -53,18 +49,14 @@ public class ResponseController {
 
     @PutMapping("/responses/{responseId}")
     public ResponseEntity<ApiResponseForm<?>> updateResponse(@RequestBody ResponseUpdateRequest responseUpdateRequest,
-                                                            @PathVariable Long responseId,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        ResponseUpdateResponse responseUpdateResponse = responseFacade.updateResponse(memberId, responseId, responseUpdateRequest);
+                                                            @PathVariable Long responseId) {
+        ResponseUpdateResponse responseUpdateResponse = responseFacade.updateResponse(responseId, responseUpdateRequest);
         return ResponseEntity.ok(ApiResponseForm.success(responseUpdateResponse));
     }
 
     @DeleteMapping("/responses/{responseId}")
-    public ResponseEntity<ApiResponseForm<?>> deleteRequest(@PathVariable Long responseId,
-                                                            HttpServletRequest request) {
-        Long memberId = (Long) request.getAttribute("memberId");
-        ResponseDeleteResponse responseDeleteResponse = responseFacade.deleteResponse(memberId, responseId);
+    public ResponseEntity<ApiResponseForm<?>> deleteRequest(@PathVariable Long responseId) {
+        ResponseDeleteResponse responseDeleteResponse = responseFacade.deleteResponse(responseId);
         return ResponseEntity.ok(ApiResponseForm.success(responseDeleteResponse));
     }
 
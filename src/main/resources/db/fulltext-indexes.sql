@@ -0,0 +1,18 @@
+-- 게시글/요청 키워드 검색용 ngram FULLTEXT 인덱스 (search.keyword.mode=FULLTEXT)
+-- FullTextIndex 정의와 같은 이름/컬럼 순서를 유지한다. (MATCH 컬럼 순서가 다르면 인덱스를 쓰지 않음)
+--
+-- 테이블에 첫 FULLTEXT 인덱스를 추가하면 FTS_DOC_ID 컬럼이 생기면서 테이블을 재구성하므로 점검 시간에 실행한다.
+-- 실행 후 search.keyword.index-check-interval 안에 애플리케이션이 인덱스를 확인하고 MATCH 검색으로 바꾼다.
+--
+-- 기본 불용어 목록이 켜져 있으면 ngram 파서가 불용어(a, i, to ...)를 포함한 토큰을 인덱스에서 빼므로 끄고 만든다.
+-- 애플리케이션도 innodb_ft_enable_stopword 가 켜져 있으면 LIKE 검색을 쓰므로 전역 설정도 OFF 로 둔다.
+--   SET GLOBAL innodb_ft_enable_stopword = OFF;  (또는 my.cnf 에 innodb_ft_enable_stopword=OFF)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE article ADD FULLTEXT INDEX ft_article_title_content (title, content) WITH PARSER ngram;
+
+ALTER TABLE request ADD FULLTEXT INDEX ft_request_title (title) WITH PARSER ngram;
+
+-- 불용어를 켠 상태에서 만든 인덱스는 지우고 위 문장으로 다시 만든다.
+--   ALTER TABLE article DROP INDEX ft_article_title_content;
+--   ALTER TABLE request DROP INDEX ft_request_title;
@@ -0,0 +1,173 @@
+package com.soda.member.application;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.soda.member.config.MailOutboxProperties;
+import com.soda.member.domain.mail.OutboundMail;
+import com.soda.member.domain.mail.OutboundMailProvider;
+import com.soda.member.domain.mail.OutboundMailService;
+import com.soda.member.domain.mail.OutboundMailStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발송 대기열 → SMTP(GreenMail) 발송, 실패 시 backoff 재시도 확인
+ * 저장소는 메모리 구현으로 바꾸고, 발송 실행기는 호출 스레드에서 바로 실행해 dispatch() 한 번의 결과를 바로 확인한다.
+ */
+class OutboundMailDispatcherTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(300);
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private InMemoryOutboundMailProvider provider;
+    private MailOutboxProperties properties;
+    private OutboundMailService outboundMailService;
+    private JavaMailSenderImpl mailSender;
+    private OutboundMailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        provider = new InMemoryOutboundMailProvider();
+        properties = new MailOutboxProperties();
+        properties.setInitialBackoff(INITIAL_BACKOFF);
+        properties.setMaxAttempts(3);
+        outboundMailService = new OutboundMailService(provider, properties);
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        dispatcher = new OutboundMailDispatcher(outboundMailService, mailSender, Runnable::run, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("대기열의 메일을 SMTP 로 발송하고, 발송 후에는 본문을 지운다")
+    void sendsQueuedMailAndPurgesBody() {
+        OutboundMail mail = outboundMailService.enqueue("user@soda.test", "이메일 인증", "<p>인증 코드: 482913</p>");
+
+        dispatcher.dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(GreenMailUtil.getAddressList(received[0].getAllRecipients())).isEqualTo("user@soda.test");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("482913");
+
+        assertThat(mail.getStatus()).isEqualTo(OutboundMailStatus.SENT);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getBody()).doesNotContain("482913");
+    }
+
+    @Test
+    @DisplayName("SMTP 연결에 실패하면 backoff 뒤에 다시 보낸다")
+    void retriesAfterBackoffWhenSmtpIsDown() throws Exception {
+        mailSender.setPort(unusedPort());
+        OutboundMail mail = outboundMailService.enqueue("user@soda.test", "이메일 인증", "<p>인증 코드: 174625</p>");
+
+        LocalDateTime beforeFailure = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        assertThat(mail.getStatus()).isEqualTo(OutboundMailStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getLastError()).isNotBlank();
+        assertThat(mail.getNextAttemptAt()).isAfterOrEqualTo(beforeFailure.plus(INITIAL_BACKOFF));
+        assertThat(mail.getBody()).contains("174625"); // 재시도해야 하므로 아직 남아 있음
+
+        // backoff 가 지나기 전에는 다시 가져가지 않는다
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        dispatcher.dispatch();
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        Thread.sleep(INITIAL_BACKOFF.plusMillis(100).toMillis());
+        dispatcher.dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mail.getStatus()).isEqualTo(OutboundMailStatus.SENT);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        assertThat(mail.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED 로 남기고 본문을 지운다")
+    void marksFailedAfterMaxAttempts() throws Exception {
+        properties.setMaxAttempts(2);
+        mailSender.setPort(unusedPort());
+        OutboundMail mail = outboundMailService.enqueue("user@soda.test", "이메일 인증", "<p>인증 코드: 903311</p>");
+
+        dispatcher.dispatch();
+        Thread.sleep(INITIAL_BACKOFF.plusMillis(100).toMillis());
+        dispatcher.dispatch();
+
+        assertThat(mail.getStatus()).isEqualTo(OutboundMailStatus.FAILED);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        assertThat(mail.getBody()).doesNotContain("903311");
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * outbound_mail 테이블 대신 쓰는 메모리 저장소 (조회 조건은 OutboundMailProviderImpl 과 같음)
+     */
+    private static class InMemoryOutboundMailProvider implements OutboundMailProvider {
+
+        private final Map<Long, OutboundMail> mails = new LinkedHashMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public OutboundMail store(OutboundMail outboundMail) {
+            ReflectionTestUtils.setField(outboundMail, "id", sequence.incrementAndGet());
+            mails.put(outboundMail.getId(), outboundMail);
+            return outboundMail;
+        }
+
+        @Override
+        public List<OutboundMail> findDueForUpdate(LocalDateTime now, int limit) {
+            return mails.values().stream()
+                    .filter(mail -> mail.getStatus() == OutboundMailStatus.PENDING || mail.getStatus() == OutboundMailStatus.SENDING)
+                    .filter(mail -> !mail.getNextAttemptAt().isAfter(now))
+                    .sorted(Comparator.comparing(OutboundMail::getNextAttemptAt))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public List<OutboundMail> findAllById(Collection<Long> ids) {
+            return ids.stream().map(mails::get).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public int deleteSentBefore(LocalDateTime before) {
+            int size = mails.size();
+            mails.values().removeIf(mail -> mail.getStatus() == OutboundMailStatus.SENT && mail.getSentAt().isBefore(before));
+            return size - mails.size();
+        }
+    }
+}
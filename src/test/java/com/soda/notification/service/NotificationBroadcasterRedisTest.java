@@ -0,0 +1,170 @@
+package com.soda.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soda.notification.config.NotificationBusProperties;
+import com.soda.notification.listener.NotificationRedisSubscriber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 Redis 로 두 노드 간 알림 전달 확인
+ * 노드마다 NotificationBroadcaster + NotificationRedisSubscriber 를 따로 띄우고, EmitterService 는 mock 으로 전달 여부만 본다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationBroadcasterRedisTest {
+
+    private static final String CHANNEL = "notification:events:test";
+    private static final Long USER_ID = 7L;
+    private static final long DELIVERY_TIMEOUT_MS = 5_000;
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        listenerContainers.forEach(RedisMessageListenerContainer::stop);
+        listenerContainers.clear();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게 전달된다")
+    void deliversToUserConnectedOnAnotherNode() throws Exception {
+        Node publisher = startNode("node-a");
+        Node receiver = startNode("node-b");
+        when(receiver.emitterService().hasEmitter(USER_ID)).thenReturn(true);
+        awaitSubscribers(2);
+
+        publisher.broadcaster().publish(USER_ID, "notification", Map.of("message", "hello"));
+
+        verify(receiver.emitterService(), timeout(DELIVERY_TIMEOUT_MS))
+                .sendNotification(eq(USER_ID), eq(1L), eq("notification"), any());
+        // 연결이 없는 발행 노드는 재연결 대비로 버퍼에만 남긴다
+        verify(publisher.emitterService(), timeout(DELIVERY_TIMEOUT_MS))
+                .bufferEvent(eq(USER_ID), eq(1L), eq("notification"), any());
+        verify(publisher.emitterService(), never()).sendNotification(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이벤트 id 는 노드와 상관없이 하나의 카운터에서 발급된다")
+    void issuesEventIdsFromSharedCounter() throws Exception {
+        Node first = startNode("node-a");
+        Node second = startNode("node-b");
+        awaitSubscribers(2);
+
+        first.broadcaster().publish(USER_ID, "notification", Map.of("seq", 1));
+        second.broadcaster().publish(USER_ID, "notification", Map.of("seq", 2));
+
+        verify(first.emitterService(), timeout(DELIVERY_TIMEOUT_MS)).bufferEvent(eq(USER_ID), eq(2L), eq("notification"), any());
+        verify(second.emitterService(), timeout(DELIVERY_TIMEOUT_MS)).bufferEvent(eq(USER_ID), eq(1L), eq("notification"), any());
+        // 수신한 id 도 기록하므로 두 노드 모두 최근 id 를 알고 있다
+        assertThat(first.sequence().current()).isEqualTo(2L);
+        assertThat(second.sequence().current()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("새로 뜬 노드는 Redis 카운터의 현재 값부터 알고 있다")
+    void newNodeStartsFromCurrentRedisCounter() {
+        redisTemplate.opsForValue().set(SseEventSequence.EVENT_ID_KEY, "41");
+
+        Node node = startNode("node-c");
+
+        assertThat(node.sequence().current()).isEqualTo(41L);
+        assertThat(node.sequence().next()).isEqualTo(42L);
+    }
+
+    private Node startNode(String nodeId) {
+        NotificationBusProperties properties = new NotificationBusProperties();
+        properties.setNodeId(nodeId);
+        properties.setChannel(CHANNEL);
+
+        EmitterService emitterService = mock(EmitterService.class);
+        SseEventSequence sequence = new SseEventSequence(redisTemplate, properties);
+        sequence.init();
+        NotificationBroadcaster broadcaster = new NotificationBroadcaster(emitterService, sequence, redisTemplate,
+                objectMapper, properties, new SimpleMeterRegistry());
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        listenerContainers.add(listenerContainer);
+        new NotificationRedisSubscriber(listenerContainer, broadcaster, properties, objectMapper).subscribe();
+
+        return new Node(emitterService, sequence, broadcaster);
+    }
+
+    // 구독은 비동기로 맺어지므로, 발행 전에 채널 구독자 수가 다 찰 때까지 기다린다
+    private void awaitSubscribers(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (subscriberCount() >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("채널 구독자가 " + expected + "개가 되지 않음");
+    }
+
+    private long subscriberCount() {
+        List<?> reply = (List<?>) redisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8), CHANNEL.getBytes(StandardCharsets.UTF_8)));
+        return reply == null || reply.size() < 2 ? 0 : ((Number) reply.get(1)).longValue();
+    }
+
+    private record Node(EmitterService emitterService, SseEventSequence sequence, NotificationBroadcaster broadcaster) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.soda.notification.service;
+
+import com.soda.notification.service.UserEventBuffer.BufferedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEventBufferTest {
+
+    @Test
+    @DisplayName("작은 id 가 늦게 들어오면, 그보다 큰 id 까지 받은 연결에도 재전송한다")
+    void replaysLateEventToClientThatSawLaterId() {
+        UserEventBuffer buffer = new UserEventBuffer(10, 4);
+        buffer.append(1, 6, "notification", "six");
+        buffer.append(2, 5, "notification", "five"); // id 6 을 받고 끊긴 클라이언트는 5 를 못 받았을 수 있음
+        buffer.append(3, 7, "notification", "seven");
+
+        assertThat(buffer.isMissingEventsAfter(6)).isFalse();
+        assertThat(buffer.eventsAfter(6)).extracting(BufferedEvent::id).containsExactly(5L, 7L);
+        // 5 보다 먼저 끊긴 클라이언트는 들어온 순서 그대로
+        assertThat(buffer.eventsAfter(4)).extracting(BufferedEvent::id).containsExactly(6L, 5L, 7L);
+        // 7 까지 받았다면 5 도 이미 받았다 (연결마다 들어온 순서대로 보냄)
+        assertThat(buffer.eventsAfter(7)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("늦게 들어온 이벤트가 밀려나면 그 전 id 로 재연결한 클라이언트는 resync 대상이다")
+    void requiresResyncWhenLateEventIsEvicted() {
+        UserEventBuffer buffer = new UserEventBuffer(2, 4);
+        buffer.append(1, 6, "notification", "six");
+        buffer.append(2, 5, "notification", "five");
+        buffer.append(3, 7, "notification", "seven"); // 6 밀려남
+        buffer.append(4, 8, "notification", "eight"); // 늦게 들어온 5 밀려남
+
+        assertThat(buffer.isMissingEventsAfter(6)).isTrue();
+        assertThat(buffer.isMissingEventsAfter(7)).isFalse();
+    }
+
+    @Test
+    @DisplayName("연결에 보내기 전에 밀려난 이벤트가 있으면 알 수 있다")
+    void detectsAppendsEvictedBeforeDispatch() {
+        UserEventBuffer buffer = new UserEventBuffer(2, 0);
+        buffer.append(1, 1, "notification", "one");
+        buffer.append(2, 2, "notification", "two");
+        buffer.append(3, 3, "notification", "three");
+
+        assertThat(buffer.isMissingAppendsAfter(0)).isTrue();
+        assertThat(buffer.isMissingAppendsAfter(1)).isFalse();
+        assertThat(buffer.eventsAppendedAfter(1)).extracting(BufferedEvent::id).containsExactly(2L, 3L);
+        assertThat(buffer.lastSeq()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,191 @@
+package com.soda.project.domain.stage.request;
+
+import com.soda.SodaApplication;
+import com.soda.global.config.QueryDslConfig;
+import com.soda.global.search.FullTextSearch;
+import com.soda.global.search.KeywordSearchProperties;
+import com.soda.member.domain.member.Member;
+import com.soda.member.domain.member.MemberRole;
+import com.soda.project.domain.Project;
+import com.soda.project.domain.ProjectStatus;
+import com.soda.project.domain.stage.Stage;
+import com.soda.project.domain.stage.request.approver.ApproverDesignation;
+import com.soda.project.domain.stage.request.file.RequestFile;
+import com.soda.project.domain.stage.request.link.RequestLink;
+import com.soda.project.infrastructure.stage.request.RequestProviderImpl;
+import com.soda.project.infrastructure.stage.request.approver.ApproverDesignationProviderImpl;
+import com.soda.project.infrastructure.stage.request.file.RequestFileProviderImpl;
+import com.soda.project.infrastructure.stage.request.link.RequestLinkProviderImpl;
+import com.soda.project.interfaces.stage.request.dto.GetRequestCondition;
+import com.soda.project.interfaces.stage.request.dto.RequestDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 목록 조회(RequestReadAssembler 경로)의 SQL 실행 수 고정
+ * 목록 크기와 관계없이 요청 조회 + 링크/파일/승인자 연관 조회 3번이어야 한다. (요청마다 지연 로딩이 생기면 실패)
+ * 실제 MySQL 이 필요하다 (Docker 가 없으면 건너뜀).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "search.keyword.create-indexes=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RequestReadQueryCountTest.JpaSliceConfig.class)
+class RequestReadQueryCountTest {
+
+    private static final int ROOT_COUNT = 12;
+    private static final int ASSOCIATION_QUERIES = 3; // 링크 / 파일 / 승인자
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    // main 의 @EnableMongoRepositories 를 피하려고 SodaApplication 대신 JPA 구성만 올린다
+    @Configuration
+    @EntityScan(basePackageClasses = SodaApplication.class)
+    @EnableJpaRepositories(basePackageClasses = SodaApplication.class)
+    @Import({QueryDslConfig.class, FullTextSearch.class, KeywordSearchProperties.class,
+            RequestService.class, RequestProviderImpl.class, RequestReadAssembler.class,
+            RequestLinkProviderImpl.class, RequestFileProviderImpl.class, ApproverDesignationProviderImpl.class})
+    static class JpaSliceConfig {
+    }
+
+    @MockitoBean
+    private RequestFactory requestFactory; // 조회 경로에서는 쓰지 않음
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Project project;
+    private Stage stage;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(member("writer"));
+        Member approver = em.persist(member("approver"));
+        project = em.persist(Project.builder().title("프로젝트").status(ProjectStatus.IN_PROGRESS).build());
+        stage = em.persist(Stage.builder().name("기획").stageOrder(1f).project(project).build());
+
+        // 루트 요청마다 자식 요청 1개, 링크 2개, 파일 1개, 승인자 2명
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            Request root = em.persist(request(writer, null, "요청 " + i));
+            em.persist(request(writer, root.getId(), "재요청 " + i));
+            em.persist(RequestLink.create("https://soda.test/" + i + "/a", "링크 A", root));
+            em.persist(RequestLink.create("https://soda.test/" + i + "/b", "링크 B", root));
+            em.persist(RequestFile.create("file-" + i + ".pdf", "https://files.soda.test/" + i, root));
+            em.persist(ApproverDesignation.builder().request(root).member(writer).build());
+            em.persist(ApproverDesignation.builder().request(root).member(approver).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("단계별 전체 목록: 요청 조회 1번 + 연관 조회 3번")
+    void findAllByStageId() {
+        List<RequestDTO> requests = countStatements(4, () -> requestService.findAllByStageId(stage.getId()));
+
+        assertThat(requests).hasSize(ROOT_COUNT * 2);
+        RequestDTO root = requests.stream().filter(dto -> dto.getParentId() == -1).findFirst().orElseThrow();
+        assertThat(root.getLinks()).hasSize(2);
+        assertThat(root.getFiles()).hasSize(1);
+        assertThat(root.getApprovers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("루트 단위 페이지: 루트 조회 + count + 자식 조회 + 연관 조회 3번, 페이지 크기와 무관")
+    void findRequestsRootPaged() {
+        GetRequestCondition condition = new GetRequestCondition();
+        condition.setRootPaging(true);
+        int expected = 3 + ASSOCIATION_QUERIES;
+
+        Page<RequestDTO> small = countStatements(expected,
+                () -> requestService.findRequests(project.getId(), condition, PageRequest.of(0, 3)));
+        Page<RequestDTO> large = countStatements(expected,
+                () -> requestService.findRequests(project.getId(), condition, PageRequest.of(0, 10)));
+
+        assertThat(small.getContent()).hasSize(3 * 2);
+        assertThat(large.getContent()).hasSize(10 * 2);
+        assertThat(large.getTotalElements()).isEqualTo(ROOT_COUNT);
+    }
+
+    @Test
+    @DisplayName("커서 기반 목록: 루트 조회 + 자식 조회 + 연관 조회 3번 (count 없음)")
+    void findRequestsSlice() {
+        int expected = 2 + ASSOCIATION_QUERIES;
+
+        var slice = countStatements(expected,
+                () -> requestService.findRequestsSlice(project.getId(), new GetRequestCondition(), null, 5));
+
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getContent()).hasSize(5 * 2);
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 상태에서 실행해 SQL 실행 수를 확인한다 (1차 캐시로 쿼리가 가려지지 않도록)
+     */
+    private <T> T countStatements(long expected, Supplier<T> action) {
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        T result = action.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+
+    private static Member member(String authId) {
+        return Member.builder()
+                .name(authId)
+                .authId(authId)
+                .password("password")
+                .role(MemberRole.USER)
+                .build();
+    }
+
+    private Request request(Member writer, Long parentId, String title) {
+        return Request.builder()
+                .member(writer)
+                .stage(stage)
+                .parentId(parentId)
+                .title(title)
+                .content(title + " 내용")
+                .status(RequestStatus.PENDING)
+                .build();
+    }
+}